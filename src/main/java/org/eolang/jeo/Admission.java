@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Heap-aware admission of translations.
+ *
+ * <p>Translation of a file takes several full in-memory copies of its representation:
+ * Xembly directives, DOM, its string form, the parsed document and the resulting bytes.
+ * So the memory needed for a file is proportional to its size, see
+ * {@link #cost(Path)}. A translation is admitted only while the estimated footprint
+ * of all the translations in flight fits the budget; otherwise, the worker waits
+ * until other translations finish.</p>
+ *
+ * <p>A file that doesn't fit the budget even alone takes the whole budget, so it is
+ * translated serially, when nothing else is in flight.</p>
+ * @since 0.15.0
+ */
+final class Admission {
+
+    /**
+     * Bytes in a permit.
+     */
+    private static final long UNIT = 1024L;
+
+    /**
+     * How many times the memory needed to disassemble a class is bigger than the class.
+     * <p>XMIR is about ten times bigger than the bytecode, and it is held in memory
+     * several times in different forms.</p>
+     */
+    private static final long CLASS_FACTOR = 150L;
+
+    /**
+     * How many times the memory needed to assemble XMIR is bigger than the XMIR file.
+     */
+    private static final long XMIR_FACTOR = 10L;
+
+    /**
+     * Budget in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Free part of the budget, in permits.
+     */
+    private final Semaphore free;
+
+    /**
+     * Constructor with half of the maximum heap as a budget.
+     */
+    Admission() {
+        this(Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * Constructor.
+     * @param budget Budget in bytes
+     */
+    Admission(final long budget) {
+        this.budget = budget;
+        this.free = new Semaphore(Admission.permits(budget), true);
+    }
+
+    /**
+     * Run the translation of the file once it fits the budget.
+     * @param file File to translate
+     * @param task Translation
+     * @param <T> Type of the result
+     * @return Result of the translation
+     */
+    <T> T admit(final Path file, final Supplier<? extends T> task) {
+        final long cost = Admission.cost(file);
+        if (cost > this.budget) {
+            Logger.info(
+                this,
+                String.join(
+                    " ",
+                    "%[file]s needs about %[size]s of memory,",
+                    "which exceeds the budget of %[size]s, it will be processed alone"
+                ),
+                file,
+                cost,
+                this.budget
+            );
+        }
+        final int permits = Math.min(Admission.permits(cost), Admission.permits(this.budget));
+        this.free.acquireUninterruptibly(permits);
+        try {
+            return task.get();
+        } finally {
+            this.free.release(permits);
+        }
+    }
+
+    /**
+     * Estimated memory needed to translate the file.
+     * @param file File to translate
+     * @return Bytes
+     */
+    static long cost(final Path file) {
+        final long factor;
+        if (file.getFileName().toString().endsWith(".class")) {
+            factor = Admission.CLASS_FACTOR;
+        } else {
+            factor = Admission.XMIR_FACTOR;
+        }
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (final IOException exception) {
+            size = 0L;
+        }
+        return size * factor;
+    }
+
+    /**
+     * Number of permits for the given amount of memory.
+     * @param bytes Amount of memory
+     * @return Permits, at least one
+     */
+    private static int permits(final long bytes) {
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, bytes / Admission.UNIT));
+    }
+}
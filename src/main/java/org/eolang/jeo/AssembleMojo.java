@@ -6,6 +6,8 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -89,6 +91,194 @@ public final class AssembleMojo extends AbstractMojo {
     )
     private boolean skipVerification;
 
+    /**
+     * Number of threads used for bytecode verification.
+     * <p>
+     * Generated classes are verified in parallel. By default ({@code 0}), verification
+     * uses the same number of threads as assembling, see {@code threads}.
+     * Set a positive value to override it.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.assemble.verification.threads",
+        defaultValue = "0"
+    )
+    private int verificationThreads;
+
+    /**
+     * File with content hashes of the verified classes.
+     * <p>
+     * Only classes assembled in the current run are verified, and a class whose
+     * content hash is already recorded in this file is not verified again.
+     * Remove the file to verify all the assembled classes from scratch.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.assemble.verification.record",
+        defaultValue = "${project.build.directory}/jeo/verified-classes.txt"
+    )
+    private File verificationRecord;
+
+    /**
+     * Flag to verify subtypes of the changed classes.
+     * <p>
+     * When enabled, classes from the output directory that extend or implement
+     * a class assembled in the current run are verified too, even if they didn't change.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.assemble.verification.dependents",
+        defaultValue = "false"
+    )
+    private boolean verifyDependents;
+
+    /**
+     * Flag to verify each class right after it is assembled.
+     * <p>
+     * When enabled, the bytecode of each class is verified in memory by the same worker
+     * that assembled it, so there is no need to walk the output directory and read all
+     * the class files again. An invalid class is reported as soon as it is produced,
+     * and it is not kept in the output directory. In this mode, the class hierarchy
+     * is taken from the output directory as it was before assembling, and the
+     * {@code verificationRecord} is not used.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.assemble.verification.pipelined",
+        defaultValue = "false"
+    )
+    private boolean pipelinedVerification;
+
+    /**
+     * Number of threads used for assembling.
+     * <p>
+     * Files are processed by a dedicated pool of threads, the largest files first.
+     * By default ({@code 0}), the pool has as many threads as there are available processors.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Memory budget in megabytes.
+     * <p>
+     * A file is processed only while the estimated memory footprint of all the files
+     * in progress fits the budget. The footprint of a file is estimated from its size.
+     * A file that doesn't fit the budget alone is processed when nothing else is in
+     * progress. By default ({@code 0}), the budget is half of the maximum heap.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.memory.budget", defaultValue = "0")
+    private long memoryBudget;
+
+    /**
+     * Minimal number of methods in a class to assemble them in parallel.
+     * <p>
+     * Methods of such a class are converted from XMIR and prepared for writing by several
+     * threads, then written to the class in the original order, so the bytecode is the same
+     * as of the serial assembling. Zero disables parallel assembling of methods.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.assemble.parallelMethods", defaultValue = "1000")
+    private int parallelMethods;
+
+    /**
+     * Pass the classes of unchanged XMIR files through.
+     * <p>
+     * If an XMIR file is not changed since the {@code disassemble} goal and its
+     * original class is still the same, the class is hard-linked or copied to the
+     * output directory instead of being assembled. If the output directory is the
+     * directory of the original classes, such a class is left as it is.
+     * It's disabled by default, so every class goes through the assembler.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.assemble.passthrough", defaultValue = "false")
+    private boolean passthrough;
+
+    /**
+     * Take the code of the unchanged methods from the original classes.
+     * <p>
+     * If XMIR was disassembled with fingerprints of the methods, see the
+     * {@code fingerprints} parameter of the {@code disassemble} goal, and its original
+     * class is still the same, the code of the methods whose fingerprints didn't change
+     * is copied from the original class, together with its constant pool.
+     * Only the changed methods are assembled from XMIR. The original classes are
+     * found in the {@code originals} file.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.assemble.reuseMethods", defaultValue = "false")
+    private boolean reuseMethods;
+
+    /**
+     * File where the {@code disassemble} goal remembers the original classes of
+     * XMIR files.
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.originals",
+        defaultValue = "${project.build.directory}/jeo/original-classes.txt"
+    )
+    private File originals;
+
+    /**
+     * Read all the XMIR from one archive.
+     * <p>
+     * XMIR is read from the 'xmir.zip' archive in the source directory,
+     * written by the 'disassemble' goal with the same setting.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.archive", defaultValue = "false")
+    private boolean archive;
+
+    /**
+     * Incremental cache manifest.
+     * <p>
+     * The file remembers the hash of each XMIR file the class was assembled from,
+     * so the next build assembles only the XMIR files with changed content.
+     * The cache is invalidated if the plugin version or the verification settings change.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.assemble.cache",
+        defaultValue = "${project.build.directory}/jeo/assemble-cache.txt"
+    )
+    private File cache;
+
     /**
      * Flag to enable XMIR verification before assembling.
      * <p>
@@ -132,31 +322,88 @@ public final class AssembleMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException {
-        try {
+        try (PluginStartup startup = new PluginStartup(this.project, this.outputDir.toPath())) {
             if (this.disabled) {
                 Logger.info(this, "Assemble mojo is disabled, skipping");
             } else {
-                if (this.xmirVerification) {
-                    Logger.info(this, "Verifying all the XMIR files before assembling...");
-                    new XmirFiles(this.sourcesDir.toPath()).verify();
-                } else {
-                    Logger.info(this, "XMIR verification before assembling is disabled, skipping");
+                final boolean pipelined = this.pipelinedVerification && !this.skipVerification;
+                final List<Path> assembled;
+                try (XmirArchive archived = new XmirArchive(
+                    this.sourcesDir.toPath(), this.archive
+                )) {
+                    final Path xmirs = archived.root();
+                    if (this.xmirVerification) {
+                        Logger.info(this, "Verifying all the XMIR files before assembling...");
+                        new XmirFiles(xmirs).verify();
+                    } else {
+                        Logger.info(
+                            this, "XMIR verification before assembling is disabled, skipping"
+                        );
+                    }
+                    if (pipelined) {
+                        Logger.info(
+                            this, "Verifying bytecode of each class right after assembling..."
+                        );
+                        startup.init();
+                    }
+                    assembled = this.assembler(xmirs, pipelined).assemble();
                 }
-                new Assembler(
-                    this.sourcesDir.toPath(),
-                    this.outputDir.toPath(),
-                    this.debug
-                ).assemble();
                 if (this.skipVerification) {
                     Logger.info(this, "Bytecode verification is disabled, skipping");
-                } else {
-                    Logger.info(this, "Verifying bytecode of all the generated classes...");
-                    new PluginStartup(this.project, this.outputDir.toPath()).init();
-                    new BytecodeClasses(this.outputDir.toPath()).verify();
+                } else if (!pipelined) {
+                    Logger.info(this, "Verifying bytecode of the assembled classes...");
+                    startup.init();
+                    final IncrementalClasses classes = new IncrementalClasses(
+                        this.outputDir.toPath(),
+                        assembled,
+                        this.verificationRecord.toPath(),
+                        this.verifyDependents
+                    );
+                    classes.remember(
+                        new VerifiedClasses(classes, this.verifiers()).verify()
+                    );
                 }
             }
         } catch (final DependencyResolutionRequiredException exception) {
             throw new MojoExecutionException(exception);
         }
     }
+
+    /**
+     * Assembler of the XMIR files.
+     * @param xmirs Root of the XMIR files
+     * @param pipelined Verify each class right after it is assembled
+     * @return Assembler
+     */
+    private Assembler assembler(final Path xmirs, final boolean pipelined) {
+        return new Assembler(
+            xmirs,
+            this.outputDir.toPath(),
+            new AssemblerOptions(
+                AssemblerOptions.DEBUG, this.debug,
+                AssemblerOptions.VERIFY, pipelined,
+                AssemblerOptions.CACHE, this.cache.toPath(),
+                AssemblerOptions.THREADS, this.threads,
+                AssemblerOptions.BUDGET, this.memoryBudget * 1024L * 1024L,
+                AssemblerOptions.PARALLEL, this.parallelMethods,
+                AssemblerOptions.ORIGINALS, this.originals.toPath(),
+                AssemblerOptions.PASSTHROUGH, this.passthrough,
+                AssemblerOptions.REUSE, this.reuseMethods
+            )
+        );
+    }
+
+    /**
+     * Number of threads used for bytecode verification.
+     * @return Number of threads, or zero to use all available processors
+     */
+    private int verifiers() {
+        final int result;
+        if (this.verificationThreads > 0) {
+            result = this.verificationThreads;
+        } else {
+            result = this.threads;
+        }
+        return result;
+    }
 }
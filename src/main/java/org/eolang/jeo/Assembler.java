@@ -5,9 +5,12 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
+import com.jcabi.manifests.Manifests;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.Counter;
 
@@ -17,6 +20,20 @@ import org.eolang.jeo.representation.Counter;
  * <p>This class is responsible for assembling the project's XMIR (EO XML representation)
  * source files into Java bytecode (.class files). It processes all XMIR files from an
  * input directory and generates corresponding bytecode files in an output directory.</p>
+ *
+ * <p>Optionally, each class is verified right after it is assembled, in the same worker,
+ * see {@link Verifying}.</p>
+ *
+ * <p>Classes are assembled incrementally: an XMIR file is assembled again only if its
+ * content, the plugin version, the verification setting or the reuse of methods has
+ * changed since the class was assembled last time, see {@link Caching}. If the cache
+ * file is given, the cache survives between runs.</p>
+ *
+ * <p>If the file of original classes is given and the passthrough is enabled, the XMIR
+ * files that are not changed since they were disassembled are not assembled at all:
+ * their original classes are passed through, see {@link Passthrough}.</p>
+ *
+ * <p>All the settings are given by {@link AssemblerOptions}.</p>
  * @since 0.2.0
  */
 public final class Assembler {
@@ -32,72 +49,138 @@ public final class Assembler {
     private final Path output;
 
     /**
-     * Enables detailed debug logging.
+     * Options of assembling.
      */
-    private final boolean debug;
+    private final AssemblerOptions options;
 
     /**
      * Constructor.
      * @param input Input folder with "xmir" files.
      * @param output Output folder for the assembled classes.
-     * @param debug Enables detailed debug logging.
+     * @param options Options of assembling.
      */
-    public Assembler(final Path input, final Path output, final boolean debug) {
+    public Assembler(final Path input, final Path output, final AssemblerOptions options) {
         this.input = input;
         this.output = output;
-        this.debug = debug;
+        this.options = options;
     }
 
     /**
      * Assemble all XMIR files.
+     * @return Paths to the assembled class files
+     * @throws IllegalStateException If pipelined verification of some classes failed
      * @since 0.2.0
      */
-    public void assemble() {
+    public List<Path> assemble() {
         final String assembling = "Assembling";
         final String assembled = "assembled";
         final XmirFiles files = new XmirFiles(this.input);
         final Counter counter = new Counter(files.total());
+        final VerificationFailures failures = new VerificationFailures();
+        final CacheManifest manifest = this.manifest();
+        final Originals origins = this.options.originals()
+            .map(Originals::new)
+            .orElseGet(Originals::new);
         final Stream<Path> all = new Summary(
             assembling,
             assembled,
             this.input.toString(),
             this.output,
-            new ParallelTranslator(path -> this.assemble(path, counter))
+            new ParallelTranslator(
+                path -> this.assemble(path, counter, manifest, origins, failures),
+                this.options.threads(),
+                this.options.budget()
+            )
         ).apply(files.all());
-        all.forEach(this::log);
+        final List<Path> result = all.peek(this::log).collect(Collectors.toList());
         all.close();
+        manifest.save();
+        failures.report(result.size());
+        return result;
     }
 
     /**
      * Assemble a single XMIR file.
      * @param path Path to the XMIR file to assemble
      * @param counter File size counter
+     * @param manifest Cache manifest
+     * @param origins Original classes of XMIR
+     * @param failures Where to put verification failures
      * @return Path to the assembled class file
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
-    private Path assemble(final Path path, final Counter counter) {
+    private Path assemble(
+        final Path path,
+        final Counter counter,
+        final CacheManifest manifest,
+        final Originals origins,
+        final VerificationFailures failures
+    ) {
+        final Originals methods;
+        if (this.options.reuse()) {
+            methods = origins;
+        } else {
+            methods = new Originals();
+        }
+        Transformation assembling = new Informative(
+            new Assembling(this.input, this.output, path, this.options.parallel(), methods)
+        );
+        if (this.options.verify()) {
+            assembling = new Verifying(assembling, failures);
+        }
+        Transformation cached = new Caching(assembling, manifest);
+        if (this.options.passthrough()) {
+            cached = new Passthrough(cached, origins);
+        }
         final Transformation trans = new Logging(
             "Assembling",
             "assembled",
-            new Caching(new Informative(new Assembling(this.input, this.output, path))),
-            this.debug,
+            cached,
+            this.options.debug(),
             counter
         );
-        trans.transform();
+        try {
+            trans.transform();
+        } catch (final RejectedClass exception) {
+            Logger.debug(
+                this, "Class %[file]s is not saved since it is invalid", trans.target()
+            );
+        }
         return trans.target();
     }
 
+    /**
+     * Cache manifest for this run.
+     * @return Manifest, keyed by the plugin version, the verification setting and the
+     *  reuse of methods
+     */
+    private CacheManifest manifest() {
+        final String salt = String.format(
+            "jeo=%s@%s, verify=%b, reuse=%b",
+            Manifests.read("JEO-Version"),
+            Manifests.read("JEO-Revision"),
+            this.options.verify(),
+            this.options.reuse()
+        );
+        return this.options.cache()
+            .map(file -> new CacheManifest(file, salt))
+            .orElseGet(() -> new CacheManifest(salt));
+    }
+
     /**
      * Log the result.
      * @param disassembled Path to the assembled file
      */
     private void log(final Path disassembled) {
         try {
-            Logger.debug(
-                this,
-                "Assembling of %[file]s (%[size]s) finished successfully",
-                disassembled,
-                Files.size(disassembled)
-            );
+            if (Files.exists(disassembled)) {
+                Logger.debug(
+                    this,
+                    "Assembling of %[file]s (%[size]s) finished successfully",
+                    disassembled,
+                    Files.size(disassembled)
+                );
+            }
         } catch (final IOException exception) {
             throw new IllegalStateException(
                 String.format("Can't get size of '%s'", disassembled),
@@ -0,0 +1,207 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * Options of the {@link Assembler}.
+ *
+ * <p>Options are given in pairs of a name and a value, like in
+ * {@link org.eolang.jeo.representation.directives.Format}. Absent options
+ * take their default values.</p>
+ * @since 0.15.0
+ */
+@ToString
+public final class AssemblerOptions {
+
+    /**
+     * Enables detailed debug logging.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String DEBUG = "debug";
+
+    /**
+     * Verify each class right after it is assembled.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String VERIFY = "verify";
+
+    /**
+     * Cache manifest file, see {@link CacheManifest}.
+     * Expected to be a {@link Path}, the cache doesn't survive between runs
+     * if it's absent.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String CACHE = "cache";
+
+    /**
+     * Number of threads.
+     * Expected to be an integer value, zero means all available processors.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String THREADS = "threads";
+
+    /**
+     * Memory budget in bytes.
+     * Expected to be a long value, zero means half of the maximum heap.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String BUDGET = "budget";
+
+    /**
+     * Minimal number of methods in a class to assemble them in parallel.
+     * Expected to be an integer value, zero means that methods are always
+     * assembled one by one.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String PARALLEL = "parallel";
+
+    /**
+     * File where the original classes of XMIR are remembered, see {@link Originals}.
+     * Expected to be a {@link Path}, no original classes are known if it's absent.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String ORIGINALS = "originals";
+
+    /**
+     * Pass the original classes of unchanged XMIR through, see {@link Passthrough}.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String PASSTHROUGH = "passthrough";
+
+    /**
+     * Take the code of the unchanged methods from the original classes,
+     * see {@link Assembling}.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String REUSE = "reuse";
+
+    /**
+     * All options.
+     */
+    private final Options options;
+
+    /**
+     * Constructor.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    public AssemblerOptions(final Object... pairs) {
+        this(new Options(AssemblerOptions.defaults(), pairs));
+    }
+
+    /**
+     * Constructor.
+     * @param base Existing options to extend.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    public AssemblerOptions(final AssemblerOptions base, final Object... pairs) {
+        this(new Options(base.options, pairs));
+    }
+
+    /**
+     * Constructor.
+     * @param options All options.
+     */
+    private AssemblerOptions(final Options options) {
+        this.options = options;
+    }
+
+    /**
+     * Enables detailed debug logging.
+     * @return True if debug logging is enabled.
+     */
+    public boolean debug() {
+        return this.options.value(AssemblerOptions.DEBUG, Boolean.class);
+    }
+
+    /**
+     * Verify each class right after it is assembled.
+     * @return True if classes are verified.
+     */
+    public boolean verify() {
+        return this.options.value(AssemblerOptions.VERIFY, Boolean.class);
+    }
+
+    /**
+     * Cache manifest file.
+     * @return File, or empty if the cache doesn't survive between runs.
+     */
+    public Optional<Path> cache() {
+        return this.options.path(AssemblerOptions.CACHE);
+    }
+
+    /**
+     * Number of threads.
+     * @return Number of threads, or zero to use all available processors.
+     */
+    public int threads() {
+        return this.options.value(AssemblerOptions.THREADS, Integer.class);
+    }
+
+    /**
+     * Memory budget.
+     * @return Budget in bytes, or zero to use half of the maximum heap.
+     */
+    public long budget() {
+        return this.options.value(AssemblerOptions.BUDGET, Number.class).longValue();
+    }
+
+    /**
+     * Minimal number of methods in a class to assemble them in parallel.
+     * @return Number of methods, or zero to never do it.
+     */
+    public int parallel() {
+        return this.options.value(AssemblerOptions.PARALLEL, Integer.class);
+    }
+
+    /**
+     * File where the original classes of XMIR are remembered.
+     * @return File, or empty if no original classes are known.
+     */
+    public Optional<Path> originals() {
+        return this.options.path(AssemblerOptions.ORIGINALS);
+    }
+
+    /**
+     * Pass the original classes of unchanged XMIR through.
+     * @return True if they are passed through.
+     */
+    public boolean passthrough() {
+        return this.options.value(AssemblerOptions.PASSTHROUGH, Boolean.class);
+    }
+
+    /**
+     * Take the code of the unchanged methods from the original classes.
+     * @return True if the code is taken from the original classes.
+     */
+    public boolean reuse() {
+        return this.options.value(AssemblerOptions.REUSE, Boolean.class);
+    }
+
+    /**
+     * Default options.
+     * @return Options of a single run without the original classes.
+     */
+    private static Map<String, Object> defaults() {
+        final Map<String, Object> result = new HashMap<>(7);
+        result.put(AssemblerOptions.DEBUG, false);
+        result.put(AssemblerOptions.VERIFY, false);
+        result.put(AssemblerOptions.THREADS, 0);
+        result.put(AssemblerOptions.BUDGET, 0L);
+        result.put(AssemblerOptions.PARALLEL, 0);
+        result.put(AssemblerOptions.PASSTHROUGH, false);
+        result.put(AssemblerOptions.REUSE, false);
+        return result;
+    }
+}
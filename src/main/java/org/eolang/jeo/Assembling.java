@@ -4,10 +4,13 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.regex.Pattern;
-import org.eolang.jeo.representation.XmirRepresentation;
+import org.eolang.jeo.representation.xmir.PulledXmlObject;
 
 /**
  * Assembling transformation.
@@ -15,14 +18,23 @@ import org.eolang.jeo.representation.XmirRepresentation;
  * <p>This class implements the transformation process that converts XMIR
  * representations into Java bytecode. It reads XMIR files and produces
  * corresponding .class files in the specified target directory.</p>
+ *
+ * <p>XMIR is read with a pull parser, see {@link PulledXmlObject}, so the DOM of
+ * the whole file is never built. Methods of a large class are converted and prepared
+ * for writing in parallel, the bytecode is the same as of the serial assembling.</p>
+ *
+ * <p>If the original class of the XMIR is known, see {@link Originals}, the code of the
+ * methods that were not changed since the disassembling is taken from it as it is, and
+ * the constant pool of the original class is kept. Only the changed methods are
+ * assembled from XMIR.</p>
  * @since 0.6.0
  */
 public final class Assembling implements Transformation {
 
     /**
-     * XMIR file extension pattern.
+     * XMIR file extension pattern, plain or compressed.
      */
-    private static final Pattern XMIR = Pattern.compile(".xmir", Pattern.LITERAL);
+    private static final Pattern XMIR = Pattern.compile("\\.xmir(\\.gz)?$");
 
     /**
      * Source folder where all the XMIR representations are located.
@@ -39,6 +51,16 @@ public final class Assembling implements Transformation {
      */
     private final Path xmir;
 
+    /**
+     * Minimal number of methods in a class to assemble them in parallel, zero to never do it.
+     */
+    private final int parallel;
+
+    /**
+     * Original classes to take the code of the unchanged methods from.
+     */
+    private final Originals originals;
+
     /**
      * Constructor.
      * @param source Source folder where all the XMIR representations are located
@@ -46,9 +68,45 @@ public final class Assembling implements Transformation {
      * @param representation Path to the XMIR representation to assemble
      */
     Assembling(final Path source, final Path target, final Path representation) {
+        this(source, target, representation, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param source Source folder where all the XMIR representations are located
+     * @param target Target folder where the assembled class will be saved
+     * @param representation Path to the XMIR representation to assemble
+     * @param parallel Minimal number of methods in a class to assemble them in parallel,
+     *  zero to never do it
+     */
+    Assembling(
+        final Path source, final Path target, final Path representation, final int parallel
+    ) {
+        this(source, target, representation, parallel, new Originals());
+    }
+
+    /**
+     * Constructor.
+     * @param source Source folder where all the XMIR representations are located
+     * @param target Target folder where the assembled class will be saved
+     * @param representation Path to the XMIR representation to assemble
+     * @param parallel Minimal number of methods in a class to assemble them in parallel,
+     *  zero to never do it
+     * @param originals Original classes to take the code of the unchanged methods from
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Assembling(
+        final Path source,
+        final Path target,
+        final Path representation,
+        final int parallel,
+        final Originals originals
+    ) {
         this.from = source;
         this.tgt = target;
         this.xmir = representation;
+        this.parallel = parallel;
+        this.originals = originals;
     }
 
     @Override
@@ -66,6 +124,32 @@ public final class Assembling implements Transformation {
 
     @Override
     public byte[] transform() {
-        return new XmirRepresentation(this.xmir).toBytecode().bytes();
+        final byte[] original = this.original();
+        return new PulledXmlObject(this.xmir, this.parallel, original)
+            .bytecode()
+            .bytecode(this.parallel, original)
+            .bytes();
+    }
+
+    /**
+     * Original class of the XMIR.
+     * @return Content of the original class, or empty if it's unknown or changed
+     */
+    private byte[] original() {
+        final Optional<Path> clazz = this.originals.clazz(this.xmir);
+        try {
+            final byte[] result;
+            if (clazz.isPresent()) {
+                result = Files.readAllBytes(clazz.get());
+            } else {
+                result = new byte[0];
+            }
+            return result;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read the original class '%s'", clazz.get()),
+                exception
+            );
+        }
     }
 }
@@ -21,6 +21,8 @@ import java.util.stream.Stream;
  * verification of bytecode files using ASM's analysis framework. It requires all
  * the classes to be loaded into the current classloader. See {@link PluginStartup#init()}
  * for details on how all generated classes are loaded.</p>
+ *
+ * <p>See {@link VerifiedClasses} for details on how the classes are verified.</p>
  * @since 0.6.0
  */
 final class BytecodeClasses implements Classes {
@@ -72,7 +74,15 @@ final class BytecodeClasses implements Classes {
      * Verify bytecode in the folder.
      */
     void verify() {
-        this.all().forEach(BytecodeClasses::verify);
+        this.verify(0);
+    }
+
+    /**
+     * Verify bytecode in the folder.
+     * @param parallelism Number of threads, or zero to use all available processors
+     */
+    void verify(final int parallelism) {
+        new VerifiedClasses(this, parallelism).verify();
     }
 
     /**
@@ -106,35 +116,4 @@ final class BytecodeClasses implements Classes {
         }
         return result;
     }
-
-    /**
-     * Read bytes of the class file.
-     * @param clazz Path to the class file to read
-     * @return Bytes of the class file
-     */
-    private static byte[] read(final Path clazz) {
-        try {
-            return Files.readAllBytes(clazz);
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't read bytecode from the file '%s'", clazz),
-                exception
-            );
-        }
-    }
-
-    /**
-     * Verify the bytecode of the class file.
-     * @param clazz Path to the class file to verify
-     */
-    private static void verify(final Path clazz) {
-        final byte[] bytes = BytecodeClasses.read(clazz);
-        try {
-            new VerifiedBytecode(bytes).verify();
-        } catch (final IllegalArgumentException exception) {
-            throw new IllegalArgumentException(
-                String.format("Invalid bytecode of class '%s'", clazz), exception
-            );
-        }
-    }
 }
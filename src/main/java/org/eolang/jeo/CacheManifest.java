@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Manifest of the incremental cache.
+ *
+ * <p>The manifest remembers, for each target file, the key of the content it was
+ * produced from and the size of the produced file. The key is a hash of the source
+ * bytes together with a salt, which contains everything else that affects the
+ * result: the plugin version, the output format and so on. So a target is fresh
+ * only if it was produced from exactly the same content with exactly the same
+ * settings, and nobody has removed or truncated it since.</p>
+ *
+ * <p>The manifest also makes sure that the same content is transformed only once
+ * during a run: the first worker claims the key, and all the other workers with the
+ * same content wait for it and copy its target, see {@link #claim(String)}.</p>
+ *
+ * <p>The manifest is read from the file on the first request and written back by
+ * {@link #save()}. If there is no file, the manifest lives only in memory.</p>
+ * @since 0.15.0
+ */
+final class CacheManifest {
+
+    /**
+     * Separator of the manifest columns.
+     */
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * Manifest file, if any.
+     */
+    private final Optional<Path> file;
+
+    /**
+     * Salt of all the keys.
+     */
+    private final String salt;
+
+    /**
+     * Records of the manifest by target.
+     */
+    private final Unchecked<Map<String, Record>> records;
+
+    /**
+     * Targets of the keys transformed during this run.
+     * A future is completed with null if the transformation has failed.
+     */
+    private final Map<String, CompletableFuture<Path>> claimed;
+
+    /**
+     * Constructor of an in-memory manifest.
+     * @param salt Salt of all the keys
+     */
+    CacheManifest(final String salt) {
+        this(Optional.empty(), salt);
+    }
+
+    /**
+     * Constructor.
+     * @param file Manifest file
+     * @param salt Salt of all the keys
+     */
+    CacheManifest(final Path file, final String salt) {
+        this(Optional.of(file), salt);
+    }
+
+    /**
+     * Constructor.
+     * @param file Manifest file, if any
+     * @param salt Salt of all the keys
+     */
+    private CacheManifest(final Optional<Path> file, final String salt) {
+        this.file = file;
+        this.salt = salt;
+        this.records = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> CacheManifest.load(file)))
+        );
+        this.claimed = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Key of the source content.
+     * @param content Source content
+     * @return Key
+     */
+    String key(final byte[] content) {
+        return new ContentHash(this.salt, content).asString();
+    }
+
+    /**
+     * Is the target produced from the content with this key and still intact?
+     * <p>Only the size of the target is checked, the target itself is not read.</p>
+     * @param target Target file
+     * @param key Key of the source content
+     * @return True if the target is fresh
+     */
+    boolean fresh(final Path target, final String key) {
+        final Record record = this.records.value().get(CacheManifest.name(target));
+        boolean result = false;
+        if (record != null && record.key.equals(key) && Files.isRegularFile(target)) {
+            try {
+                result = Files.size(target) == record.size;
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't get size of '%s'", target),
+                    exception
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Claim the key.
+     * <p>If the key is claimed first, the result is empty and the caller has to
+     * transform the content and then {@link #done(String, Path)} or
+     * {@link #failed(String)} the key. Otherwise, the method waits until the first
+     * claimer finishes and returns its target, or empty if the first claimer has failed
+     * and the caller has to transform the content itself.</p>
+     * @param key Key of the source content
+     * @return Target already produced from the same content during this run
+     */
+    Optional<Path> claim(final String key) {
+        final CompletableFuture<Path> mine = new CompletableFuture<>();
+        final CompletableFuture<Path> first = this.claimed.putIfAbsent(key, mine);
+        final Optional<Path> result;
+        if (first == null) {
+            result = Optional.empty();
+        } else {
+            result = Optional.ofNullable(first.join());
+        }
+        return result;
+    }
+
+    /**
+     * The content with the key is transformed to the target.
+     * @param key Key of the source content
+     * @param target Target file
+     */
+    void done(final String key, final Path target) {
+        try {
+            this.records.value().put(
+                CacheManifest.name(target), new Record(key, Files.size(target))
+            );
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't get size of '%s'", target),
+                exception
+            );
+        } finally {
+            this.complete(key, target);
+        }
+    }
+
+    /**
+     * The transformation of the content with the key has failed.
+     * @param key Key of the source content
+     */
+    void failed(final String key) {
+        this.complete(key, null);
+    }
+
+    /**
+     * Save the manifest to the file, if any.
+     */
+    void save() {
+        if (this.file.isPresent()) {
+            final Path path = this.file.get();
+            final List<String> lines = new ArrayList<>(0);
+            new TreeMap<>(this.records.value()).forEach(
+                (target, record) -> lines.add(
+                    String.join(
+                        CacheManifest.SEPARATOR,
+                        record.key,
+                        String.valueOf(record.size),
+                        target
+                    )
+                )
+            );
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, lines, StandardCharsets.UTF_8);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't save the cache manifest to '%s'", path),
+                    exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Complete the claim of the key.
+     * @param key Key of the source content
+     * @param target Target file, or null if the transformation has failed
+     */
+    private void complete(final String key, final Path target) {
+        final CompletableFuture<Path> claim = this.claimed.get(key);
+        if (claim != null) {
+            claim.complete(target);
+        }
+    }
+
+    /**
+     * Name of the target in the manifest.
+     * @param target Target file
+     * @return Normalized absolute path
+     */
+    private static String name(final Path target) {
+        return target.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Load the manifest records.
+     * @param file Manifest file, if any
+     * @return Records by target
+     * @throws IOException If reading fails
+     */
+    private static Map<String, Record> load(final Optional<Path> file) throws IOException {
+        final Map<String, Record> result = new ConcurrentHashMap<>(0);
+        if (file.isPresent() && Files.isRegularFile(file.get())) {
+            for (final String line : Files.readAllLines(file.get(), StandardCharsets.UTF_8)) {
+                final String[] parts = line.split(CacheManifest.SEPARATOR, 3);
+                if (parts.length == 3) {
+                    result.put(parts[2], new Record(parts[0], Long.parseLong(parts[1])));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Record of the manifest.
+     * @since 0.15.0
+     */
+    private static final class Record {
+
+        /**
+         * Key of the source content.
+         */
+        private final String key;
+
+        /**
+         * Size of the target file.
+         */
+        private final long size;
+
+        /**
+         * Constructor.
+         * @param key Key of the source content
+         * @param size Size of the target file
+         */
+        Record(final String key, final long size) {
+            this.key = key;
+            this.size = size;
+        }
+    }
+}
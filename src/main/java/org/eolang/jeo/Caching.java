@@ -8,13 +8,29 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * Cached transformation.
  *
- * <p>This class implements a caching mechanism for transformations. It checks
- * if a transformation has already been performed by comparing file modification
- * times, and skips redundant transformations to improve performance.</p>
+ * <p>This class implements a caching mechanism for transformations. The target is
+ * considered already transformed if the {@link CacheManifest} says it was produced
+ * from the same source content with the same settings, see
+ * {@link CacheManifest#fresh(Path, String)}. Modification times are not taken into
+ * account, so touching or checking out a file doesn't invalidate the cache, while
+ * changing the plugin version or the output format does.</p>
+ *
+ * <p>If several sources have the same content, only the first of them is transformed
+ * and the others just copy its target. If that target is the target of this
+ * transformation itself, or it's removed already, the content is transformed again.</p>
+ *
+ * <p>The result of the transformation is empty if the original transformation was
+ * skipped: the target is not read back from the disk just to be returned.</p>
+ *
+ * <p>If the transformation is reproducible, an existing target with exactly the same
+ * content is not written again, so its modification time stays the same.</p>
  * @since 0.6.0
  */
 public final class Caching implements Transformation {
@@ -24,12 +40,44 @@ public final class Caching implements Transformation {
      */
     private final Transformation origin;
 
+    /**
+     * Cache manifest.
+     */
+    private final CacheManifest manifest;
+
+    /**
+     * Keep the target if it has the same content.
+     */
+    private final boolean keep;
+
     /**
      * Constructor.
      * @param origin Original transformation to cache
      */
     Caching(final Transformation origin) {
+        this(origin, new CacheManifest(""));
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation to cache
+     * @param manifest Cache manifest
+     */
+    Caching(final Transformation origin, final CacheManifest manifest) {
+        this(origin, manifest, false);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation to cache
+     * @param manifest Cache manifest
+     * @param keep Keep the target if it has the same content, it makes sense only
+     *  if the transformation is reproducible
+     */
+    Caching(final Transformation origin, final CacheManifest manifest, final boolean keep) {
         this.origin = origin;
+        this.manifest = manifest;
+        this.keep = keep;
     }
 
     @Override
@@ -60,39 +108,103 @@ public final class Caching implements Transformation {
 
     /**
      * Try to transform the file.
-     * @return The transformed file content as byte array
+     * @return The transformed file content as byte array, or empty if skipped
      * @throws IOException If something goes wrong during transformation
      */
     private byte[] tryTransform() throws IOException {
         final byte[] result;
         final Path target = this.target();
-        if (this.alreadyTransformed()) {
+        final String key = this.manifest.key(Files.readAllBytes(this.source()));
+        if (this.manifest.fresh(target, key)) {
             Logger.info(
                 this,
                 "The file '%s' is already transformed to '%s'. Skipping.",
                 this.source(),
                 target
             );
-            result = Files.readAllBytes(target);
+            result = new byte[0];
         } else {
-            final byte[] transform = this.origin.transform();
-            Files.createDirectories(target.getParent());
-            Files.write(target, transform);
-            result = transform;
+            final Optional<Path> twin = this.manifest.claim(key)
+                .filter(path -> !path.equals(target) && Files.isRegularFile(path));
+            if (twin.isPresent()) {
+                this.copy(twin.get(), key);
+                result = new byte[0];
+            } else {
+                result = this.perform(key);
+            }
         }
         return result;
     }
 
     /**
-     * Check if the file has already been transformed.
-     * @return True if the file has already been transformed, false otherwise
-     * @throws IOException If something goes wrong while checking file status
+     * Perform the original transformation and save the result.
+     * <p>The target is removed before it's written, since it may be a hard link
+     * to the original class, see {@link Passthrough}.</p>
+     * <p>The claim of the key is released in any case, even on an {@link Error},
+     * so the workers waiting for it never hang.</p>
+     * @param key Key of the source content
+     * @return The transformed file content as byte array
+     * @throws IOException If something goes wrong during transformation
+     */
+    private byte[] perform(final String key) throws IOException {
+        final Path target = this.target();
+        boolean success = false;
+        try {
+            final byte[] result = this.origin.transform();
+            if (this.keep && Caching.same(target, result)) {
+                Logger.info(
+                    this,
+                    "The file '%s' is transformed to the same content of '%s'. Keeping.",
+                    this.source(),
+                    target
+                );
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.deleteIfExists(target);
+                Files.write(target, result);
+            }
+            success = true;
+            return result;
+        } finally {
+            if (success) {
+                this.manifest.done(key, target);
+            } else {
+                this.manifest.failed(key);
+            }
+        }
+    }
+
+    /**
+     * Copy the target produced from the same content during this run.
+     * @param twin Target produced from the same content
+     * @param key Key of the source content
+     * @throws IOException If copying fails
      */
-    private boolean alreadyTransformed() throws IOException {
-        final Path source = this.source();
+    private void copy(final Path twin, final String key) throws IOException {
         final Path target = this.target();
-        return Files.exists(target)
-            && Files.exists(source)
-            && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) >= 0;
+        if (!(this.keep && Caching.same(target, Files.readAllBytes(twin)))) {
+            Logger.info(
+                this,
+                "The file '%s' has the same content as the one transformed to '%s'. Copying.",
+                this.source(),
+                twin
+            );
+            Files.createDirectories(target.getParent());
+            Files.copy(twin, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.manifest.done(key, target);
+    }
+
+    /**
+     * Does the target exist and have exactly this content.
+     * @param target Target
+     * @param content Content
+     * @return True if the target may be kept as it is
+     * @throws IOException If reading fails
+     */
+    private static boolean same(final Path target, final byte[] content) throws IOException {
+        return Files.isRegularFile(target)
+            && Files.size(target) == content.length
+            && Arrays.equals(Files.readAllBytes(target), content);
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 hash of a content.
+ * @since 0.15.0
+ */
+final class ContentHash {
+
+    /**
+     * Salt, which is hashed before the content.
+     */
+    private final String salt;
+
+    /**
+     * Content to hash.
+     */
+    private final byte[] content;
+
+    /**
+     * Constructor.
+     * @param content Content to hash
+     */
+    ContentHash(final byte[] content) {
+        this("", content);
+    }
+
+    /**
+     * Constructor.
+     * @param salt Salt, which is hashed before the content
+     * @param content Content to hash
+     */
+    ContentHash(final String salt, final byte[] content) {
+        this.salt = salt;
+        this.content = content.clone();
+    }
+
+    /**
+     * Hex representation of the hash.
+     * @return Hex string
+     */
+    String asString() {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(this.salt.getBytes(StandardCharsets.UTF_8));
+            final byte[] hash = digest.digest(this.content);
+            final StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (final byte part : hash) {
+                hex.append(String.format("%02x", part));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+}
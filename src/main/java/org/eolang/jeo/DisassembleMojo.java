@@ -6,6 +6,7 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Set;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
@@ -15,6 +16,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.cactoos.set.SetOf;
+import org.eolang.jeo.representation.MethodFilter;
 import org.eolang.jeo.representation.directives.Format;
 
 /**
@@ -101,6 +103,8 @@ public final class DisassembleMojo extends AbstractMojo {
      *   <li>{@code short} - Minimal output with bytecode instructions only</li>
      *   <li>{@code debug} - Include debug information such as line numbers, local variables,
      *       and source file references (default)</li>
+     *   <li>{@code signatures} - Only the structure of classes, without the code of methods;
+     *       such XMIR can't be assembled back</li>
      * </ul>
      * </p>
      *
@@ -221,6 +225,199 @@ public final class DisassembleMojo extends AbstractMojo {
     @SuppressWarnings("PMD.ImmutableField")
     private Set<String> excludes = new SetOf<>();
 
+    /**
+     * Set of inclusion patterns for methods whose code is disassembled.
+     * <p>
+     * Patterns look like {@code owner#name+descriptor}, for example
+     * {@code org/eolang/Foo#bar(I)V} or {@code org/eolang/**#get*}. The code of
+     * the other methods is not disassembled: it's kept in XMIR as hex bytes and
+     * copied to the assembled class as it is. By default, the code of all the
+     * methods is disassembled.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods.includes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> methodIncludes = new SetOf<>();
+
+    /**
+     * Set of exclusion patterns for methods whose code is not disassembled.
+     * <p>
+     * See {@link #methodIncludes} for the format of the patterns.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods.excludes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> methodExcludes = new SetOf<>();
+
+    /**
+     * Keep the code of synthetic methods as it is.
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods.skipSynthetic", defaultValue = "false")
+    private boolean skipSynthetic;
+
+    /**
+     * Keep the code of bridge methods as it is.
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods.skipBridges", defaultValue = "false")
+    private boolean skipBridges;
+
+    /**
+     * Keep the code of lambda methods as it is.
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods.skipLambdas", defaultValue = "false")
+    private boolean skipLambdas;
+
+    /**
+     * Add fingerprints of the methods to the metas of XMIR.
+     * <p>
+     * The {@code assemble} goal compares them with the methods it reads, and takes the
+     * code of the unchanged methods from the original class instead of assembling it,
+     * see its {@code reuseMethods} parameter.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.fingerprints", defaultValue = "false")
+    private boolean fingerprints;
+
+    /**
+     * Make XMIR reproducible.
+     * <p>
+     * The same bytecode is always disassembled to the same XMIR: the time of
+     * disassembling is fixed, and the names of labels don't depend on the run.
+     * An XMIR file with the same content is not written again, so its modification
+     * time doesn't change.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.reproducible", defaultValue = "false")
+    private boolean reproducible;
+
+    /**
+     * Compress XMIR files.
+     * <p>
+     * XMIR is streamed through gzip and saved to '.xmir.gz' files, which are
+     * several times smaller than plain ones. The 'assemble' goal and the XMIR
+     * verification read both plain and compressed files.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.compress", defaultValue = "false")
+    private boolean compress;
+
+    /**
+     * Keep all the XMIR in one archive.
+     * <p>
+     * Instead of a file per class, all the XMIR is saved to the 'xmir.zip' archive
+     * in the output directory, which is much faster on the file systems where
+     * creating and opening a file is expensive. The 'assemble' goal must be run
+     * with the same setting.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.archive", defaultValue = "false")
+    private boolean archive;
+
+    /**
+     * Number of threads used for disassembling.
+     * <p>
+     * Files are processed by a dedicated pool of threads, the largest files first.
+     * By default ({@code 0}), the pool has as many threads as there are available processors.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Minimal number of methods in a class to disassemble them in parallel.
+     * <p>
+     * Files are disassembled in parallel anyway, but a single class with thousands
+     * of methods is still disassembled by one thread and may hold up the whole build.
+     * Methods of such a class are converted to XMIR by several threads, and the results
+     * are put together in the original order, so XMIR is the same as of the serial
+     * disassembling. Zero disables parallel disassembling of methods.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.parallelMethods", defaultValue = "1000")
+    private int parallelMethods;
+
+    /**
+     * Memory budget in megabytes.
+     * <p>
+     * A file is processed only while the estimated memory footprint of all the files
+     * in progress fits the budget. The footprint of a file is estimated from its size.
+     * A file that doesn't fit the budget alone is processed when nothing else is in
+     * progress. By default ({@code 0}), the budget is half of the maximum heap.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.memory.budget", defaultValue = "0")
+    private long memoryBudget;
+
+    /**
+     * Incremental cache manifest.
+     * <p>
+     * The file remembers the hash of each class file the XMIR was disassembled from,
+     * so the next build disassembles only the classes with changed content.
+     * The cache is invalidated if the plugin version or any of the format settings change.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.cache",
+        defaultValue = "${project.build.directory}/jeo/disassemble-cache.txt"
+    )
+    private File cache;
+
+    /**
+     * File where the original classes of XMIR files are remembered.
+     * <p>
+     * The file keeps the hash of each XMIR file together with the class file it
+     * was disassembled from. The {@code assemble} goal copies the classes of
+     * unchanged XMIR files instead of assembling them.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.originals",
+        defaultValue = "${project.build.directory}/jeo/original-classes.txt"
+    )
+    private File originals;
+
     /**
      * Enable debug logging for the disassembly process.
      * @since 0.15.0
@@ -231,8 +428,8 @@ public final class DisassembleMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException {
-        try {
-            new PluginStartup(this.project, this.sourcesDir.toPath()).init();
+        try (PluginStartup startup = new PluginStartup(this.project, this.sourcesDir.toPath())) {
+            startup.init();
             if (this.disabled) {
                 Logger.info(this, "Disassemble mojo is disabled, skipping");
             } else {
@@ -247,28 +444,50 @@ public final class DisassembleMojo extends AbstractMojo {
                     this.modifiers,
                     this.prettyXmir
                 );
-                new Disassembler(
-                    new FilteredClasses(
-                        new BytecodeClasses(this.sourcesDir.toPath()),
-                        new GlobFilter(this.includes, this.excludes)
-                    ),
-                    this.outputDir.toPath(),
-                    new Format(
-                        Format.MODIFIERS, this.modifiers,
-                        Format.COMMENTS, comments,
-                        Format.WITH_LISTING, listings,
-                        Format.PRETTY, this.prettyXmir,
-                        Format.MODE, this.mode
-                    ),
-                    this.debug
-                ).disassemble();
-                if (this.xmirVerification) {
-                    Logger.info(this, "Verifying all the XMIR files after disassembling");
-                    new XmirFiles(this.outputDir.toPath()).verify();
-                } else {
-                    Logger.info(
-                        this, "XMIR verification after disassembling is disabled, skipping"
-                    );
+                try (XmirArchive archived = new XmirArchive(
+                    this.outputDir.toPath(), this.archive
+                )) {
+                    final Path xmirs = archived.root();
+                    new Disassembler(
+                        new FilteredClasses(
+                            new BytecodeClasses(this.sourcesDir.toPath()),
+                            new GlobFilter(this.includes, this.excludes)
+                        ),
+                        xmirs,
+                        new Format(
+                            Format.MODIFIERS, this.modifiers,
+                            Format.COMMENTS, comments,
+                            Format.WITH_LISTING, listings,
+                            Format.PRETTY, this.prettyXmir,
+                            Format.MODE, this.mode,
+                            Format.PARALLEL, this.parallelMethods,
+                            Format.FILTER, new MethodFilter(
+                                this.methodIncludes,
+                                this.methodExcludes,
+                                this.skipSynthetic,
+                                this.skipBridges,
+                                this.skipLambdas
+                            ),
+                            Format.FINGERPRINTS, this.fingerprints,
+                            Format.REPRODUCIBLE, this.reproducible,
+                            Format.COMPRESS, this.compress
+                        ),
+                        new DisassemblerOptions(
+                            DisassemblerOptions.DEBUG, this.debug,
+                            DisassemblerOptions.CACHE, this.cache.toPath(),
+                            DisassemblerOptions.THREADS, this.threads,
+                            DisassemblerOptions.BUDGET, this.memoryBudget * 1024L * 1024L,
+                            DisassemblerOptions.ORIGINALS, this.originals.toPath()
+                        )
+                    ).disassemble();
+                    if (this.xmirVerification) {
+                        Logger.info(this, "Verifying all the XMIR files after disassembling");
+                        new XmirFiles(xmirs).verify();
+                    } else {
+                        Logger.info(
+                            this, "XMIR verification after disassembling is disabled, skipping"
+                        );
+                    }
                 }
             }
         } catch (final DependencyResolutionRequiredException exception) {
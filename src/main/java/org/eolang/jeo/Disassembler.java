@@ -5,6 +5,7 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
+import com.jcabi.manifests.Manifests;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -19,6 +20,17 @@ import org.eolang.jeo.representation.directives.Format;
  * XMIR (EO XML representation). It processes all .class files from a specified
  * directory and converts them into corresponding XMIR files, supporting different
  * disassembly modes for various levels of detail.</p>
+ *
+ * <p>Classes are disassembled incrementally: a class is disassembled again only if its
+ * content, the plugin version or the output format has changed since it was
+ * disassembled last time, see {@link Caching}. If the cache file is given, the cache
+ * survives between runs.</p>
+ *
+ * <p>If the file of original classes is given, the class of each XMIR file is
+ * remembered there, so unchanged XMIR is not assembled again, see {@link Originals}.</p>
+ *
+ * <p>All the settings, except the format of XMIR, are given by
+ * {@link DisassemblerOptions}.</p>
  * @since 0.1.0
  */
 public final class Disassembler {
@@ -39,9 +51,9 @@ public final class Disassembler {
     private final Format params;
 
     /**
-     * Enables detailed debug logging.
+     * Options of disassembling.
      */
-    private final boolean debug;
+    private final DisassemblerOptions options;
 
     /**
      * Constructor.
@@ -66,7 +78,7 @@ public final class Disassembler {
         final Path target,
         final Format params
     ) {
-        this(new BytecodeClasses(classes), target, params, false);
+        this(new BytecodeClasses(classes), target, params, new DisassemblerOptions());
     }
 
     /**
@@ -74,19 +86,18 @@ public final class Disassembler {
      * @param classes Project compiled classes
      * @param target Where to save decompiled classes
      * @param params Disassembling params.
-     * @param debug Enables detailed debug logging
-     * @checkstyle ParameterNumberCheck (10 lines)
+     * @param options Options of disassembling
      */
     public Disassembler(
         final Classes classes,
         final Path target,
         final Format params,
-        final boolean debug
+        final DisassemblerOptions options
     ) {
         this.classes = classes;
         this.target = target;
         this.params = params;
-        this.debug = debug;
+        this.options = options;
     }
 
     /**
@@ -96,39 +107,75 @@ public final class Disassembler {
         final String process = "Disassembling";
         final String disassembled = "disassembled";
         final Counter counter = new Counter(this.classes.total());
+        final CacheManifest manifest = this.manifest();
+        final Originals origins = this.options.originals()
+            .map(Originals::new)
+            .orElseGet(Originals::new);
         final Stream<Path> stream = new Summary(
             process,
             disassembled,
             this.classes.toString(),
             this.target,
-            new ParallelTranslator(path -> this.disassemble(path, counter))
+            new ParallelTranslator(
+                path -> this.disassemble(path, counter, manifest, origins),
+                this.options.threads(),
+                this.options.budget()
+            )
         ).apply(this.classes.all());
         stream.forEach(this::log);
         stream.close();
+        manifest.save();
+        origins.save();
     }
 
     /**
      * Disassemble a single bytecode file.
      * @param path Path to the bytecode file to disassemble
      * @param counter File size counter
+     * @param manifest Cache manifest
+     * @param origins Original classes of XMIR
      * @return Path to the disassembled XMIR file
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
-    private Path disassemble(final Path path, final Counter counter) {
+    private Path disassemble(
+        final Path path,
+        final Counter counter,
+        final CacheManifest manifest,
+        final Originals origins
+    ) {
         final Transformation trans = new Logging(
             "Disassembling",
             "disassembled",
             new Caching(
                 new Informative(
                     new Disassembling(this.classes.root(), this.target, path, this.params)
-                )
+                ),
+                manifest,
+                this.params.reproducible()
             ),
-            this.debug,
+            this.options.debug(),
             counter
         );
-        trans.transform();
+        origins.remember(trans.target(), path, trans.transform());
         return trans.target();
     }
 
+    /**
+     * Cache manifest for this run.
+     * @return Manifest, keyed by the plugin version and the output format
+     */
+    private CacheManifest manifest() {
+        final String salt = String.format(
+            "jeo=%s@%s, format=%s",
+            Manifests.read("JEO-Version"),
+            Manifests.read("JEO-Revision"),
+            this.params.salt()
+        );
+        return this.options.cache()
+            .map(file -> new CacheManifest(file, salt))
+            .orElseGet(() -> new CacheManifest(salt));
+    }
+
     /**
      * Log the disassembling process.
      * @param disassembled Path to the disassembled XMIR file
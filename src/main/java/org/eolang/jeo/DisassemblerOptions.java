@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * Options of the {@link Disassembler}.
+ *
+ * <p>Options are given in pairs of a name and a value, like in
+ * {@link org.eolang.jeo.representation.directives.Format}. Absent options
+ * take their default values. The format of XMIR itself is not an option here,
+ * it's given by {@link org.eolang.jeo.representation.directives.Format}.</p>
+ * @since 0.15.0
+ */
+@ToString
+public final class DisassemblerOptions {
+
+    /**
+     * Enables detailed debug logging.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String DEBUG = "debug";
+
+    /**
+     * Cache manifest file, see {@link CacheManifest}.
+     * Expected to be a {@link Path}, the cache doesn't survive between runs
+     * if it's absent.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String CACHE = "cache";
+
+    /**
+     * Number of threads.
+     * Expected to be an integer value, zero means all available processors.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String THREADS = "threads";
+
+    /**
+     * Memory budget in bytes.
+     * Expected to be a long value, zero means half of the maximum heap.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String BUDGET = "budget";
+
+    /**
+     * File where the original classes of XMIR are remembered, see {@link Originals}.
+     * Expected to be a {@link Path}, they aren't remembered if it's absent.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String ORIGINALS = "originals";
+
+    /**
+     * All options.
+     */
+    private final Options options;
+
+    /**
+     * Constructor.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    public DisassemblerOptions(final Object... pairs) {
+        this(new Options(DisassemblerOptions.defaults(), pairs));
+    }
+
+    /**
+     * Constructor.
+     * @param base Existing options to extend.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    public DisassemblerOptions(final DisassemblerOptions base, final Object... pairs) {
+        this(new Options(base.options, pairs));
+    }
+
+    /**
+     * Constructor.
+     * @param options All options.
+     */
+    private DisassemblerOptions(final Options options) {
+        this.options = options;
+    }
+
+    /**
+     * Enables detailed debug logging.
+     * @return True if debug logging is enabled.
+     */
+    public boolean debug() {
+        return this.options.value(DisassemblerOptions.DEBUG, Boolean.class);
+    }
+
+    /**
+     * Cache manifest file.
+     * @return File, or empty if the cache doesn't survive between runs.
+     */
+    public Optional<Path> cache() {
+        return this.options.path(DisassemblerOptions.CACHE);
+    }
+
+    /**
+     * Number of threads.
+     * @return Number of threads, or zero to use all available processors.
+     */
+    public int threads() {
+        return this.options.value(DisassemblerOptions.THREADS, Integer.class);
+    }
+
+    /**
+     * Memory budget.
+     * @return Budget in bytes, or zero to use half of the maximum heap.
+     */
+    public long budget() {
+        return this.options.value(DisassemblerOptions.BUDGET, Number.class).longValue();
+    }
+
+    /**
+     * File where the original classes of XMIR are remembered.
+     * @return File, or empty if they aren't remembered.
+     */
+    public Optional<Path> originals() {
+        return this.options.path(DisassemblerOptions.ORIGINALS);
+    }
+
+    /**
+     * Default options.
+     * @return Options of a single run that remembers nothing.
+     */
+    private static Map<String, Object> defaults() {
+        final Map<String, Object> result = new HashMap<>(3);
+        result.put(DisassemblerOptions.DEBUG, false);
+        result.put(DisassemblerOptions.THREADS, 0);
+        result.put(DisassemblerOptions.BUDGET, 0L);
+        return result;
+    }
+}
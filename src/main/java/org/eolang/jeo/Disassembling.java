@@ -4,10 +4,15 @@
  */
 package org.eolang.jeo;
 
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 import org.eolang.jeo.representation.BytecodeRepresentation;
 import org.eolang.jeo.representation.directives.Format;
+import org.eolang.jeo.representation.xmir.XmirPath;
 
 /**
  * Disassembling transformation.
@@ -15,6 +20,9 @@ import org.eolang.jeo.representation.directives.Format;
  * <p>This class implements the transformation process that converts Java bytecode
  * into XMIR representation. It reads .class files and produces corresponding
  * XMIR files in the specified target directory with configurable detail levels.</p>
+ *
+ * <p>If compression is on, see {@link Format#compress()}, XMIR is streamed through
+ * gzip into a '.xmir.gz' file instead.</p>
  * @since 0.6.0
  */
 public final class Disassembling implements Transformation {
@@ -64,24 +72,67 @@ public final class Disassembling implements Transformation {
         return this.clazz;
     }
 
+    /**
+     * Target XMIR file.
+     * <p>The target folder may be in another file system, for example
+     * in {@link XmirArchive}, so the relative path is resolved as a string.</p>
+     * @return Path to the XMIR file
+     */
     @Override
     public Path target() {
         final Path relative = this.from.relativize(this.clazz);
         final Path parent = relative.getParent();
         final Path address;
         if (parent != null) {
-            address = this.folder.resolve(parent);
+            address = this.folder.resolve(parent.toString());
         } else {
             address = this.folder;
         }
-        return address.resolve(String.format("%s.xmir", this.fileName()));
+        final String extension;
+        if (this.params.compress()) {
+            extension = XmirPath.COMPRESSED;
+        } else {
+            extension = XmirPath.PLAIN;
+        }
+        return address.resolve(String.format("%s%s", this.fileName(), extension));
     }
 
     @Override
     public byte[] transform() {
-        return new BytecodeRepresentation(this.clazz)
-            .toEO(this.params)
-            .getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            if (this.params.compress()) {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                    new BytecodeRepresentation(this.clazz).toEO(this.params, gzip);
+                }
+            } else {
+                new BytecodeRepresentation(this.clazz).toEO(this.params, output);
+            }
+            Files.deleteIfExists(this.twin());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to write XMIR of '%s'", this.clazz),
+                exception
+            );
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * XMIR of the same class written with the other compression.
+     * <p>It's left from a previous run with another compression setting,
+     * it must be removed, otherwise the class would be assembled twice.</p>
+     * @return Path to the plain XMIR if compression is on, to the compressed one otherwise
+     */
+    private Path twin() {
+        final String name = this.target().getFileName().toString();
+        final String other;
+        if (this.params.compress()) {
+            other = name.substring(0, name.length() - ".gz".length());
+        } else {
+            other = String.format("%s.gz", name);
+        }
+        return this.target().resolveSibling(other);
     }
 
     /**
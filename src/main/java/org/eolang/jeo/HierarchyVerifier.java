@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.bytecode.ClassHierarchy;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.analysis.BasicValue;
+import org.objectweb.asm.tree.analysis.SimpleVerifier;
+
+/**
+ * Bytecode verifier that doesn't load classes.
+ *
+ * <p>{@link SimpleVerifier} loads classes to check type assignability, which
+ * requires all the dependencies of the verified class to be on the classpath.
+ * This verifier answers the same questions with {@link ClassHierarchy} that reads only
+ * class headers. Unknown types are considered assignable, so missing optional
+ * dependencies don't fail verification.</p>
+ * @since 0.15.0
+ */
+final class HierarchyVerifier extends SimpleVerifier {
+
+    /**
+     * Internal name of the Object class.
+     */
+    private static final String OBJECT = "java/lang/Object";
+
+    /**
+     * Class hierarchy.
+     */
+    private final ClassHierarchy hierarchy;
+
+    /**
+     * Constructor.
+     * @param clazz Class to verify.
+     */
+    HierarchyVerifier(final ClassNode clazz) {
+        this(clazz, new ClassHierarchy());
+    }
+
+    /**
+     * Constructor.
+     * @param clazz Class to verify.
+     * @param hierarchy Class hierarchy.
+     */
+    HierarchyVerifier(final ClassNode clazz, final ClassHierarchy hierarchy) {
+        super(
+            new DefaultVersion().api(),
+            Type.getObjectType(clazz.name),
+            Optional.ofNullable(clazz.superName).map(Type::getObjectType).orElse(null),
+            clazz.interfaces.stream().map(Type::getObjectType).collect(Collectors.toList()),
+            (clazz.access & Opcodes.ACC_INTERFACE) != 0
+        );
+        this.hierarchy = hierarchy.with(
+            clazz.name, clazz.superName, clazz.interfaces, clazz.access
+        );
+    }
+
+    @Override
+    protected boolean isSubTypeOf(final BasicValue value, final BasicValue expected) {
+        final Type target = expected.getType();
+        final Type type = value.getType();
+        final boolean result;
+        if (HierarchyVerifier.isReference(target) && HierarchyVerifier.isReference(type)) {
+            result = this.isAssignableFrom(target, type) || this.isInterface(target);
+        } else {
+            result = super.isSubTypeOf(value, expected);
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isInterface(final Type type) {
+        return type.getSort() == Type.OBJECT
+            && this.hierarchy.isInterface(type.getInternalName());
+    }
+
+    @Override
+    protected Type getSuperClass(final Type type) {
+        final Type result;
+        if (type.getSort() == Type.ARRAY) {
+            result = Type.getObjectType(HierarchyVerifier.OBJECT);
+        } else {
+            result = this.hierarchy.parent(type.getInternalName())
+                .map(Type::getObjectType)
+                .orElse(null);
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isAssignableFrom(final Type target, final Type source) {
+        final boolean result;
+        if (target.equals(source)) {
+            result = true;
+        } else if (target.getSort() == Type.OBJECT && source.getSort() == Type.OBJECT) {
+            result = this.hierarchy.isAssignable(
+                target.getInternalName(), source.getInternalName()
+            );
+        } else if (target.getSort() == Type.OBJECT && source.getSort() == Type.ARRAY) {
+            result = Arrays.asList(
+                HierarchyVerifier.OBJECT, "java/lang/Cloneable", "java/io/Serializable"
+            ).contains(target.getInternalName());
+        } else if (target.getSort() == Type.ARRAY && source.getSort() == Type.ARRAY) {
+            final Type left = Type.getType(target.getDescriptor().substring(1));
+            final Type right = Type.getType(source.getDescriptor().substring(1));
+            if (HierarchyVerifier.isReference(left) && HierarchyVerifier.isReference(right)) {
+                result = this.isAssignableFrom(left, right);
+            } else {
+                result = left.equals(right);
+            }
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Is it a reference type?
+     * @param type Type.
+     * @return True if it is an object or an array.
+     */
+    private static boolean isReference(final Type type) {
+        return type != null
+            && (type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.objectweb.asm.ClassReader;
+
+/**
+ * Classes that were assembled in the current run and still need verification.
+ *
+ * <p>Only the class files produced by {@link Assembler} are considered, so classes
+ * that never came from XMIR (for example, compiled by other plugins) are not verified.
+ * Content hashes of the verified classes are persisted in a record file, and a class
+ * whose hash is already recorded is never verified again, even across builds.</p>
+ *
+ * <p>Optionally, classes of the output directory whose super classes or interfaces
+ * are going to be verified are verified too, since a change of a supertype might break
+ * its subtypes.</p>
+ * @since 0.15.0
+ */
+final class IncrementalClasses implements Classes {
+
+    /**
+     * Output directory with all the class files.
+     */
+    private final Path output;
+
+    /**
+     * Class files assembled in the current run.
+     */
+    private final Collection<Path> assembled;
+
+    /**
+     * File with content hashes of the verified classes.
+     */
+    private final Path record;
+
+    /**
+     * Should we verify subtypes of the changed classes too?
+     */
+    private final boolean dependents;
+
+    /**
+     * Content hashes of the class files.
+     */
+    private final Map<Path, String> hashes;
+
+    /**
+     * Constructor.
+     * @param output Output directory with all the class files
+     * @param assembled Class files assembled in the current run
+     * @param record File with content hashes of the verified classes
+     * @param dependents Should we verify subtypes of the changed classes too?
+     */
+    IncrementalClasses(
+        final Path output,
+        final Collection<Path> assembled,
+        final Path record,
+        final boolean dependents
+    ) {
+        this.output = output;
+        this.assembled = assembled;
+        this.record = record;
+        this.dependents = dependents;
+        this.hashes = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public long total() {
+        return this.all().count();
+    }
+
+    @Override
+    public Path root() {
+        return this.output;
+    }
+
+    @Override
+    public Stream<Path> all() {
+        final Set<String> verified = this.verified();
+        final Collection<Path> changed = this.assembled.stream()
+            .filter(clazz -> !verified.contains(this.hash(clazz)))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        final Collection<Path> result;
+        if (this.dependents) {
+            result = this.withSubtypes(changed);
+        } else {
+            result = changed;
+        }
+        Logger.info(
+            this,
+            "Found %d classes to verify, %d of %d assembled classes were verified before",
+            result.size(),
+            this.assembled.size() - changed.size(),
+            this.assembled.size()
+        );
+        return result.stream();
+    }
+
+    @Override
+    public String toString() {
+        return this.output.toString();
+    }
+
+    /**
+     * Remember verified classes.
+     * <p>The record keeps hashes of all the assembled classes, since they are either
+     * verified right now or were verified before, and hashes of the other verified
+     * classes. Hashes of the classes that are gone are dropped.</p>
+     * @param verified Verified class files
+     */
+    void remember(final Collection<Path> verified) {
+        final Set<String> all = Stream.concat(this.assembled.stream(), verified.stream())
+            .map(this::hash)
+            .collect(Collectors.toCollection(TreeSet::new));
+        try {
+            Files.createDirectories(this.record.toAbsolutePath().getParent());
+            Files.write(this.record, all, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save verified classes to '%s'", this.record),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Hashes of the classes verified before.
+     * @return Content hashes
+     */
+    private Set<String> verified() {
+        final Set<String> result;
+        if (Files.exists(this.record)) {
+            try {
+                result = new HashSet<>(Files.readAllLines(this.record, StandardCharsets.UTF_8));
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't read verified classes from '%s'", this.record),
+                    exception
+                );
+            }
+        } else {
+            result = Collections.emptySet();
+        }
+        return result;
+    }
+
+    /**
+     * Add all the classes of the output directory that extend or implement
+     * the changed classes, directly or transitively.
+     * @param changed Changed class files
+     * @return Changed class files together with their subtypes
+     */
+    private Collection<Path> withSubtypes(final Collection<Path> changed) {
+        final Set<Path> result = new LinkedHashSet<>(changed);
+        final Set<String> names = changed.stream()
+            .map(clazz -> new ClassReader(IncrementalClasses.read(clazz)).getClassName())
+            .collect(Collectors.toCollection(HashSet::new));
+        final Map<Path, ClassReader> headers = new BytecodeClasses(this.output).all()
+            .filter(clazz -> !result.contains(clazz))
+            .collect(
+                Collectors.toMap(
+                    clazz -> clazz,
+                    clazz -> new ClassReader(IncrementalClasses.read(clazz))
+                )
+            );
+        boolean grown = !names.isEmpty();
+        while (grown) {
+            grown = false;
+            for (final Map.Entry<Path, ClassReader> entry : headers.entrySet()) {
+                final ClassReader header = entry.getValue();
+                if (!result.contains(entry.getKey())
+                    && (names.contains(header.getSuperName())
+                    || Arrays.stream(header.getInterfaces()).anyMatch(names::contains))) {
+                    result.add(entry.getKey());
+                    names.add(header.getClassName());
+                    grown = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Content hash of the class file.
+     * @param clazz Path to the class file
+     * @return Hex SHA-256 hash
+     */
+    private String hash(final Path clazz) {
+        return this.hashes.computeIfAbsent(
+            clazz, path -> new ContentHash(IncrementalClasses.read(path)).asString()
+        );
+    }
+
+    /**
+     * Read bytes of the class file.
+     * @param clazz Path to the class file
+     * @return Bytes of the class file
+     */
+    private static byte[] read(final Path clazz) {
+        try {
+            return Files.readAllBytes(clazz);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read bytecode from the file '%s'", clazz),
+                exception
+            );
+        }
+    }
+}
@@ -4,157 +4,440 @@
  */
 package org.eolang.jeo;
 
-import java.io.File;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.cactoos.bytes.BytesOf;
-import org.cactoos.bytes.UncheckedBytes;
-import org.cactoos.map.MapEntry;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * JEO class loader.
  *
- * <p>This classloader reads classes from specified directories, loads them into memory,
- * and makes them available for class loading operations. This happens before any
- * transformations are applied.</p>
+ * <p>This classloader reads classes from the specified directories and jars and makes
+ * them available for class loading operations. Nothing is read in advance: the bytes
+ * of a class are read only when the class or its resource is requested. A jar is opened,
+ * and its central directory is indexed, on the first request to it.</p>
  *
- * <p>Preloading allows safe class validation. The validator loads "old" classes and
- * uses them for the validation of the "newly" generated classes. Moreover, by using
- * {@link JeoClassLoader}, we can guarantee that the classes loaded before any
- * transformations are correct.</p>
+ * <p>Classes from directories take precedence over the parent class loader, since they are
+ * the classes compiled on the previous Maven phases. Classes from jars are loaded only if
+ * the parent class loader doesn't know them.</p>
+ *
+ * <p>The bytecode of all the classes is also available as resources, so
+ * the class hierarchy can be read from class headers without defining the classes,
+ * see {@link org.eolang.jeo.representation.bytecode.ClassHierarchy}.</p>
+ *
+ * <p>The loader is parallel capable, since it is used from many workers at once.
+ * Close it to release the opened jars.</p>
+ *
+ * <p>The loader serves a single run of a goal, see {@link PluginStartup}: it remembers
+ * which root contains each requested resource, including the resources that none of
+ * the roots contains, so classes that appear in the roots later are not seen by it.
+ * Files on the classpath that are neither directories nor zip archives are skipped.</p>
  *
  * <p>If we use any other {@link ClassLoader} implementation it leads to flaky tests as
  * <a href="https://github.com/objectionary/jeo-maven-plugin/issues/672">issue 672</a> shows.</p>
  * @since 0.6.0
  */
-public final class JeoClassLoader extends ClassLoader {
+public final class JeoClassLoader extends ClassLoader implements Closeable {
 
     /**
      * Class extension.
      */
     private static final String CLASS = ".class";
 
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
     /**
-     * Classes.
+     * Directories and jars with classes.
      */
-    private final Map<String, byte[]> classes;
+    private final List<Root> roots;
 
     /**
-     * Cache.
+     * Root that contains each requested resource, or -1 if none of them does.
+     * <p>Misses are remembered too, since the roots don't change during a run.</p>
      */
-    private final Map<String, Class<?>> cache;
+    private final Map<String, Integer> index;
 
     /**
      * Constructor.
      * @param parent Parent class loader to delegate to
-     * @param classes Collection of file paths containing classes to load
+     * @param classes Collection of directories and jars containing classes to load
      */
     JeoClassLoader(final ClassLoader parent, final Collection<String> classes) {
-        this(parent, JeoClassLoader.prestructor(classes));
+        this(
+            parent,
+            classes.stream()
+                .map(Paths::get)
+                .filter(Files::exists)
+                .map(JeoClassLoader::root)
+                .collect(Collectors.toList())
+        );
     }
 
     /**
      * Constructor.
      * @param parent Parent class loader to delegate to
-     * @param classes Map of class names to their byte arrays
+     * @param roots Directories and jars with classes
      */
-    private JeoClassLoader(final ClassLoader parent, final Map<String, byte[]> classes) {
+    private JeoClassLoader(final ClassLoader parent, final List<Root> roots) {
         super(parent);
-        this.classes = classes;
-        this.cache = new HashMap<>(0);
+        this.roots = roots;
+        this.index = new ConcurrentHashMap<>(0);
     }
 
     @Override
-    public Class<?> loadClass(final String name) throws ClassNotFoundException {
-        try {
-            final Class<?> result;
-            if (this.cache.containsKey(name)) {
-                result = this.cache.get(name);
-            } else if (this.classes.containsKey(name)) {
-                final Class<?> created = this.defineClass(
-                    name, this.classes.get(name), 0, this.classes.get(name).length
+    public InputStream getResourceAsStream(final String name) {
+        return this.bytes(name)
+            .<InputStream>map(ByteArrayInputStream::new)
+            .orElseGet(() -> super.getResourceAsStream(name));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Root root : this.roots) {
+            root.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JeoClassLoader%s", this.roots);
+    }
+
+    @Override
+    protected Class<?> loadClass(
+        final String name, final boolean resolve
+    ) throws ClassNotFoundException {
+        synchronized (this.getClassLoadingLock(name)) {
+            Class<?> result = this.findLoadedClass(name);
+            if (result == null) {
+                final String resource = String.format(
+                    "%s%s", name.replace('.', '/'), JeoClassLoader.CLASS
                 );
-                this.cache.put(name, created);
-                result = created;
-            } else {
-                result = super.loadClass(name);
+                final Optional<byte[]> own = this.owner(resource)
+                    .filter(Root::isDirectory)
+                    .flatMap(root -> root.bytes(resource));
+                if (own.isPresent()) {
+                    result = this.defineClass(name, own.get(), 0, own.get().length);
+                } else {
+                    result = this.fromParentOrJars(name, resource);
+                }
+            }
+            if (resolve) {
+                this.resolveClass(result);
             }
             return result;
+        }
+    }
+
+    /**
+     * Load a class from the parent class loader or, if it fails, from jars.
+     * @param name Binary class name
+     * @param resource Resource name of the class
+     * @return Loaded class
+     * @throws ClassNotFoundException If the class is not found anywhere
+     */
+    private Class<?> fromParentOrJars(
+        final String name, final String resource
+    ) throws ClassNotFoundException {
+        try {
+            return super.loadClass(name, false);
         } catch (final ClassNotFoundException exception) {
-            throw new ClassNotFoundException(
-                String.format(
-                    "Class not found: '%s', known classes: '%s'",
-                    name,
-                    this.classes.keySet()
-                ), exception
+            final byte[] bytes = this.bytes(resource).orElseThrow(
+                () -> new ClassNotFoundException(
+                    String.format("Class not found: '%s', searched in %s", name, this.roots),
+                    exception
+                )
             );
+            return this.defineClass(name, bytes, 0, bytes.length);
         }
     }
 
     /**
-     * Construct a map of classes.
-     * @param classes Collection of file paths containing classes
-     * @return Map of class names to their byte arrays
+     * Read the resource from the first root that contains it.
+     * @param resource Resource name
+     * @return Resource bytes, or empty if none of the roots contains it
      */
-    private static Map<String, byte[]> prestructor(final Collection<String> classes) {
-        return classes.stream()
-            .parallel()
-            .map(Paths::get)
-            .filter(Files::exists)
-            .flatMap(JeoClassLoader::clazzes)
-            .collect(
-                Collectors.toMap(MapEntry::getKey, MapEntry::getValue, (first, second) -> first)
-            );
+    private Optional<byte[]> bytes(final String resource) {
+        return this.owner(resource).flatMap(root -> root.bytes(resource));
     }
 
     /**
-     * Check if the path is a class.
-     * @param path Path to check
-     * @return True if the path is a class file, false otherwise
+     * The first root that contains the resource.
+     * @param resource Resource name
+     * @return Root, or empty if none of the roots contains the resource
      */
-    private static boolean isClass(final Path path) {
-        return Files.isRegularFile(path)
-            && path.getFileName().toString().endsWith(JeoClassLoader.CLASS);
+    private Optional<Root> owner(final String resource) {
+        final int found = this.index.computeIfAbsent(resource, this::lookup);
+        final Optional<Root> result;
+        if (found < 0) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(this.roots.get(found));
+        }
+        return result;
     }
 
     /**
-     * Find classes in the root folder.
-     * @param root Root folder to search for classes
-     * @return Stream of map entries containing class names and their byte arrays
+     * Find the first root that contains the resource.
+     * @param resource Resource name
+     * @return Index of the root, or -1 if none of them contains the resource
      */
-    private static Stream<MapEntry<String, byte[]>> clazzes(final Path root) {
-        try {
-            return Files.walk(root)
-                .filter(JeoClassLoader::isClass)
-                .map(clazz -> JeoClassLoader.entry(root, clazz));
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Failed to walk through the folder '%s'", root),
-                exception
-            );
+    private int lookup(final String resource) {
+        int result = -1;
+        for (int idx = 0; result < 0 && idx < this.roots.size(); ++idx) {
+            if (this.roots.get(idx).contains(resource)) {
+                result = idx;
+            }
         }
+        return result;
     }
 
     /**
-     * Create a class entry.
-     * @param root Root folder for calculating relative paths
-     * @param file File containing the class bytecode
-     * @return Map entry with class name and its byte array
+     * Create a root for a directory or a jar.
+     * @param path Path to a directory or a jar
+     * @return Root
      */
-    private static MapEntry<String, byte[]> entry(final Path root, final Path file) {
-        return new MapEntry<>(
-            root.relativize(file)
-                .toString()
-                .replace(File.separatorChar, '.')
-                .replace(JeoClassLoader.CLASS, ""),
-            new UncheckedBytes(new BytesOf(file.toAbsolutePath())).asBytes()
-        );
+    private static Root root(final Path path) {
+        final Root result;
+        if (Files.isDirectory(path)) {
+            result = new Directory(path);
+        } else {
+            result = new Archive(path);
+        }
+        return result;
+    }
+
+    /**
+     * Read all the bytes from the stream.
+     * @param stream Input stream
+     * @param size Expected size, or a negative number if unknown
+     * @return Bytes
+     * @throws IOException If reading fails
+     */
+    private static byte[] readAll(final InputStream stream, final long size) throws IOException {
+        final byte[] result;
+        if (size >= 0) {
+            result = new byte[(int) size];
+            int offset = 0;
+            while (offset < result.length) {
+                final int read = stream.read(result, offset, result.length - offset);
+                if (read < 0) {
+                    throw new IOException(
+                        String.format("Unexpected end of stream after %d bytes", offset)
+                    );
+                }
+                offset += read;
+            }
+        } else {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read = stream.read(buffer);
+            while (read >= 0) {
+                out.write(buffer, 0, read);
+                read = stream.read(buffer);
+            }
+            result = out.toByteArray();
+        }
+        return result;
+    }
+
+    /**
+     * Directory or jar with classes.
+     * @since 0.15.0
+     */
+    private interface Root extends Closeable {
+
+        /**
+         * Is it a directory?
+         * @return True if it is a directory
+         */
+        boolean isDirectory();
+
+        /**
+         * Does the root contain the resource?
+         * @param resource Resource name
+         * @return True if the resource exists
+         */
+        boolean contains(String resource);
+
+        /**
+         * Read the resource.
+         * @param resource Resource name
+         * @return Resource bytes, or empty if the resource doesn't exist
+         */
+        Optional<byte[]> bytes(String resource);
+    }
+
+    /**
+     * Directory with classes.
+     * @since 0.15.0
+     */
+    private static final class Directory implements Root {
+
+        /**
+         * Directory path.
+         */
+        private final Path path;
+
+        /**
+         * Constructor.
+         * @param path Directory path
+         */
+        Directory(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release.
+        }
+
+        @Override
+        public boolean contains(final String resource) {
+            return Files.isRegularFile(this.path.resolve(resource));
+        }
+
+        @Override
+        public Optional<byte[]> bytes(final String resource) {
+            final Path file = this.path.resolve(resource);
+            final Optional<byte[]> result;
+            if (Files.isRegularFile(file)) {
+                try {
+                    result = Optional.of(Files.readAllBytes(file));
+                } catch (final IOException exception) {
+                    throw new IllegalStateException(
+                        String.format("Failed to read '%s'", file),
+                        exception
+                    );
+                }
+            } else {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return this.path.toString();
+        }
+    }
+
+    /**
+     * Jar with classes.
+     * <p>The jar is opened on the first request. {@link ZipFile} reads only the central
+     * directory of the jar, and entries are inflated on demand. If the file is not
+     * a zip archive, it's considered empty.</p>
+     * @since 0.15.0
+     */
+    private static final class Archive implements Root {
+
+        /**
+         * Jar path.
+         */
+        private final Path path;
+
+        /**
+         * Opened jar, empty if the file is not a zip archive, or null if it's not
+         * opened yet.
+         */
+        private final AtomicReference<Optional<ZipFile>> opened;
+
+        /**
+         * Constructor.
+         * @param path Jar path
+         */
+        Archive(final Path path) {
+            this.path = path;
+            this.opened = new AtomicReference<>();
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            final Optional<ZipFile> jar = this.opened.getAndSet(null);
+            if (jar != null && jar.isPresent()) {
+                jar.get().close();
+            }
+        }
+
+        @Override
+        public boolean contains(final String resource) {
+            return this.zip().map(jar -> jar.getEntry(resource) != null).orElse(false);
+        }
+
+        @Override
+        public Optional<byte[]> bytes(final String resource) {
+            final Optional<ZipFile> opened = this.zip();
+            final Optional<ZipEntry> entry = opened.map(jar -> jar.getEntry(resource));
+            final Optional<byte[]> result;
+            if (entry.isPresent()) {
+                try (InputStream stream = opened.get().getInputStream(entry.get())) {
+                    result = Optional.of(
+                        JeoClassLoader.readAll(stream, entry.get().getSize())
+                    );
+                } catch (final IOException exception) {
+                    throw new IllegalStateException(
+                        String.format("Failed to read '%s' from '%s'", resource, this.path),
+                        exception
+                    );
+                }
+            } else {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return this.path.toString();
+        }
+
+        /**
+         * Open the jar if it's not opened yet.
+         * @return Opened jar, or empty if the file is not a zip archive
+         */
+        private synchronized Optional<ZipFile> zip() {
+            Optional<ZipFile> jar = this.opened.get();
+            if (jar == null) {
+                try {
+                    jar = Optional.of(new ZipFile(this.path.toFile()));
+                } catch (final IOException exception) {
+                    Logger.debug(
+                        this,
+                        "Skipping '%s' on the classpath, it's not a zip archive: %[exception]s",
+                        this.path,
+                        exception
+                    );
+                    jar = Optional.empty();
+                }
+                this.opened.set(jar);
+            }
+            return jar;
+        }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * Named options with typed values.
+ *
+ * <p>Options are given in pairs of a name and a value, like in
+ * {@link org.eolang.jeo.representation.directives.Format}. It's the common part
+ * of {@link AssemblerOptions} and {@link DisassemblerOptions}.</p>
+ * @since 0.15.0
+ */
+@ToString
+final class Options {
+
+    /**
+     * All options.
+     */
+    private final Map<String, Object> all;
+
+    /**
+     * Constructor.
+     * @param defaults Default options.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    Options(final Map<String, Object> defaults, final Object... pairs) {
+        this.all = Options.pairs(new HashMap<>(defaults), pairs);
+    }
+
+    /**
+     * Constructor.
+     * @param base Existing options to extend.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     */
+    Options(final Options base, final Object... pairs) {
+        this(base.all, pairs);
+    }
+
+    /**
+     * Optional path.
+     * @param name Name of the option.
+     * @return Path, or empty if the option is absent.
+     */
+    Optional<Path> path(final String name) {
+        final Optional<Path> result;
+        if (this.all.containsKey(name)) {
+            result = Optional.of(this.value(name, Path.class));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Value of the option.
+     * @param name Name of the option.
+     * @param type Expected type of the value.
+     * @param <T> Type of the value.
+     * @return Value.
+     */
+    <T> T value(final String name, final Class<T> type) {
+        final Object value = this.all.get(name);
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Option '%s' is not a %s: %s", name, type.getSimpleName(), value
+                )
+            );
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Parse pairs of options into a map.
+     * @param map Initial map to populate.
+     * @param pairs Pairs of options, each pair consists of a name and a value.
+     * @return Map of options.
+     */
+    private static Map<String, Object> pairs(
+        final Map<String, Object> map, final Object... pairs
+    ) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                "Options must be in pairs: name and value"
+            );
+        }
+        for (int index = 0; index < pairs.length; index += 2) {
+            if (!(pairs[index] instanceof String)) {
+                throw new IllegalArgumentException(
+                    String.format("Option name '%s' is not a string", pairs[index])
+                );
+            }
+            map.put((String) pairs[index], pairs[index + 1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
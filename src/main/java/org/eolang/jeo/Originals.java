@@ -0,0 +1,255 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Original classes of the disassembled XMIR.
+ *
+ * <p>Disassembling remembers, for each XMIR file, the hash of its content and the
+ * class file it was disassembled from, together with the hash of the class. If the
+ * XMIR is not changed before assembling and the class is still the same, the class
+ * is exactly what the assembling would produce, so it's copied instead of being
+ * assembled, see {@link Passthrough}.</p>
+ *
+ * <p>The records are read from the file on the first request and written back by
+ * {@link #save()}. If there is no file, nothing is remembered.</p>
+ * @since 0.15.0
+ */
+final class Originals {
+
+    /**
+     * Separator of the columns.
+     */
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * File with the records, if any.
+     */
+    private final Optional<Path> file;
+
+    /**
+     * Records by XMIR file.
+     */
+    private final Unchecked<Map<String, Record>> records;
+
+    /**
+     * Constructor of empty originals, nothing is remembered.
+     */
+    Originals() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param file File with the records
+     */
+    Originals(final Path file) {
+        this(Optional.of(file));
+    }
+
+    /**
+     * Constructor.
+     * @param file File with the records, if any
+     */
+    private Originals(final Optional<Path> file) {
+        this.file = file;
+        this.records = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> Originals.load(file)))
+        );
+    }
+
+    /**
+     * Remember the class the XMIR was disassembled from.
+     * @param xmir XMIR file
+     * @param clazz Original class file
+     * @param content Content of the XMIR file, or empty if it wasn't produced
+     *  during this run and has to be read from the disk
+     */
+    void remember(final Path xmir, final Path clazz, final byte[] content) {
+        if (this.file.isPresent()) {
+            final String name = Originals.name(xmir);
+            final Map<String, Record> all = this.records.value();
+            if (content.length > 0 || !all.containsKey(name)) {
+                all.put(
+                    name,
+                    new Record(
+                        Originals.hash(xmir, content),
+                        Originals.hash(clazz, new byte[0]),
+                        Originals.name(clazz)
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Original class of the unchanged XMIR.
+     * @param xmir XMIR file
+     * @return Original class, or empty if either the XMIR or the class has changed
+     *  since the disassembling
+     */
+    Optional<Path> original(final Path xmir) {
+        final Record record = this.records.value().get(Originals.name(xmir));
+        Optional<Path> result = Optional.empty();
+        if (record != null
+            && Files.isRegularFile(xmir)
+            && record.xmir.equals(Originals.hash(xmir, new byte[0]))) {
+            result = this.clazz(xmir);
+        }
+        return result;
+    }
+
+    /**
+     * Original class of the XMIR, changed or not.
+     * <p>Methods of the XMIR that were not changed since the disassembling can take
+     * their code from this class, see {@link Assembling}.</p>
+     * @param xmir XMIR file
+     * @return Original class, or empty if the class has changed since the disassembling
+     */
+    Optional<Path> clazz(final Path xmir) {
+        final Record record = this.records.value().get(Originals.name(xmir));
+        Optional<Path> result = Optional.empty();
+        if (record != null) {
+            final Path clazz = Paths.get(record.clazz);
+            if (Files.isRegularFile(clazz)
+                && record.bytecode.equals(Originals.hash(clazz, new byte[0]))) {
+                result = Optional.of(clazz);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Save the records to the file, if any.
+     */
+    void save() {
+        if (this.file.isPresent()) {
+            final Path path = this.file.get();
+            final List<String> lines = new ArrayList<>(0);
+            new TreeMap<>(this.records.value()).forEach(
+                (xmir, record) -> lines.add(
+                    String.join(
+                        Originals.SEPARATOR,
+                        record.xmir,
+                        record.bytecode,
+                        record.clazz,
+                        xmir
+                    )
+                )
+            );
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, lines, StandardCharsets.UTF_8);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't save the original classes to '%s'", path),
+                    exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Hash of the file content.
+     * @param path File
+     * @param content Content of the file, or empty to read it from the disk
+     * @return Hash
+     */
+    private static String hash(final Path path, final byte[] content) {
+        try {
+            final byte[] bytes;
+            if (content.length > 0) {
+                bytes = content;
+            } else {
+                bytes = Files.readAllBytes(path);
+            }
+            return new ContentHash(bytes).asString();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read '%s' to compute its hash", path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Name of the file in the records.
+     * @param path File
+     * @return Normalized absolute path
+     */
+    private static String name(final Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Load the records.
+     * @param file File with the records, if any
+     * @return Records by XMIR file
+     * @throws IOException If reading fails
+     */
+    private static Map<String, Record> load(final Optional<Path> file) throws IOException {
+        final Map<String, Record> result = new ConcurrentHashMap<>(0);
+        if (file.isPresent() && Files.isRegularFile(file.get())) {
+            for (final String line : Files.readAllLines(file.get(), StandardCharsets.UTF_8)) {
+                final String[] parts = line.split(Originals.SEPARATOR, 4);
+                if (parts.length == 4) {
+                    result.put(parts[3], new Record(parts[0], parts[1], parts[2]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Record of the original class.
+     * @since 0.15.0
+     */
+    private static final class Record {
+
+        /**
+         * Hash of the XMIR content.
+         */
+        private final String xmir;
+
+        /**
+         * Hash of the class content.
+         */
+        private final String bytecode;
+
+        /**
+         * Original class file.
+         */
+        private final String clazz;
+
+        /**
+         * Constructor.
+         * @param xmir Hash of the XMIR content
+         * @param bytecode Hash of the class content
+         * @param clazz Original class file
+         */
+        Record(final String xmir, final String bytecode, final String clazz) {
+            this.xmir = xmir;
+            this.bytecode = bytecode;
+            this.clazz = clazz;
+        }
+    }
+}
@@ -4,8 +4,22 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -14,6 +28,19 @@ import java.util.stream.Stream;
  * <p>This class implements parallel processing of transformations to improve performance.
  * It ensures that each parallel thread has the correct class loader context to avoid
  * class loading issues during concurrent execution.</p>
+ *
+ * <p>The batch is processed by a dedicated pool of worker threads, so it doesn't compete
+ * for the common fork-join pool with other plugins running in the same JVM. By default,
+ * the pool has as many threads as there are available processors.</p>
+ *
+ * <p>The largest files are scheduled first. Otherwise, a single huge class that happens
+ * to be the last one in the directory would be translated alone, while all the other
+ * workers are idle. The results keep the order of the representations, though.
+ * When the batch is done, the utilisation of each worker is reported,
+ * see {@link Utilisation}.</p>
+ *
+ * <p>A worker starts a translation only when its estimated memory footprint fits
+ * the memory budget, see {@link Admission}.</p>
  * @since 0.2.0
  */
 public final class ParallelTranslator implements Translator {
@@ -28,18 +55,98 @@ public final class ParallelTranslator implements Translator {
      */
     private final ClassLoader loader;
 
+    /**
+     * Number of threads, or zero to use all available processors.
+     */
+    private final int parallelism;
+
+    /**
+     * Admission of translations to the memory budget.
+     */
+    private final Admission admission;
+
     /**
      * Constructor.
      * @param translation Function to apply to each path representation
      */
     ParallelTranslator(final Function<? super Path, ? extends Path> translation) {
+        this(translation, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param translation Function to apply to each path representation
+     * @param parallelism Number of threads, or zero to use all available processors
+     */
+    ParallelTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final int parallelism
+    ) {
+        this(translation, parallelism, 0L);
+    }
+
+    /**
+     * Constructor.
+     * @param translation Function to apply to each path representation
+     * @param parallelism Number of threads, or zero to use all available processors
+     * @param budget Memory budget in bytes, or zero to use half of the maximum heap
+     */
+    ParallelTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final int parallelism,
+        final long budget
+    ) {
+        this(translation, parallelism, ParallelTranslator.admission(budget));
+    }
+
+    /**
+     * Constructor.
+     * @param translation Function to apply to each path representation
+     * @param parallelism Number of threads, or zero to use all available processors
+     * @param admission Admission of translations to the memory budget
+     */
+    private ParallelTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final int parallelism,
+        final Admission admission
+    ) {
         this.translation = translation;
         this.loader = Thread.currentThread().getContextClassLoader();
+        this.parallelism = parallelism;
+        this.admission = admission;
     }
 
     @Override
     public Stream<Path> apply(final Stream<Path> representations) {
-        return representations.parallel().map(this::translate);
+        final List<Path> all = representations.collect(Collectors.toList());
+        final Utilisation utilisation = new Utilisation();
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            this.threads(), new Workers(this.loader)
+        );
+        final List<Path> result = new ArrayList<>(all.size());
+        try {
+            final List<Future<Path>> futures = new ArrayList<>(
+                Collections.nCopies(all.size(), null)
+            );
+            for (final int idx : ParallelTranslator.largestFirst(all)) {
+                final Path rep = all.get(idx);
+                futures.set(
+                    idx,
+                    pool.submit(
+                        () -> this.admission.admit(
+                            rep, () -> utilisation.measure(() -> this.translate(rep))
+                        )
+                    )
+                );
+            }
+            for (final Future<Path> future : futures) {
+                result.add(ParallelTranslator.result(future));
+            }
+        } finally {
+            pool.shutdownNow();
+            utilisation.report(this);
+        }
+        return result.stream();
     }
 
     /**
@@ -54,4 +161,120 @@ public final class ParallelTranslator implements Translator {
         return this.translation.apply(rep);
     }
 
+    /**
+     * Number of worker threads.
+     * @return Number of threads
+     */
+    private int threads() {
+        final int result;
+        if (this.parallelism > 0) {
+            result = this.parallelism;
+        } else {
+            result = Runtime.getRuntime().availableProcessors();
+        }
+        return result;
+    }
+
+    /**
+     * Admission with the given budget.
+     * @param budget Memory budget in bytes, or zero to use half of the maximum heap
+     * @return Admission
+     */
+    private static Admission admission(final long budget) {
+        final Admission result;
+        if (budget > 0) {
+            result = new Admission(budget);
+        } else {
+            result = new Admission();
+        }
+        return result;
+    }
+
+    /**
+     * Indexes of the representations, from the largest file to the smallest one.
+     * <p>The sort is stable, so files of the same size keep their order.</p>
+     * @param all Representations
+     * @return Indexes
+     */
+    private static List<Integer> largestFirst(final List<Path> all) {
+        final long[] sizes = all.stream().mapToLong(ParallelTranslator::size).toArray();
+        return IntStream.range(0, all.size())
+            .boxed()
+            .sorted(Comparator.comparingLong((Integer idx) -> sizes[idx]).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Size of the file.
+     * @param rep Path to the file
+     * @return Size in bytes, or zero if it can't be read
+     */
+    private static long size(final Path rep) {
+        long result;
+        try {
+            result = Files.size(rep);
+        } catch (final IOException exception) {
+            result = 0L;
+        }
+        return result;
+    }
+
+    /**
+     * Wait for the result of the translation.
+     * @param future Translation in progress
+     * @return Translated path representation
+     */
+    private static Path result(final Future<Path> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Translation was interrupted", exception);
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Translation failed", cause);
+        }
+    }
+
+    /**
+     * Factory of the worker threads.
+     * @since 0.15.0
+     */
+    private static final class Workers implements ThreadFactory {
+
+        /**
+         * Number of the created workers.
+         */
+        private final AtomicInteger created;
+
+        /**
+         * Class loader of the workers.
+         */
+        private final ClassLoader loader;
+
+        /**
+         * Constructor.
+         * @param loader Class loader of the workers
+         */
+        Workers(final ClassLoader loader) {
+            this.created = new AtomicInteger();
+            this.loader = loader;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(
+                runnable, String.format("jeo-%d", this.created.incrementAndGet())
+            );
+            thread.setDaemon(true);
+            thread.setContextClassLoader(this.loader);
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Assembling that passes unchanged classes through.
+ *
+ * <p>If the XMIR wasn't changed since it was disassembled and the original class is
+ * still the same, see {@link Originals}, the original class is the target: it's
+ * hard-linked to the target, or copied if the file system doesn't support links.
+ * If the original class is the target itself, nothing is done at all. Otherwise,
+ * the original assembling is performed.</p>
+ *
+ * <p>The result of the transformation is empty if the class is passed through.</p>
+ * @since 0.15.0
+ */
+public final class Passthrough implements Transformation {
+
+    /**
+     * Original transformation.
+     */
+    private final Transformation origin;
+
+    /**
+     * Original classes.
+     */
+    private final Originals originals;
+
+    /**
+     * Constructor.
+     * @param origin Original transformation
+     * @param originals Original classes
+     */
+    Passthrough(final Transformation origin, final Originals originals) {
+        this.origin = origin;
+        this.originals = originals;
+    }
+
+    @Override
+    public Path source() {
+        return this.origin.source();
+    }
+
+    @Override
+    public Path target() {
+        return this.origin.target();
+    }
+
+    @Override
+    public byte[] transform() {
+        final Optional<Path> original = this.originals.original(this.source());
+        final byte[] result;
+        if (original.isPresent()) {
+            this.pass(original.get());
+            result = new byte[0];
+        } else {
+            result = this.origin.transform();
+        }
+        return result;
+    }
+
+    /**
+     * Pass the original class to the target.
+     * @param original Original class
+     */
+    private void pass(final Path original) {
+        final Path target = this.target();
+        try {
+            if (Files.exists(target) && Files.isSameFile(original, target)) {
+                Logger.info(
+                    this, "The file '%s' is not changed, the class is kept", this.source()
+                );
+            } else {
+                Logger.info(
+                    this,
+                    "The file '%s' is not changed, the class '%s' is linked",
+                    this.source(),
+                    original
+                );
+                Files.createDirectories(target.getParent());
+                Files.deleteIfExists(target);
+                Passthrough.link(original, target);
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to pass '%s' through to '%s'", original, target),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Hard-link the file, or copy it if links are not supported.
+     * @param original Original file
+     * @param target Link
+     * @throws IOException If copying fails
+     */
+    private static void link(final Path original, final Path target) throws IOException {
+        try {
+            Files.createLink(target, original);
+        } catch (final IOException | UnsupportedOperationException exception) {
+            Logger.debug(
+                Passthrough.class,
+                "Can't link '%s' to '%s', copying: %s",
+                target,
+                original,
+                exception.getMessage()
+            );
+            Files.copy(original, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
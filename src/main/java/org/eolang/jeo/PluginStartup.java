@@ -5,10 +5,13 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -20,15 +23,28 @@ import org.apache.maven.project.MavenProject;
  * <p>This class is responsible for initializing the classloader for all Maven mojos.
  * It ensures that all necessary classes from the project's runtime, compile, and test
  * classpaths are available during plugin execution.</p>
+ *
+ * <p>Close it when the goal is finished: the previous context class loader of
+ * the thread is restored and the jars opened by {@link JeoClassLoader} are released.</p>
  * @since 0.1.0
  */
-public final class PluginStartup {
+public final class PluginStartup implements Closeable {
 
     /**
      * All the folders with classes.
      */
     private final Collection<String> folders;
 
+    /**
+     * Context class loader of the thread before the initialization.
+     */
+    private final AtomicReference<ClassLoader> previous;
+
+    /**
+     * Class loader set by the initialization, or null if it's not initialized.
+     */
+    private final AtomicReference<JeoClassLoader> loader;
+
     /**
      * Constructor.
      * @param project Maven project containing classpath information
@@ -47,6 +63,8 @@ public final class PluginStartup {
      */
     private PluginStartup(final Collection<String> folders) {
         this.folders = folders;
+        this.previous = new AtomicReference<>();
+        this.loader = new AtomicReference<>();
     }
 
     /**
@@ -70,12 +88,34 @@ public final class PluginStartup {
                 this.folders.stream().collect(Collectors.joining(", ", "[", "]"))
             )
         );
-        Thread.currentThread().setContextClassLoader(
-            new JeoClassLoader(
-                Thread.currentThread().getContextClassLoader(),
-                this.folders
-            )
+        final Thread thread = Thread.currentThread();
+        final JeoClassLoader created = new JeoClassLoader(
+            thread.getContextClassLoader(),
+            this.folders
         );
+        this.previous.set(thread.getContextClassLoader());
+        this.loader.set(created);
+        thread.setContextClassLoader(created);
+    }
+
+    /**
+     * Restore the previous class loader and release the jars.
+     * <p>Does nothing if the startup is not initialized.</p>
+     */
+    @Override
+    public void close() {
+        final JeoClassLoader created = this.loader.getAndSet(null);
+        if (created != null) {
+            Thread.currentThread().setContextClassLoader(this.previous.getAndSet(null));
+            try {
+                created.close();
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Failed to close the class loader %s", created),
+                    exception
+                );
+            }
+        }
     }
 
     /**
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+
+/**
+ * Class rejected by the bytecode verification.
+ * <p>The failure itself is already reported to {@link VerificationFailures},
+ * this exception only stops the class from being saved and cached.</p>
+ * @since 0.15.0
+ */
+final class RejectedClass extends IllegalStateException {
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     * @param clazz Rejected class file
+     * @param cause Verification failure
+     */
+    RejectedClass(final Path clazz, final RuntimeException cause) {
+        super(String.format("Class '%s' is rejected by the verification", clazz), cause);
+    }
+}
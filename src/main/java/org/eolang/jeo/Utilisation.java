@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Utilisation of the worker threads.
+ *
+ * <p>Each task is measured on the thread that runs it, and at the end of the run
+ * the busy time of each worker is reported relative to the wall-clock time of the
+ * whole run. A worker with low utilisation spent most of the run waiting for work,
+ * which usually means that a few big files were scheduled too late.</p>
+ * @since 0.15.0
+ */
+final class Utilisation {
+
+    /**
+     * Busy time in nanoseconds by worker name.
+     */
+    private final Map<String, AtomicLong> busy;
+
+    /**
+     * Number of tasks by worker name.
+     */
+    private final Map<String, AtomicLong> tasks;
+
+    /**
+     * When the run started, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Constructor.
+     */
+    Utilisation() {
+        this.busy = new ConcurrentHashMap<>(0);
+        this.tasks = new ConcurrentHashMap<>(0);
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Run the task and measure it.
+     * @param task Task to run
+     * @param <T> Type of the result
+     * @return Result of the task
+     */
+    <T> T measure(final Supplier<? extends T> task) {
+        final String worker = Thread.currentThread().getName();
+        final long begin = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            this.busy.computeIfAbsent(worker, name -> new AtomicLong())
+                .addAndGet(System.nanoTime() - begin);
+            this.tasks.computeIfAbsent(worker, name -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Report the utilisation of all the workers, if there were any tasks.
+     * @param source Source of the log message
+     */
+    void report(final Object source) {
+        if (!this.busy.isEmpty()) {
+            this.log(source);
+        }
+    }
+
+    /**
+     * Log the utilisation of all the workers.
+     * @param source Source of the log message
+     */
+    private void log(final Object source) {
+        final long wall = Math.max(System.nanoTime() - this.start, 1L);
+        final long total = this.busy.values().stream().mapToLong(AtomicLong::get).sum();
+        Logger.info(
+            source,
+            "%d workers were busy %d%% of %[ms]s on average: %s",
+            this.busy.size(),
+            Utilisation.percent(total / Math.max(this.busy.size(), 1), wall),
+            TimeUnit.NANOSECONDS.toMillis(wall),
+            new TreeMap<>(this.busy).entrySet().stream()
+                .map(
+                    entry -> String.format(
+                        "%s %d%% (%d files)",
+                        entry.getKey(),
+                        Utilisation.percent(entry.getValue().get(), wall),
+                        this.tasks.get(entry.getKey()).get()
+                    )
+                )
+                .collect(Collectors.joining(", "))
+        );
+    }
+
+    /**
+     * Percentage of the part.
+     * @param part Part
+     * @param whole Whole, positive
+     * @return Percentage
+     */
+    private static long percent(final long part, final long whole) {
+        return part * 100 / whole;
+    }
+}
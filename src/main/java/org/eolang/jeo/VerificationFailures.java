@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Bytecode verification failures.
+ *
+ * <p>Failures might be added concurrently from many workers. Each of them is
+ * logged immediately, and all of them are reported together at the end.</p>
+ * @since 0.15.0
+ */
+final class VerificationFailures {
+
+    /**
+     * All the failures.
+     */
+    private final Collection<RuntimeException> all;
+
+    /**
+     * Constructor.
+     */
+    VerificationFailures() {
+        this.all = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Add a failure.
+     * @param clazz Path to the invalid class file
+     * @param cause Verification failure
+     */
+    void add(final Path clazz, final RuntimeException cause) {
+        final IllegalStateException failure = new IllegalStateException(
+            String.format("Invalid bytecode of class '%s'", clazz), cause
+        );
+        Logger.error(this, VerificationFailures.describe(failure));
+        this.all.add(failure);
+    }
+
+    /**
+     * Report all the failures.
+     * @param total Total number of verified classes
+     * @throws IllegalStateException If there is at least one failure
+     */
+    void report(final int total) {
+        if (!this.all.isEmpty()) {
+            final IllegalStateException error = new IllegalStateException(
+                String.format(
+                    "Bytecode verification failed for %d of %d classes:%n%s",
+                    this.all.size(),
+                    total,
+                    this.all.stream()
+                        .map(VerificationFailures::describe)
+                        .sorted()
+                        .collect(Collectors.joining(System.lineSeparator()))
+                )
+            );
+            this.all.forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+
+    /**
+     * Describe the verification failure in a single line.
+     * @param failure Verification failure
+     * @return Failure message with all its causes
+     */
+    private static String describe(final Throwable failure) {
+        final StringBuilder result = new StringBuilder(failure.getMessage());
+        Optional<Throwable> cause = Optional.ofNullable(failure.getCause());
+        while (cause.isPresent()) {
+            result.append(": ").append(cause.get().getMessage());
+            cause = Optional.ofNullable(cause.get().getCause());
+        }
+        return result.toString();
+    }
+}
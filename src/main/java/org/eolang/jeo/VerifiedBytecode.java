@@ -5,21 +5,17 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.analysis.Analyzer;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
-import org.objectweb.asm.tree.analysis.SimpleVerifier;
 import org.objectweb.asm.util.CheckClassAdapter;
 
 /**
  * Verified bytecode.
+ * <p>The class hierarchy required for verification is read from class headers,
+ * see {@link HierarchyVerifier}, so the classes are never loaded.</p>
  * @since 0.15.0
  */
 public final class VerifiedBytecode {
@@ -45,21 +41,9 @@ public final class VerifiedBytecode {
         final ClassNode clazz = new ClassNode();
         new ClassReader(this.code)
             .accept(new CheckClassAdapter(clazz, false), ClassReader.SKIP_DEBUG);
-        final Optional<Type> syper = Optional.ofNullable(clazz.superName)
-            .map(Type::getObjectType);
-        final List<Type> interfaces = clazz.interfaces.stream().map(Type::getObjectType)
-            .collect(Collectors.toList());
         for (final MethodNode method : clazz.methods) {
             try {
-                final SimpleVerifier verifier =
-                    new SimpleVerifier(
-                        Type.getObjectType(clazz.name),
-                        syper.orElse(null),
-                        interfaces,
-                        (clazz.access & Opcodes.ACC_INTERFACE) != 0
-                    );
-                verifier.setClassLoader(Thread.currentThread().getContextClassLoader());
-                new Analyzer<>(verifier).analyze(clazz.name, method);
+                new Analyzer<>(new HierarchyVerifier(clazz)).analyze(clazz.name, method);
             } catch (final ClassFormatError | AnalyzerException exception) {
                 throw new IllegalStateException(
                     String.format(
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Verification of a batch of class files.
+ *
+ * <p>Classes are verified in parallel by {@link ParallelTranslator}. Verification
+ * doesn't stop on the first invalid class: all the failures are collected and
+ * reported together, see {@link VerificationFailures}.</p>
+ * @since 0.15.0
+ */
+final class VerifiedClasses {
+
+    /**
+     * Classes to verify.
+     */
+    private final Classes classes;
+
+    /**
+     * Number of threads, or zero to use all available processors.
+     */
+    private final int parallelism;
+
+    /**
+     * Constructor.
+     * @param classes Classes to verify
+     * @param parallelism Number of threads, or zero to use all available processors
+     */
+    VerifiedClasses(final Classes classes, final int parallelism) {
+        this.classes = classes;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Verify all the classes.
+     * @return Verified class files
+     * @throws IllegalStateException If some classes are invalid
+     */
+    List<Path> verify() {
+        final VerificationFailures failures = new VerificationFailures();
+        final List<Path> verified = new ParallelTranslator(
+            clazz -> VerifiedClasses.verify(clazz, failures),
+            this.parallelism
+        ).apply(this.classes.all()).collect(Collectors.toList());
+        failures.report(verified.size());
+        return verified;
+    }
+
+    /**
+     * Read bytes of the class file.
+     * @param clazz Path to the class file to read
+     * @return Bytes of the class file
+     */
+    private static byte[] read(final Path clazz) {
+        try {
+            return Files.readAllBytes(clazz);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read bytecode from the file '%s'", clazz),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Verify the bytecode of the class file.
+     * @param clazz Path to the class file to verify
+     * @param failures Where to put the verification failure
+     * @return Path to the verified class file
+     */
+    private static Path verify(final Path clazz, final VerificationFailures failures) {
+        try {
+            new VerifiedBytecode(VerifiedClasses.read(clazz)).verify();
+        } catch (final IllegalArgumentException | IllegalStateException exception) {
+            failures.add(clazz, exception);
+        }
+        return clazz;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Verifying transformation.
+ *
+ * <p>This class verifies the bytecode produced by the original transformation
+ * right away, in the same worker, using the bytes that are already in memory.
+ * So we don't need to walk the output directory and read all the class files
+ * again after assembling.</p>
+ *
+ * <p>An invalid class is reported to the {@link VerificationFailures} as soon as it
+ * is produced. Then {@link RejectedClass} is thrown, so the class is neither saved
+ * nor cached, see {@link Caching}, and the class file left by a previous build
+ * is removed.</p>
+ * @since 0.15.0
+ */
+final class Verifying implements Transformation {
+
+    /**
+     * Original transformation.
+     */
+    private final Transformation origin;
+
+    /**
+     * Where to put verification failures.
+     */
+    private final VerificationFailures failures;
+
+    /**
+     * Constructor.
+     * @param origin Original transformation that produces bytecode
+     * @param failures Where to put verification failures
+     */
+    Verifying(final Transformation origin, final VerificationFailures failures) {
+        this.origin = origin;
+        this.failures = failures;
+    }
+
+    @Override
+    public Path source() {
+        return this.origin.source();
+    }
+
+    @Override
+    public Path target() {
+        return this.origin.target();
+    }
+
+    @Override
+    public byte[] transform() {
+        final byte[] result = this.origin.transform();
+        try {
+            new VerifiedBytecode(result).verify();
+        } catch (final IllegalArgumentException | IllegalStateException exception) {
+            this.failures.add(this.target(), exception);
+            this.discard();
+            throw new RejectedClass(this.target(), exception);
+        }
+        return result;
+    }
+
+    /**
+     * Remove the class file left by a previous build.
+     */
+    private void discard() {
+        try {
+            Files.deleteIfExists(this.target());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't remove outdated class file '%s'", this.target()),
+                exception
+            );
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Archive of XMIR files.
+ *
+ * <p>Instead of thousands of small files in the folder, all the XMIR of a run may be
+ * kept in one zip archive in it, named {@link #NAME}. The archive is opened as a zip
+ * file system, so {@link Disassembler}, {@link Assembler} and {@link XmirFiles} work
+ * with the paths inside it just as with the paths of plain files.</p>
+ *
+ * <p>Entries are read by their offsets from the central directory of the archive.
+ * New entries are deflated in memory and the archive with a new central directory
+ * is written once, when it's closed, so concurrent writers don't wait for each other
+ * on the disk and only one file is created, opened and checked per run.</p>
+ *
+ * <p>If the archive is disabled, XMIR files are stored in the folder as they are.</p>
+ * @since 0.15.0
+ */
+final class XmirArchive implements Closeable {
+
+    /**
+     * Name of the archive in the folder.
+     */
+    static final String NAME = "xmir.zip";
+
+    /**
+     * Folder of XMIR files.
+     */
+    private final Path folder;
+
+    /**
+     * Keep XMIR in the archive.
+     */
+    private final boolean enabled;
+
+    /**
+     * File system of the archive, opened on demand.
+     */
+    private final Unchecked<FileSystem> system;
+
+    /**
+     * Constructor.
+     * @param folder Folder of XMIR files
+     * @param enabled Keep XMIR in the archive in the folder
+     */
+    XmirArchive(final Path folder, final boolean enabled) {
+        this.folder = folder;
+        this.enabled = enabled;
+        this.system = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> XmirArchive.open(folder)))
+        );
+    }
+
+    /**
+     * Root of XMIR files.
+     * @return Root of the archive if it's enabled, the folder otherwise
+     */
+    Path root() {
+        final Path result;
+        if (this.enabled) {
+            result = this.system.value().getPath("/");
+        } else {
+            result = this.folder;
+        }
+        return result;
+    }
+
+    /**
+     * Write the archive.
+     * <p>All the entries added since the archive was opened are saved to the disk.</p>
+     */
+    @Override
+    public void close() {
+        if (this.enabled) {
+            try {
+                this.system.value().close();
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Can't write XMIR archive '%s'", this.folder.resolve(XmirArchive.NAME)
+                    ),
+                    exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Open the archive in the folder, create it if it doesn't exist.
+     * @param folder Folder of the archive
+     * @return File system of the archive
+     * @throws IOException If the archive can't be opened
+     */
+    private static FileSystem open(final Path folder) throws IOException {
+        Files.createDirectories(folder);
+        return FileSystems.newFileSystem(
+            URI.create(
+                String.format(
+                    "jar:%s", folder.resolve(XmirArchive.NAME).toAbsolutePath().toUri()
+                )
+            ),
+            Collections.singletonMap("create", "true")
+        );
+    }
+}
@@ -9,12 +9,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.xmir.JcabiXmlDoc;
+import org.eolang.jeo.representation.xmir.XmirPath;
 
 /**
  * XMIR files reader.
  *
  * <p>This class reads all XMIR (EO XML representation) files from a specified folder.
- * It provides functionality to discover and validate XMIR files for processing.</p>
+ * It provides functionality to discover and validate XMIR files for processing.
+ * Both plain '.xmir' and compressed '.xmir.gz' files are found, see {@link XmirPath}.</p>
  * @since 0.1.0
  */
 final class XmirFiles {
@@ -52,7 +54,7 @@ final class XmirFiles {
         if (Files.exists(path)) {
             try (Stream<Path> all = Files.walk(path)) {
                 all.filter(Files::isRegularFile)
-                    .filter(f -> f.getFileName().toString().endsWith(".xmir"))
+                    .filter(f -> new XmirPath(f).isXmir())
                     .forEach(builder::add);
             } catch (final IOException exception) {
                 throw new IllegalStateException(
@@ -4,10 +4,7 @@
  */
 package org.eolang.jeo.representation;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.util.TraceClassVisitor;
+import org.eolang.jeo.representation.asm.AsmClassFile;
 
 /**
  * Pretty-printing utility for Java bytecode.
@@ -39,9 +36,6 @@ public final class BytecodeListing {
 
     @Override
     public String toString() {
-        final ClassReader reader = new ClassReader(this.bytecode);
-        final StringWriter writer = new StringWriter();
-        reader.accept(new TraceClassVisitor(new PrintWriter(writer)), 0);
-        return writer.toString();
+        return new AsmClassFile(this.bytecode, 0, true).listing();
     }
 }
@@ -6,6 +6,9 @@ package org.eolang.jeo.representation;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
 import lombok.ToString;
@@ -15,7 +18,7 @@ import org.cactoos.io.InputOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
-import org.eolang.jeo.representation.asm.AsmProgram;
+import org.eolang.jeo.representation.asm.AsmClassFile;
 import org.eolang.jeo.representation.asm.DisassembleMode;
 import org.eolang.jeo.representation.bytecode.Bytecode;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
@@ -78,9 +81,7 @@ public final class BytecodeRepresentation {
      * @return Fully qualified class name
      */
     public String name() {
-        final ClassNameVisitor name = new ClassNameVisitor();
-        new ClassReader(this.input.value()).accept(name, 0);
-        return name.asString();
+        return new ClassReader(this.input.value()).getClassName();
     }
 
     /**
@@ -106,49 +107,96 @@ public final class BytecodeRepresentation {
      * @return XMIR representation of the bytecode
      */
     public String toEO(final Format format) {
-        final Format fmt;
-        if (format.withListing()) {
-            fmt = new Format(
-                format,
-                Format.LISTING, new BytecodeListing(this.input.value()).toString()
-            );
-        } else {
-            fmt = format;
-        }
-        final BytecodeObject bytecode = new AsmProgram(this.input.value())
-            .bytecode(DisassembleMode.fromString(fmt.mode()).asmOptions());
-        final Iterable<Directive> directives = bytecode
-            .directives(fmt);
+        final Iterable<Directive> directives = this.directives(format);
         try {
-            final XML measured = new MeasuredEo(directives).asXml();
+            final XML measured = new MeasuredEo(directives, format).asXml();
             final String res;
-            if (fmt.pretty()) {
+            if (format.pretty()) {
                 res = new PrettyXml(measured).toString();
             } else {
                 res = measured.toString();
             }
             return res;
         } catch (final IllegalStateException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Something went wrong during transformation %s into XML by using directives %n%s%n",
-                    this.name(),
-                    directives
-                ),
-                exception
-            );
+            throw this.failure(directives, exception);
         } catch (final ImpossibleModificationException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Can't build XML from %s by using directives %s",
-                    Arrays.toString(this.input.value()),
-                    directives
-                ),
-                exception
-            );
+            throw this.impossible(directives, exception);
         }
     }
 
+    /**
+     * Write bytecode in XMIR format to the stream.
+     * <p>The result is the same as {@link #toEO(Format)} returns, encoded in UTF-8.</p>
+     * @param format The disassemble params controlling the level of detail
+     * @param output Where to write XMIR
+     * @throws IOException If writing fails
+     */
+    public void toEO(final Format format, final OutputStream output) throws IOException {
+        output.write(this.toEO(format).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Directives of XMIR.
+     * <p>The class is read only once, for both the program and the listing,
+     * see {@link AsmClassFile}.</p>
+     * @param format The disassemble params
+     * @return Directives
+     */
+    private Iterable<Directive> directives(final Format format) {
+        final AsmClassFile clazz = new AsmClassFile(
+            this.input.value(),
+            DisassembleMode.fromString(format.mode()).asmOptions(),
+            format.withListing(),
+            format.reproducible()
+        );
+        final BytecodeObject bytecode = clazz.bytecode(format.parallel(), format.filter());
+        final Format fmt;
+        if (format.withListing()) {
+            fmt = new Format(format, Format.LISTING, clazz.listing());
+        } else {
+            fmt = format;
+        }
+        return bytecode.directives(fmt);
+    }
+
+    /**
+     * Failure of the XML building.
+     * @param directives Directives used to build XML
+     * @param exception Cause
+     * @return Exception to throw
+     */
+    private IllegalStateException failure(
+        final Iterable<Directive> directives, final IllegalStateException exception
+    ) {
+        return new IllegalStateException(
+            String.format(
+                "Something went wrong during transformation %s into XML by using directives %n%s%n",
+                this.name(),
+                directives
+            ),
+            exception
+        );
+    }
+
+    /**
+     * Failure of the directives application.
+     * @param directives Directives used to build XML
+     * @param exception Cause
+     * @return Exception to throw
+     */
+    private IllegalStateException impossible(
+        final Iterable<Directive> directives, final ImpossibleModificationException exception
+    ) {
+        return new IllegalStateException(
+            String.format(
+                "Can't build XML from %s by using directives %s",
+                Arrays.toString(this.input.value()),
+                directives
+            ),
+            exception
+        );
+    }
+
     /**
      * Prestructor that converts a file to a byte source.
      * @param path The path to the file containing bytecode
@@ -6,6 +6,9 @@ package org.eolang.jeo.representation;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import org.eolang.jeo.representation.directives.Format;
+import org.eolang.jeo.representation.xmir.XmlFingerprints;
+import org.w3c.dom.Document;
 import org.xembly.Directive;
 import org.xembly.Directives;
 import org.xembly.ImpossibleModificationException;
@@ -17,6 +20,10 @@ import org.xembly.Xembler;
  * <p>This class wraps the transformation process and adds timing metadata to the
  * resulting XMIR program. The timing information is embedded in the program's
  * ms attribute.</p>
+ *
+ * <p>Fingerprints of the methods are added to the metas if needed,
+ * see {@link XmlFingerprints}. The time is not measured if the output must be
+ * reproducible, see {@link Format#reproducible()}.</p>
  * @since 0.6.0
  */
 final class MeasuredEo {
@@ -26,12 +33,27 @@ final class MeasuredEo {
      */
     private final Iterable<Directive> directives;
 
+    /**
+     * Format of the output.
+     */
+    private final Format format;
+
     /**
      * Constructor.
      * @param directives Directives to build the EO program from
      */
     MeasuredEo(final Iterable<Directive> directives) {
+        this(directives, new Format());
+    }
+
+    /**
+     * Constructor.
+     * @param directives Directives to build the EO program from
+     * @param format Format of the output
+     */
+    MeasuredEo(final Iterable<Directive> directives, final Format format) {
         this.directives = directives;
+        this.format = format;
     }
 
     /**
@@ -43,12 +65,13 @@ final class MeasuredEo {
         final long start = System.currentTimeMillis();
         final XML doc = new XMLDocument(new Xembler(this.directives).xmlQuietly());
         final long end = System.currentTimeMillis();
-        return new XMLDocument(
-            new Xembler(
-                new Directives()
-                    .xpath("/program[@ms]/@ms")
-                    .set(String.format("%d", end - start))
-            ).apply(doc.inner())
-        );
+        final Directives post = new Directives();
+        if (!this.format.reproducible()) {
+            post.xpath("/program[@ms]/@ms").set(String.format("%d", end - start));
+        }
+        if (this.format.fingerprints()) {
+            post.append(new XmlFingerprints((Document) doc.inner()));
+        }
+        return new XMLDocument(new Xembler(post).apply(doc.inner()));
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Filter of methods whose code is disassembled.
+ *
+ * <p>Patterns look like {@code owner#name+descriptor}, for example
+ * {@code org/eolang/Foo#bar(I)V}. In the owner, {@code *} matches any part of a
+ * package or class name and {@code **} matches zero or more packages; dots may be
+ * used instead of slashes. In the name and the descriptor, {@code *} matches
+ * anything. A pattern without {@code #} matches all the methods of the owner.
+ * Excludes take precedence over includes, and no includes mean all the methods.</p>
+ *
+ * <p>Synthetic methods, bridges and lambdas can be skipped regardless of the
+ * patterns. The code of the skipped methods is kept as it is, see
+ * {@link org.eolang.jeo.representation.bytecode.BytecodeOpaqueCode}.</p>
+ * @since 0.15.0
+ */
+public final class MethodFilter {
+
+    /**
+     * Includes patterns.
+     */
+    private final Set<String> includes;
+
+    /**
+     * Excludes patterns.
+     */
+    private final Set<String> excludes;
+
+    /**
+     * Skip synthetic methods.
+     */
+    private final boolean synthetic;
+
+    /**
+     * Skip bridge methods.
+     */
+    private final boolean bridges;
+
+    /**
+     * Skip lambda methods.
+     */
+    private final boolean lambdas;
+
+    /**
+     * Compiled includes.
+     */
+    private final List<Pattern> whitelist;
+
+    /**
+     * Compiled excludes.
+     */
+    private final List<Pattern> blacklist;
+
+    /**
+     * Constructor.
+     * Filter that selects all the methods.
+     */
+    public MethodFilter() {
+        this(Collections.emptySet(), Collections.emptySet(), false, false, false);
+    }
+
+    /**
+     * Constructor.
+     * @param includes Patterns of methods to include
+     * @param excludes Patterns of methods to exclude
+     * @param synthetic Skip synthetic methods
+     * @param bridges Skip bridge methods
+     * @param lambdas Skip lambda methods
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public MethodFilter(
+        final Set<String> includes,
+        final Set<String> excludes,
+        final boolean synthetic,
+        final boolean bridges,
+        final boolean lambdas
+    ) {
+        this.includes = new TreeSet<>(includes);
+        this.excludes = new TreeSet<>(excludes);
+        this.synthetic = synthetic;
+        this.bridges = bridges;
+        this.lambdas = lambdas;
+        this.whitelist = MethodFilter.compiled(includes);
+        this.blacklist = MethodFilter.compiled(excludes);
+    }
+
+    /**
+     * Is the method selected.
+     * @param owner Internal name of the class, like {@code org/eolang/Foo}
+     * @param access Access flags of the method
+     * @param name Name of the method
+     * @param descriptor Descriptor of the method
+     * @return True if the code of the method is disassembled
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public boolean test(
+        final String owner, final int access, final String name, final String descriptor
+    ) {
+        final boolean result;
+        if (this.skipped(access, name)) {
+            result = false;
+        } else {
+            final String method = String.format("%s#%s%s", owner, name, descriptor);
+            result = this.blacklist.stream().noneMatch(p -> p.matcher(method).matches())
+                && (this.whitelist.isEmpty()
+                || this.whitelist.stream().anyMatch(p -> p.matcher(method).matches()));
+        }
+        return result;
+    }
+
+    /**
+     * All the settings sorted.
+     * <p>Two filters with the same settings have the same string representation,
+     * so it can be used as a part of a cache key.</p>
+     * @return String representation of the filter.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+            "includes=%s, excludes=%s, skip synthetic=%b, skip bridges=%b, skip lambdas=%b",
+            this.includes,
+            this.excludes,
+            this.synthetic,
+            this.bridges,
+            this.lambdas
+        );
+    }
+
+    /**
+     * Is the method skipped because of its kind.
+     * @param access Access flags of the method
+     * @param name Name of the method
+     * @return True if skipped
+     */
+    private boolean skipped(final int access, final String name) {
+        final boolean artificial = (access & Opcodes.ACC_SYNTHETIC) != 0;
+        return this.synthetic && artificial
+            || this.bridges && (access & Opcodes.ACC_BRIDGE) != 0
+            || this.lambdas && artificial && name.startsWith("lambda$");
+    }
+
+    /**
+     * Compile patterns.
+     * @param patterns Glob patterns
+     * @return Regular expressions
+     */
+    private static List<Pattern> compiled(final Set<String> patterns) {
+        return patterns.stream().map(MethodFilter::regex).collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a pattern of methods to a regular expression.
+     * @param glob Pattern, like {@code org/eolang/**#get*}
+     * @return Regular expression
+     */
+    private static Pattern regex(final String glob) {
+        final int hash = glob.indexOf('#');
+        final String owner;
+        final String member;
+        if (hash < 0) {
+            owner = glob;
+            member = "*";
+        } else {
+            owner = glob.substring(0, hash);
+            member = glob.substring(hash + 1);
+        }
+        return Pattern.compile(
+            String.format(
+                "%s#%s",
+                MethodFilter.regex(owner.replace('.', '/'), "[^/]"),
+                MethodFilter.regex(member, ".")
+            )
+        );
+    }
+
+    /**
+     * Convert a glob to a regular expression.
+     * <p>{@code **} matches anything, and {@code **}{@code /} matches zero or more
+     * segments followed by a slash, like in Ant and Maven, so {@code a/**}{@code /B}
+     * matches {@code a/B} too. {@code *} and {@code ?} match any number of
+     * characters or a single character of the given class.</p>
+     * @param glob Glob
+     * @param any Regular expression of any allowed character
+     * @return Regular expression
+     */
+    private static String regex(final String glob, final String any) {
+        final StringBuilder result = new StringBuilder(glob.length() * 2);
+        int index = 0;
+        while (index < glob.length()) {
+            final char current = glob.charAt(index);
+            if (glob.startsWith("**/", index)) {
+                result.append("(?:.*/)?");
+                index += 3;
+            } else if (glob.startsWith("**", index)) {
+                result.append(".*");
+                index += 2;
+            } else {
+                if (current == '*') {
+                    result.append(any).append('*');
+                } else if (current == '?') {
+                    result.append(any);
+                } else {
+                    result.append(Pattern.quote(String.valueOf(current)));
+                }
+                index += 1;
+            }
+        }
+        return result.toString();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.MethodFilter;
 import org.eolang.jeo.representation.bytecode.BytecodeAttribute;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
@@ -17,6 +18,7 @@ import org.eolang.jeo.representation.bytecode.BytecodeField;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.InnerClass;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.ModuleNode;
 
 /**
@@ -35,12 +37,46 @@ public final class AsmClass {
      */
     private final ClassNode node;
 
+    /**
+     * Minimal number of methods to convert them in parallel, zero to never do it.
+     */
+    private final int parallel;
+
+    /**
+     * Filter of methods whose code is converted.
+     */
+    private final MethodFilter filter;
+
     /**
      * Constructor.
      * @param node The ASM class node to parse
      */
     AsmClass(final ClassNode node) {
+        this(node, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param node The ASM class node to parse
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     */
+    AsmClass(final ClassNode node, final int parallel) {
+        this(node, parallel, new MethodFilter());
+    }
+
+    /**
+     * Constructor.
+     * @param node The ASM class node to parse
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     * @param filter Filter of methods whose code is converted, the code of
+     *  other methods is kept as it is
+     */
+    AsmClass(final ClassNode node, final int parallel, final MethodFilter filter) {
         this.node = node;
+        this.parallel = parallel;
+        this.filter = filter;
     }
 
     /**
@@ -78,13 +114,36 @@ public final class AsmClass {
 
     /**
      * Convert ASM methods to domain methods.
+     * <p>Methods of a large class are converted in parallel. Each method is
+     * converted independently of the others and the results are collected
+     * in the original order, so the result is the same as of the serial conversion.</p>
+     * <p>The code of the methods that are not selected by the filter is not
+     * converted, see {@link AsmMethod#opaque(String, int)}.</p>
      * @return The list of domain method representations
      */
     private List<BytecodeMethod> methods() {
-        return this.node.methods.stream()
-            .map(AsmMethod::new)
-            .map(AsmMethod::bytecode)
-            .collect(Collectors.toList());
+        final Stream<MethodNode> methods;
+        if (this.parallel > 0 && this.node.methods.size() >= this.parallel) {
+            methods = this.node.methods.parallelStream();
+        } else {
+            methods = this.node.methods.stream();
+        }
+        return methods.map(this::method).collect(Collectors.toList());
+    }
+
+    /**
+     * Convert ASM method to domain method.
+     * @param method ASM method
+     * @return Domain method
+     */
+    private BytecodeMethod method(final MethodNode method) {
+        final BytecodeMethod result;
+        if (this.filter.test(this.node.name, method.access, method.name, method.desc)) {
+            result = new AsmMethod(method).bytecode();
+        } else {
+            result = new AsmMethod(method).opaque(this.node.name, this.node.version);
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.MethodFilter;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.util.TraceClassVisitor;
+
+/**
+ * Class file read by ASM in a single pass.
+ *
+ * <p>Disassembling of a class needs its tree, its name and, optionally, its listing.
+ * Each of them used to be produced by a separate pass of {@link ClassReader} over the
+ * same bytes. Here the class is read once: the reader feeds the {@link ClassNode}, and,
+ * if the listing is requested, the textifier is put in front of the node, so both
+ * receive the same events. The name is taken from the node. The result is cached,
+ * so the node can be reused by other consumers of the class.</p>
+ *
+ * <p>The listing is printed with the same reader flags as the tree, so it shows
+ * exactly what is disassembled.</p>
+ * @since 0.15.0
+ */
+public final class AsmClassFile {
+
+    /**
+     * Bytecode as plain bytes.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Flags of the class reader.
+     */
+    private final int flags;
+
+    /**
+     * Whether to print the listing.
+     */
+    private final boolean print;
+
+    /**
+     * Whether the names of labels must be reproducible.
+     */
+    private final boolean reproducible;
+
+    /**
+     * Result of the reading.
+     */
+    private final Unchecked<Reading> reading;
+
+    /**
+     * Constructor.
+     * @param bytes Bytecode
+     * @param flags Flags of the class reader
+     */
+    public AsmClassFile(final byte[] bytes, final int flags) {
+        this(bytes, flags, false);
+    }
+
+    /**
+     * Constructor.
+     * @param bytes Bytecode
+     * @param flags Flags of the class reader
+     * @param listing Whether to print the listing
+     */
+    public AsmClassFile(final byte[] bytes, final int flags, final boolean listing) {
+        this(bytes, flags, listing, false);
+    }
+
+    /**
+     * Constructor.
+     * @param bytes Bytecode
+     * @param flags Flags of the class reader
+     * @param listing Whether to print the listing
+     * @param reproducible Whether the names of labels must be the same each time
+     *  the class is read, see {@link ReproducibleClassNode}
+     */
+    public AsmClassFile(
+        final byte[] bytes, final int flags, final boolean listing, final boolean reproducible
+    ) {
+        this.bytes = bytes.clone();
+        this.flags = flags;
+        this.print = listing;
+        this.reproducible = reproducible;
+        this.reading = new Unchecked<>(new Synced<>(new Sticky<>(this::read)));
+    }
+
+    /**
+     * Tree of the class.
+     * @return Class node
+     */
+    public ClassNode node() {
+        return this.reading.value().node;
+    }
+
+    /**
+     * Internal name of the class.
+     * @return Name, like {@code org/eolang/Foo}
+     */
+    public String name() {
+        return this.node().name;
+    }
+
+    /**
+     * Human-readable listing of the class.
+     * @return Listing, or empty string if it wasn't requested
+     */
+    public String listing() {
+        return this.reading.value().listing;
+    }
+
+    /**
+     * Convert to bytecode.
+     * @return Bytecode
+     */
+    public BytecodeObject bytecode() {
+        return this.bytecode(0);
+    }
+
+    /**
+     * Convert to bytecode.
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     * @return Bytecode
+     */
+    public BytecodeObject bytecode(final int parallel) {
+        return this.bytecode(parallel, new MethodFilter());
+    }
+
+    /**
+     * Convert to bytecode.
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     * @param filter Filter of methods whose code is converted, the code of
+     *  other methods is kept as it is
+     * @return Bytecode
+     */
+    public BytecodeObject bytecode(final int parallel, final MethodFilter filter) {
+        final ClassNode node = this.node();
+        return new BytecodeObject(
+            new ClassName(node.name).pckg(),
+            new AsmClass(node, parallel, filter).bytecode()
+        );
+    }
+
+    /**
+     * Read the class.
+     * @return Result of the reading
+     */
+    private Reading read() {
+        final ClassNode node;
+        if (this.reproducible) {
+            node = new ReproducibleClassNode();
+        } else {
+            node = new ClassNode();
+        }
+        final StringWriter listing = new StringWriter();
+        final ClassVisitor visitor;
+        if (this.print) {
+            visitor = new TraceClassVisitor(node, new PrintWriter(listing));
+        } else {
+            visitor = node;
+        }
+        new ClassReader(this.bytes).accept(visitor, AsmUnknownAttributes.prototypes(), this.flags);
+        return new Reading(node, listing.toString());
+    }
+
+    /**
+     * Result of the reading.
+     * @since 0.15.0
+     */
+    private static final class Reading {
+
+        /**
+         * Class node.
+         */
+        private final ClassNode node;
+
+        /**
+         * Listing.
+         */
+        private final String listing;
+
+        /**
+         * Constructor.
+         * @param node Class node
+         * @param listing Listing
+         */
+        Reading(final ClassNode node, final String listing) {
+            this.node = node;
+            this.listing = listing;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.bytecode.BytecodeAnnotations;
 import org.eolang.jeo.representation.bytecode.BytecodeAttribute;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
 import org.eolang.jeo.representation.bytecode.BytecodeDefaultValue;
@@ -16,8 +18,11 @@ import org.eolang.jeo.representation.bytecode.BytecodeEntry;
 import org.eolang.jeo.representation.bytecode.BytecodeMaxs;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeOpaqueCode;
 import org.eolang.jeo.representation.bytecode.BytecodeTryCatchBlock;
 import org.eolang.jeo.representation.bytecode.LocalVariable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.tree.MethodNode;
 
@@ -49,21 +54,94 @@ final class AsmMethod {
         return new BytecodeMethod(
             this.tryblocks(),
             this.instructions(),
-            new AsmAnnotations(this.node).bytecode(),
-            new BytecodeMethodProperties(
-                this.node.access,
-                this.node.name,
-                this.node.desc,
-                this.node.signature,
-                new AsmMethodParameters(this.node).bytecode(),
-                this.node.exceptions.toArray(new String[0])
-            ),
+            this.annotations(),
+            this.properties(),
             this.defvalue(),
             this.maxs(),
             this.attributes()
         );
     }
 
+    /**
+     * Convert asm method to domain method without converting its code.
+     * <p>The code, together with try-catch blocks, local variables, frames and
+     * maxs, is kept as it is, see {@link BytecodeOpaqueCode}. Methods without
+     * code are converted as usual.</p>
+     * @param owner Internal name of the class of the method.
+     * @param version Version of the class file.
+     * @return Domain method.
+     */
+    BytecodeMethod opaque(final String owner, final int version) {
+        final BytecodeMethod result;
+        if (this.node.instructions.size() == 0) {
+            result = this.bytecode();
+        } else {
+            result = new BytecodeMethod(
+                new ArrayList<>(0),
+                new ArrayList<>(0),
+                this.annotations(),
+                this.properties(),
+                this.defvalue(),
+                this.maxs(),
+                new BytecodeAttributes(new AsmUnknownAttributes(this.node).bytecode()),
+                new BytecodeOpaqueCode(this.code(owner, version))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Class file with the code of this method only.
+     * @param owner Internal name of the class of the method.
+     * @param version Version of the class file.
+     * @return Bytes of the class file.
+     */
+    private byte[] code(final String owner, final int version) {
+        final MethodNode code = new MethodNode(
+            new DefaultVersion().api(),
+            this.node.access,
+            this.node.name,
+            this.node.desc,
+            null,
+            null
+        );
+        code.instructions = this.node.instructions;
+        code.tryCatchBlocks = this.node.tryCatchBlocks;
+        code.localVariables = this.node.localVariables;
+        code.visibleLocalVariableAnnotations = this.node.visibleLocalVariableAnnotations;
+        code.invisibleLocalVariableAnnotations = this.node.invisibleLocalVariableAnnotations;
+        code.maxStack = this.node.maxStack;
+        code.maxLocals = this.node.maxLocals;
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(version, Opcodes.ACC_PUBLIC, owner, null, "java/lang/Object", null);
+        code.accept(writer);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Convert asm method to domain method annotations.
+     * @return Domain method annotations.
+     */
+    private BytecodeAnnotations annotations() {
+        return new AsmAnnotations(this.node).bytecode();
+    }
+
+    /**
+     * Convert asm method to domain method properties.
+     * @return Domain method properties.
+     */
+    private BytecodeMethodProperties properties() {
+        return new BytecodeMethodProperties(
+            this.node.access,
+            this.node.name,
+            this.node.desc,
+            this.node.signature,
+            new AsmMethodParameters(this.node).bytecode(),
+            this.node.exceptions.toArray(new String[0])
+        );
+    }
+
     /**
      * Convert asm method to domain method attributes.
      * @return Domain method attributes.
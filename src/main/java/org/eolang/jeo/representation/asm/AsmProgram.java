@@ -4,10 +4,8 @@
  */
 package org.eolang.jeo.representation.asm;
 
-import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
 import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.tree.ClassNode;
 
 /**
  * ASM bytecode parser.
@@ -48,11 +46,6 @@ public final class AsmProgram {
      * @return Bytecode.
      */
     public BytecodeObject bytecode(final int flags) {
-        final ClassNode node = new ClassNode();
-        new ClassReader(this.bytes).accept(node, AsmUnknownAttributes.prototypes(), flags);
-        return new BytecodeObject(
-            new ClassName(node.name).pckg(),
-            new AsmClass(node).bytecode()
-        );
+        return new AsmClassFile(this.bytes, flags).bytecode();
     }
 }
@@ -22,7 +22,12 @@ public enum DisassembleMode {
     /**
      * Debug mode - disassemble bytecode with full debug information.
      */
-    DEBUG;
+    DEBUG,
+    /**
+     * Signatures mode - disassemble only the structure of the class, without method code.
+     * Such XMIR can't be assembled back.
+     */
+    SIGNATURES;
 
     /**
      * Unknown mode message.
@@ -44,6 +49,9 @@ public enum DisassembleMode {
             case "debug":
                 result = DisassembleMode.DEBUG;
                 break;
+            case "signatures":
+                result = DisassembleMode.SIGNATURES;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, mode));
         }
@@ -63,9 +71,20 @@ public enum DisassembleMode {
             case DEBUG:
                 result = 0;
                 break;
+            case SIGNATURES:
+                result = ClassReader.SKIP_CODE;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, this));
         }
         return result;
     }
+
+    /**
+     * Can XMIR disassembled in this mode be assembled back.
+     * @return True if the XMIR contains everything to assemble the class
+     */
+    public boolean assemblable() {
+        return this != DisassembleMode.SIGNATURES;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Class node with reproducible names of labels.
+ *
+ * <p>Labels are named after their {@link Label#toString()}, which is made of the
+ * identity hash code of the label, so they are different each time the class is read.
+ * Here the labels of each method are numbered in the order the class reader
+ * meets them instead, so the same bytecode always gives the same names.</p>
+ * @since 0.15.0
+ */
+final class ReproducibleClassNode extends ClassNode {
+
+    /**
+     * Constructor.
+     */
+    ReproducibleClassNode() {
+        super(new DefaultVersion().api());
+    }
+
+    @Override
+    public MethodVisitor visitMethod(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final String[] exceptions
+    ) {
+        final MethodNode method = new NumberedMethod(
+            access, name, descriptor, signature, exceptions
+        );
+        this.methods.add(method);
+        return method;
+    }
+
+    /**
+     * Method node with numbered labels.
+     * @since 0.15.0
+     */
+    private static final class NumberedMethod extends MethodNode {
+
+        /**
+         * Number of the next label.
+         */
+        private final AtomicInteger next;
+
+        /**
+         * Constructor.
+         * @param access Access flags
+         * @param name Name
+         * @param descriptor Descriptor
+         * @param signature Signature
+         * @param exceptions Exceptions
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        NumberedMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            super(new DefaultVersion().api(), access, name, descriptor, signature, exceptions);
+            this.next = new AtomicInteger(0);
+        }
+
+        @Override
+        protected LabelNode getLabelNode(final Label label) {
+            if (!(label.info instanceof LabelNode)) {
+                label.info = new LabelNode(new NumberedLabel(this.next.getAndIncrement()));
+            }
+            return (LabelNode) label.info;
+        }
+    }
+
+    /**
+     * Label named after its number.
+     * @since 0.15.0
+     */
+    private static final class NumberedLabel extends Label {
+
+        /**
+         * Number of the label in the method.
+         */
+        private final int number;
+
+        /**
+         * Constructor.
+         * @param number Number of the label in the method
+         */
+        NumberedLabel(final int number) {
+            super();
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("L%d", this.number);
+        }
+    }
+}
@@ -61,6 +61,19 @@ public final class BytecodeAttributes {
         );
     }
 
+    /**
+     * Unknown attributes only.
+     * <p>Other attributes of a method, like local variables, are a part of its code.</p>
+     * @return Attributes.
+     */
+    public BytecodeAttributes unknown() {
+        return new BytecodeAttributes(
+            this.all.stream()
+                .filter(BytecodeUnknownAttribute.class::isInstance)
+                .collect(Collectors.toList())
+        );
+    }
+
     /**
      * Write to class.
      * @param clazz Bytecode where to write.
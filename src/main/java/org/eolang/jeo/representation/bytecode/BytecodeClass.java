@@ -6,12 +6,19 @@ package org.eolang.jeo.representation.bytecode;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.directives.DirectivesClass;
+import org.eolang.jeo.representation.directives.DirectivesMethod;
 import org.eolang.jeo.representation.directives.Format;
 import org.objectweb.asm.Opcodes;
 
@@ -294,9 +301,7 @@ public final class BytecodeClass {
             this.name,
             this.props.directives(format),
             this.fields.stream().map(f -> f.directives(format)).collect(Collectors.toList()),
-            this.cmethods.stream()
-                .map(method -> method.directives(this.mnumber(method), format))
-                .collect(Collectors.toList()),
+            this.methods(format),
             this.annotations.directives(format),
             this.attributes.directives(format, "attributes")
         );
@@ -307,6 +312,16 @@ public final class BytecodeClass {
      * @param visitor Writer.
      */
     void writeTo(final CustomClassWriter visitor) {
+        this.writeTo(visitor, 0);
+    }
+
+    /**
+     * Write the class.
+     * @param visitor Writer.
+     * @param parallel Minimal number of methods to prepare them in parallel,
+     *  zero to never do it.
+     */
+    void writeTo(final CustomClassWriter visitor, final int parallel) {
         try {
             visitor.visit(
                 this.props.version(),
@@ -318,7 +333,7 @@ public final class BytecodeClass {
             );
             this.annotations.write(visitor);
             this.fields.forEach(field -> field.write(visitor));
-            this.cmethods.forEach(method -> method.write(visitor));
+            this.writeMethods(visitor, parallel);
             this.attributes.write(visitor);
             visitor.visitEnd();
         } catch (final IllegalArgumentException exception) {
@@ -337,6 +352,53 @@ public final class BytecodeClass {
         }
     }
 
+    /**
+     * Write methods.
+     * <p>Methods of a large class are recorded in parallel, each one
+     * independently of the others, see {@link BytecodeMethod#recorded()}.
+     * Then the records are written to the class writer in the original order,
+     * so the bytecode is the same as of the serial writing.</p>
+     * <p>Methods copied from the original class are copied all at once, in the
+     * order of the original class, in place of the first of them, see
+     * {@link CustomClassWriter#copy(Set)}.</p>
+     * @param visitor Writer.
+     * @param parallel Minimal number of methods to record them in parallel,
+     *  zero to never do it.
+     */
+    private void writeMethods(final CustomClassWriter visitor, final int parallel) {
+        final Set<String> copied = this.cmethods.stream()
+            .map(BytecodeMethod::original)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        final List<BytecodeMethod> written = this.cmethods.stream()
+            .filter(method -> !method.original().isPresent())
+            .collect(Collectors.toList());
+        final boolean concurrently = parallel > 0 && written.size() >= parallel;
+        final Iterator<RecordedMethod> recorded;
+        if (concurrently) {
+            recorded = written.parallelStream()
+                .map(BytecodeMethod::recorded)
+                .collect(Collectors.toList())
+                .iterator();
+        } else {
+            recorded = Collections.emptyIterator();
+        }
+        boolean pending = !copied.isEmpty();
+        for (final BytecodeMethod method : this.cmethods) {
+            if (method.original().isPresent()) {
+                if (pending) {
+                    visitor.copy(copied);
+                    pending = false;
+                }
+            } else if (concurrently) {
+                method.write(visitor, recorded.next());
+            } else {
+                method.write(visitor);
+            }
+        }
+    }
+
     /**
      * Supername.
      * <p>
@@ -355,15 +417,21 @@ public final class BytecodeClass {
     }
 
     /**
-     * Method number.
-     * @param method Method.
-     * @return Method number.
+     * Directives of methods.
+     * <p>Overloaded methods are numbered in the order they appear in the class,
+     * starting from one. The numbers are counted in a single pass over the methods.</p>
+     * @param format Format of the directives.
+     * @return Directives of methods.
      */
-    private int mnumber(final BytecodeMethod method) {
-        return this.methods().stream()
-            .filter(m -> m.name().equals(method.name()))
-            .collect(Collectors.toList())
-            .indexOf(method) + 1;
+    private List<DirectivesMethod> methods(final Format format) {
+        final Map<String, Integer> overloads = new HashMap<>(this.cmethods.size());
+        final List<DirectivesMethod> result = new ArrayList<>(this.cmethods.size());
+        for (final BytecodeMethod method : this.cmethods) {
+            result.add(
+                method.directives(overloads.merge(method.name(), 1, Integer::sum), format)
+            );
+        }
+        return result;
     }
 
     /**
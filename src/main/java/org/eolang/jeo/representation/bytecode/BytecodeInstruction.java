@@ -103,224 +103,14 @@ public final class BytecodeInstruction implements BytecodeEntry {
     /**
      * Impact of each instruction on the stack.
      * @return Stack impact.
-     * @checkstyle CyclomaticComplexityCheck (350 lines)
-     * @checkstyle MethodLengthCheck (350 lines)
-     * @checkstyle JavaNCSSCheck (350 lines)
-     * @checkstyle AvoidNestedBlocksCheck (350 lines)
      */
-    @SuppressWarnings({"PMD.NcssCount", "PMD.ExcessiveMethodLength"})
     public int impact() {
+        final Metadata meta = Metadata.of(this.opcode);
         final int result;
-        final Instruction instruction = Instruction.find(this.opcode);
-        switch (instruction) {
-            case LASTORE:
-            case DASTORE:
-                result = -4;
-                break;
-            case IASTORE:
-            case FASTORE:
-            case AASTORE:
-            case BASTORE:
-            case CASTORE:
-            case SASTORE:
-            case LCMP:
-            case DCMPL:
-            case DCMPG:
-                result = -3;
-                break;
-            case LSTORE:
-            case DSTORE:
-            case POP2:
-            case LADD:
-            case LSUB:
-            case LMUL:
-            case LDIV:
-            case LREM:
-            case DADD:
-            case DSUB:
-            case DMUL:
-            case DDIV:
-            case DREM:
-            case IF_ICMPEQ:
-            case IF_ICMPNE:
-            case IF_ICMPLT:
-            case IF_ICMPGE:
-            case IF_ICMPGT:
-            case IF_ICMPLE:
-            case IF_ACMPEQ:
-            case IF_ACMPNE:
-            case LOR:
-            case LAND:
-            case LXOR:
-            case LRETURN:
-            case DRETURN:
-                result = -2;
-                break;
-            case IALOAD:
-            case FALOAD:
-            case AALOAD:
-            case BALOAD:
-            case CALOAD:
-            case SALOAD:
-            case IADD:
-            case ISUB:
-            case IMUL:
-            case IDIV:
-            case IREM:
-            case FADD:
-            case FSUB:
-            case FMUL:
-            case FDIV:
-            case FREM:
-            case LSHL:
-            case LSHR:
-            case LUSHR:
-            case POP:
-            case FCMPL:
-            case FCMPG:
-            case L2I:
-            case L2F:
-            case D2I:
-            case D2F:
-            case ISTORE:
-            case FSTORE:
-            case ASTORE:
-            case IFEQ:
-            case IFNE:
-            case IFLT:
-            case IFGE:
-            case IFGT:
-            case IFLE:
-            case IFNULL:
-            case IFNONNULL:
-            case IOR:
-            case IAND:
-            case IXOR:
-            case ISHL:
-            case ISHR:
-            case IUSHR:
-            case IRETURN:
-            case FRETURN:
-            case ARETURN:
-            case MONITORENTER:
-            case MONITOREXIT:
-            case TABLESWITCH:
-            case LOOKUPSWITCH:
-            case ATHROW:
-                result = -1;
-                break;
-            case NOP:
-            case SWAP:
-            case I2F:
-            case F2I:
-            case I2B:
-            case I2C:
-            case I2S:
-            case L2D:
-            case D2L:
-            case LALOAD:
-            case DALOAD:
-            case DNEG:
-            case FNEG:
-            case LNEG:
-            case INEG:
-            case GOTO:
-            case JSR:
-            case RET:
-            case RETURN:
-            case IINC:
-            case NEWARRAY:
-            case ANEWARRAY:
-            case ARRAYLENGTH:
-            case CHECKCAST:
-            case INSTANCEOF:
-                result = 0;
-                break;
-            case ACONST_NULL:
-            case ICONST_M1:
-            case ICONST_0:
-            case ICONST_1:
-            case ICONST_2:
-            case ICONST_3:
-            case ICONST_4:
-            case ICONST_5:
-            case FCONST_0:
-            case FCONST_1:
-            case FCONST_2:
-            case BIPUSH:
-            case SIPUSH:
-            case ILOAD:
-            case FLOAD:
-            case ALOAD:
-            case DUP:
-            case DUP_X1:
-            case DUP_X2:
-            case I2L:
-            case I2D:
-            case F2L:
-            case F2D:
-            case NEW:
-                result = 1;
-                break;
-            case LCONST_0:
-            case LCONST_1:
-            case DCONST_0:
-            case DCONST_1:
-            case LLOAD:
-            case DLOAD:
-            case DUP2:
-            case DUP2_X1:
-            case DUP2_X2:
-                result = 2;
-                break;
-            case LDC: {
-                final Class<?> clazz = this.args.get(0).getClass();
-                if (clazz == Long.class || clazz == Double.class) {
-                    result = 2;
-                    break;
-                } else {
-                    result = BytecodeInstruction.size(Type.getType(clazz));
-                    break;
-                }
-            }
-            case GETSTATIC:
-                result = BytecodeInstruction.size(Type.getType(String.valueOf(this.args.get(2))));
-                break;
-            case PUTSTATIC:
-                result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
-                ) * -1;
-                break;
-            case GETFIELD:
-                result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
-                ) - 1;
-                break;
-            case PUTFIELD:
-                result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
-                ) * -1 - 1;
-                break;
-            case INVOKEVIRTUAL:
-            case INVOKESPECIAL:
-            case INVOKEINTERFACE:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2))) - 1;
-                break;
-            case INVOKESTATIC:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2)));
-                break;
-            case INVOKEDYNAMIC:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(1)));
-                break;
-            case MULTIANEWARRAY:
-                result = -(int) (this.args.get(1)) + 1;
-                break;
-            default:
-                throw new UnsupportedOperationException(
-                    String.format(
-                        "Unsupported opcode: %s", new OpcodeName(this.opcode).simplified()
-                    )
-                );
+        if (meta.operands()) {
+            result = this.operandsImpact(meta.instruction());
+        } else {
+            result = meta.stack();
         }
         return result;
     }
@@ -330,7 +120,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
      * @return True if it is.
      */
     boolean isVarInstruction() {
-        return Instruction.find(this.opcode).isVarInstruction();
+        return Metadata.of(this.opcode).slot() != Metadata.NONE;
     }
 
     /**
@@ -348,7 +138,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     int varSize() {
         this.assertVarInstruction();
-        return Instruction.find(this.opcode).size();
+        return Metadata.of(this.opcode).slot();
     }
 
     /**
@@ -358,42 +148,16 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isJump() {
-        return Instruction.find(this.opcode) == Instruction.GOTO
-            || Instruction.find(this.opcode) == Instruction.JSR;
+        return Metadata.of(this.opcode).branch() == Branch.UNCONDITIONAL;
     }
 
     /**
      * Is this instruction a conditional branch instruction?
      * @return True if it is.
-     * @checkstyle CyclomaticComplexityCheck (100 lines)
      */
     @Override
     public boolean isIf() {
-        final boolean result;
-        switch (Instruction.find(this.opcode)) {
-            case IFEQ:
-            case IFNE:
-            case IFLT:
-            case IFGE:
-            case IFGT:
-            case IFLE:
-            case IF_ICMPEQ:
-            case IF_ICMPNE:
-            case IF_ICMPLT:
-            case IF_ICMPGE:
-            case IF_ICMPGT:
-            case IF_ICMPLE:
-            case IF_ACMPEQ:
-            case IF_ACMPNE:
-            case IFNULL:
-            case IFNONNULL:
-                result = true;
-                break;
-            default:
-                result = false;
-                break;
-        }
-        return result;
+        return Metadata.of(this.opcode).branch() == Branch.CONDITIONAL;
     }
 
     /**
@@ -402,17 +166,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isSwitch() {
-        final boolean result;
-        switch (Instruction.find(this.opcode)) {
-            case TABLESWITCH:
-            case LOOKUPSWITCH:
-                result = true;
-                break;
-            default:
-                result = false;
-                break;
-        }
-        return result;
+        return Metadata.of(this.opcode).branch() == Branch.SWITCH;
     }
 
     /**
@@ -421,54 +175,22 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isReturn() {
-        final boolean result;
-        switch (Instruction.find(this.opcode)) {
-            case IRETURN:
-            case FRETURN:
-            case ARETURN:
-            case LRETURN:
-            case DRETURN:
-            case RETURN:
-                result = true;
-                break;
-            default:
-                result = false;
-                break;
-        }
-        return result;
+        return Metadata.of(this.opcode).branch() == Branch.RETURN;
     }
 
     /**
      * Jump to a label.
      * Where to jump.
      * @return Jump label.
-     * @checkstyle CyclomaticComplexityCheck (100 lines)
      */
     public List<BytecodeLabel> jumps() {
         final List<BytecodeLabel> result;
-        switch (Instruction.find(this.opcode)) {
-            case GOTO:
-            case JSR:
-            case IFEQ:
-            case IFNE:
-            case IFLT:
-            case IFGE:
-            case IFGT:
-            case IFLE:
-            case IF_ICMPEQ:
-            case IF_ICMPNE:
-            case IF_ICMPLT:
-            case IF_ICMPGE:
-            case IF_ICMPGT:
-            case IF_ICMPLE:
-            case IF_ACMPEQ:
-            case IF_ACMPNE:
-            case IFNULL:
-            case IFNONNULL:
+        switch (Metadata.of(this.opcode).branch()) {
+            case CONDITIONAL:
+            case UNCONDITIONAL:
                 result = Collections.singletonList((BytecodeLabel) this.args.get(0));
                 break;
-            case TABLESWITCH:
-            case LOOKUPSWITCH:
+            case SWITCH:
                 result = this.args.stream()
                     .filter(BytecodeLabel.class::isInstance)
                     .map(BytecodeLabel.class::cast)
@@ -538,8 +260,77 @@ public final class BytecodeInstruction implements BytecodeEntry {
             .sum();
     }
 
+    /**
+     * Impact on the stack of the LDC instruction.
+     * @return Stack impact.
+     */
+    private int constantImpact() {
+        final Class<?> clazz = this.args.get(0).getClass();
+        final int result;
+        if (clazz == Long.class || clazz == Double.class) {
+            result = 2;
+        } else {
+            result = BytecodeInstruction.size(Type.getType(clazz));
+        }
+        return result;
+    }
+
+    /**
+     * Impact on the stack of the instructions that depend on their operands.
+     * @param instruction Instruction.
+     * @return Stack impact.
+     */
+    private int operandsImpact(final Instruction instruction) {
+        final int result;
+        switch (instruction) {
+            case LDC:
+                result = this.constantImpact();
+                break;
+            case GETSTATIC:
+                result = BytecodeInstruction.size(Type.getType(String.valueOf(this.args.get(2))));
+                break;
+            case PUTSTATIC:
+                result = BytecodeInstruction.size(
+                    Type.getType(String.valueOf(this.args.get(2)))
+                ) * -1;
+                break;
+            case GETFIELD:
+                result = BytecodeInstruction.size(
+                    Type.getType(String.valueOf(this.args.get(2)))
+                ) - 1;
+                break;
+            case PUTFIELD:
+                result = BytecodeInstruction.size(
+                    Type.getType(String.valueOf(this.args.get(2)))
+                ) * -1 - 1;
+                break;
+            case INVOKEVIRTUAL:
+            case INVOKESPECIAL:
+            case INVOKEINTERFACE:
+                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2))) - 1;
+                break;
+            case INVOKESTATIC:
+                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2)));
+                break;
+            case INVOKEDYNAMIC:
+                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(1)));
+                break;
+            case MULTIANEWARRAY:
+                result = -(int) (this.args.get(1)) + 1;
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                    String.format(
+                        "Unsupported opcode: %s", new OpcodeName(this.opcode).simplified()
+                    )
+                );
+        }
+        return result;
+    }
+
+    @Override
     public boolean isThrow() {
-        return Instruction.find(this.opcode) == Instruction.ATHROW;
+        return Metadata.of(this.opcode).branch() == Branch.THROW;
     }
 
     /**
@@ -2021,82 +1812,457 @@ public final class BytecodeInstruction implements BytecodeEntry {
         }
 
         /**
-         * Check if the instruction is a variable instruction.
-         * @return True if the instruction is a variable instruction.
-         * @checkstyle CyclomaticComplexityCheck (50 lines)
+         * Get instruction by opcode.
+         *
+         * @param opcode Opcode.
+         * @return Instruction.
          */
-        boolean isVarInstruction() {
-            final boolean result;
-            switch (this) {
-                case ILOAD:
-                case LLOAD:
-                case FLOAD:
-                case DLOAD:
-                case ALOAD:
-                case ISTORE:
+        static Instruction find(final int opcode) {
+            return Metadata.of(opcode).instruction();
+        }
+    }
+
+    /**
+     * Kind of control transfer performed by an instruction.
+     * @since 0.15.0
+     */
+    private enum Branch {
+
+        /**
+         * Control flows to the next instruction.
+         */
+        NONE,
+
+        /**
+         * Conditional jump, like {@code IFEQ}.
+         */
+        CONDITIONAL,
+
+        /**
+         * Unconditional jump, like {@code GOTO} or {@code JSR}.
+         */
+        UNCONDITIONAL,
+
+        /**
+         * Table or lookup switch.
+         */
+        SWITCH,
+
+        /**
+         * Return from a method.
+         */
+        RETURN,
+
+        /**
+         * Exception throw.
+         */
+        THROW
+    }
+
+    /**
+     * Precomputed instruction metadata.
+     * <p>All the metadata is stored in a table indexed by opcode, so that
+     * {@link BytecodeInstruction} queries like {@link #impact()}, {@link #isIf()}
+     * or {@link #jumps()} are answered with a single array lookup.</p>
+     * @since 0.15.0
+     */
+    private static final class Metadata {
+
+        /**
+         * Marker for instructions that don't use local variables.
+         */
+        private static final int NONE = -1;
+
+        /**
+         * Marker for instructions which stack impact depends on their operands.
+         */
+        private static final int OPERANDS = Integer.MIN_VALUE;
+
+        /**
+         * Metadata of all the instructions indexed by opcode.
+         */
+        private static final Metadata[] TABLE = Metadata.table();
+
+        /**
+         * Instruction.
+         */
+        private final Instruction instr;
+
+        /**
+         * Fixed stack impact or {@link #OPERANDS}.
+         */
+        private final int impact;
+
+        /**
+         * Control transfer kind.
+         */
+        private final Branch kind;
+
+        /**
+         * Size of the local variable used by the instruction or {@link #NONE}.
+         */
+        private final int size;
+
+        /**
+         * Constructor.
+         * @param instruction Instruction.
+         */
+        private Metadata(final Instruction instruction) {
+            this(
+                instruction,
+                Metadata.stack(instruction),
+                Metadata.branch(instruction),
+                Metadata.slot(instruction)
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param instruction Instruction.
+         * @param impact Fixed stack impact or {@link #OPERANDS}.
+         * @param kind Control transfer kind.
+         * @param size Size of the local variable or {@link #NONE}.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private Metadata(
+            final Instruction instruction,
+            final int impact,
+            final Branch kind,
+            final int size
+        ) {
+            this.instr = instruction;
+            this.impact = impact;
+            this.kind = kind;
+            this.size = size;
+        }
+
+        /**
+         * Find metadata by opcode.
+         * @param opcode Opcode.
+         * @return Metadata.
+         */
+        static Metadata of(final int opcode) {
+            if (opcode < 0 || opcode >= Metadata.TABLE.length || Metadata.TABLE[opcode] == null) {
+                throw new UnrecognizedOpcode(opcode);
+            }
+            return Metadata.TABLE[opcode];
+        }
+
+        /**
+         * Instruction.
+         * @return Instruction.
+         */
+        Instruction instruction() {
+            return this.instr;
+        }
+
+        /**
+         * Does the stack impact depend on the instruction operands?
+         * @return True if it does.
+         */
+        boolean operands() {
+            return this.impact == Metadata.OPERANDS;
+        }
+
+        /**
+         * Fixed stack impact.
+         * @return Stack impact.
+         */
+        int stack() {
+            return this.impact;
+        }
+
+        /**
+         * Control transfer kind.
+         * @return Branch kind.
+         */
+        Branch branch() {
+            return this.kind;
+        }
+
+        /**
+         * Local variable size.
+         * @return Size of the local variable or {@link #NONE}.
+         */
+        int slot() {
+            return this.size;
+        }
+
+        /**
+         * Build the table.
+         * @return Metadata indexed by opcode.
+         */
+        private static Metadata[] table() {
+            final Metadata[] result = new Metadata[256];
+            for (final Instruction instruction : Instruction.values()) {
+                result[instruction.opcode] = new Metadata(instruction);
+            }
+            return result;
+        }
+
+        /**
+         * Fixed impact of the instruction on the stack.
+         * @param instruction Instruction.
+         * @return Stack impact or {@link #OPERANDS}.
+         * @checkstyle CyclomaticComplexityCheck (250 lines)
+         * @checkstyle MethodLengthCheck (250 lines)
+         * @checkstyle JavaNCSSCheck (250 lines)
+         */
+        @SuppressWarnings({"PMD.NcssCount", "PMD.ExcessiveMethodLength"})
+        private static int stack(final Instruction instruction) {
+            final int result;
+            switch (instruction) {
+                case LASTORE:
+                case DASTORE:
+                    result = -4;
+                    break;
+                case IASTORE:
+                case FASTORE:
+                case AASTORE:
+                case BASTORE:
+                case CASTORE:
+                case SASTORE:
+                case LCMP:
+                case DCMPL:
+                case DCMPG:
+                    result = -3;
+                    break;
                 case LSTORE:
-                case FSTORE:
                 case DSTORE:
+                case POP2:
+                case LADD:
+                case LSUB:
+                case LMUL:
+                case LDIV:
+                case LREM:
+                case DADD:
+                case DSUB:
+                case DMUL:
+                case DDIV:
+                case DREM:
+                case IF_ICMPEQ:
+                case IF_ICMPNE:
+                case IF_ICMPLT:
+                case IF_ICMPGE:
+                case IF_ICMPGT:
+                case IF_ICMPLE:
+                case IF_ACMPEQ:
+                case IF_ACMPNE:
+                case LOR:
+                case LAND:
+                case LXOR:
+                case LRETURN:
+                case DRETURN:
+                    result = -2;
+                    break;
+                case IALOAD:
+                case FALOAD:
+                case AALOAD:
+                case BALOAD:
+                case CALOAD:
+                case SALOAD:
+                case IADD:
+                case ISUB:
+                case IMUL:
+                case IDIV:
+                case IREM:
+                case FADD:
+                case FSUB:
+                case FMUL:
+                case FDIV:
+                case FREM:
+                case LSHL:
+                case LSHR:
+                case LUSHR:
+                case POP:
+                case FCMPL:
+                case FCMPG:
+                case L2I:
+                case L2F:
+                case D2I:
+                case D2F:
+                case ISTORE:
+                case FSTORE:
                 case ASTORE:
+                case IFEQ:
+                case IFNE:
+                case IFLT:
+                case IFGE:
+                case IFGT:
+                case IFLE:
+                case IFNULL:
+                case IFNONNULL:
+                case IOR:
+                case IAND:
+                case IXOR:
+                case ISHL:
+                case ISHR:
+                case IUSHR:
+                case IRETURN:
+                case FRETURN:
+                case ARETURN:
+                case MONITORENTER:
+                case MONITOREXIT:
+                case TABLESWITCH:
+                case LOOKUPSWITCH:
+                case ATHROW:
+                    result = -1;
+                    break;
+                case NOP:
+                case SWAP:
+                case I2F:
+                case F2I:
+                case I2B:
+                case I2C:
+                case I2S:
+                case L2D:
+                case D2L:
+                case LALOAD:
+                case DALOAD:
+                case DNEG:
+                case FNEG:
+                case LNEG:
+                case INEG:
+                case GOTO:
+                case JSR:
                 case RET:
-                    result = true;
+                case RETURN:
+                case IINC:
+                case NEWARRAY:
+                case ANEWARRAY:
+                case ARRAYLENGTH:
+                case CHECKCAST:
+                case INSTANCEOF:
+                    result = 0;
+                    break;
+                case ACONST_NULL:
+                case ICONST_M1:
+                case ICONST_0:
+                case ICONST_1:
+                case ICONST_2:
+                case ICONST_3:
+                case ICONST_4:
+                case ICONST_5:
+                case FCONST_0:
+                case FCONST_1:
+                case FCONST_2:
+                case BIPUSH:
+                case SIPUSH:
+                case ILOAD:
+                case FLOAD:
+                case ALOAD:
+                case DUP:
+                case DUP_X1:
+                case DUP_X2:
+                case I2L:
+                case I2D:
+                case F2L:
+                case F2D:
+                case NEW:
+                    result = 1;
+                    break;
+                case LCONST_0:
+                case LCONST_1:
+                case DCONST_0:
+                case DCONST_1:
+                case LLOAD:
+                case DLOAD:
+                case DUP2:
+                case DUP2_X1:
+                case DUP2_X2:
+                    result = 2;
                     break;
                 default:
-                    result = false;
+                    result = Metadata.OPERANDS;
                     break;
             }
             return result;
         }
 
         /**
-         * Local variable size.
-         * @return Local variable size.
+         * Control transfer kind of the instruction.
+         * @param instruction Instruction.
+         * @return Branch kind.
+         * @checkstyle CyclomaticComplexityCheck (50 lines)
+         */
+        private static Branch branch(final Instruction instruction) {
+            final Branch result;
+            switch (instruction) {
+                case IFEQ:
+                case IFNE:
+                case IFLT:
+                case IFGE:
+                case IFGT:
+                case IFLE:
+                case IF_ICMPEQ:
+                case IF_ICMPNE:
+                case IF_ICMPLT:
+                case IF_ICMPGE:
+                case IF_ICMPGT:
+                case IF_ICMPLE:
+                case IF_ACMPEQ:
+                case IF_ACMPNE:
+                case IFNULL:
+                case IFNONNULL:
+                    result = Branch.CONDITIONAL;
+                    break;
+                case GOTO:
+                case JSR:
+                    result = Branch.UNCONDITIONAL;
+                    break;
+                case TABLESWITCH:
+                case LOOKUPSWITCH:
+                    result = Branch.SWITCH;
+                    break;
+                case IRETURN:
+                case FRETURN:
+                case ARETURN:
+                case LRETURN:
+                case DRETURN:
+                case RETURN:
+                    result = Branch.RETURN;
+                    break;
+                case ATHROW:
+                    result = Branch.THROW;
+                    break;
+                default:
+                    result = Branch.NONE;
+                    break;
+            }
+            return result;
+        }
+
+        /**
+         * Size of the local variable used by the instruction.
+         * @param instruction Instruction.
+         * @return Local variable size or {@link #NONE}.
          * @checkstyle CyclomaticComplexityCheck (50 lines)
          */
-        int size() {
-            final int res;
-            switch (this) {
+        private static int slot(final Instruction instruction) {
+            final int result;
+            switch (instruction) {
                 case ILOAD:
                 case FLOAD:
                 case ALOAD:
                 case ISTORE:
                 case FSTORE:
                 case ASTORE:
-                    res = 1;
+                    result = 1;
                     break;
                 case LLOAD:
                 case LSTORE:
                 case DLOAD:
                 case DSTORE:
-                    res = 2;
+                    result = 2;
                     break;
                 case RET:
-                    res = 0;
+                    result = 0;
                     break;
                 default:
-                    throw new IllegalStateException(
-                        String.format(
-                            "Instruction %s is not a variable instruction",
-                            this.name()
-                        )
-                    );
-            }
-            return res;
-        }
-
-        /**
-         * Get instruction by opcode.
-         *
-         * @param opcode Opcode.
-         * @return Instruction.
-         */
-        static Instruction find(final int opcode) {
-            for (final Instruction instruction : Instruction.values()) {
-                if (instruction.opcode == opcode) {
-                    return instruction;
-                }
+                    result = Metadata.NONE;
+                    break;
             }
-            throw new UnrecognizedOpcode(opcode);
+            return result;
         }
     }
 }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
@@ -47,6 +48,7 @@ public final class BytecodeMethod {
     /**
      * Method properties.
      */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     private final BytecodeMethodProperties properties;
 
     /**
@@ -64,6 +66,11 @@ public final class BytecodeMethod {
      */
     private final BytecodeAttributes attributes;
 
+    /**
+     * Code of the method kept as it is.
+     */
+    private final BytecodeOpaqueCode opaque;
+
     /**
      * Constructor for tests.
      */
@@ -180,6 +187,34 @@ public final class BytecodeMethod {
         final List<BytecodeDefaultValue> defvalues,
         final BytecodeMaxs maxs,
         final BytecodeAttributes attributes
+    ) {
+        this(
+            tryblocks, instructions, annotations, properties,
+            defvalues, maxs, attributes, new BytecodeOpaqueCode()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param tryblocks Try-catch blocks.
+     * @param instructions Method instructions.
+     * @param annotations Method annotations.
+     * @param properties Method properties.
+     * @param defvalues Default values.
+     * @param maxs Max stack and locals.
+     * @param attributes Method attributes.
+     * @param opaque Code of the method kept as it is, if it isn't disassembled.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public BytecodeMethod(
+        final List<BytecodeEntry> tryblocks,
+        final List<BytecodeEntry> instructions,
+        final BytecodeAnnotations annotations,
+        final BytecodeMethodProperties properties,
+        final List<BytecodeDefaultValue> defvalues,
+        final BytecodeMaxs maxs,
+        final BytecodeAttributes attributes,
+        final BytecodeOpaqueCode opaque
     ) {
         this.tryblocks = tryblocks;
         this.entries = instructions;
@@ -188,6 +223,7 @@ public final class BytecodeMethod {
         this.defvalues = defvalues;
         this.maxs = maxs;
         this.attributes = attributes;
+        this.opaque = opaque;
     }
 
     /**
@@ -202,7 +238,8 @@ public final class BytecodeMethod {
             this.properties,
             this.defvalues,
             new BytecodeMaxs(),
-            this.attributes
+            this.attributes,
+            this.opaque
         );
     }
 
@@ -253,6 +290,14 @@ public final class BytecodeMethod {
         return this.properties.name();
     }
 
+    /**
+     * Method properties.
+     * @return Properties.
+     */
+    BytecodeMethodProperties properties() {
+        return this.properties;
+    }
+
     /**
      * Method instructions.
      * @return Instructions.
@@ -306,7 +351,8 @@ public final class BytecodeMethod {
             this.defvalues.stream()
                 .map(v -> v.directives(format))
                 .collect(Collectors.toList()),
-            this.attributes.directives(format, "local-variable-table")
+            this.attributes.directives(format, "local-variable-table"),
+            this.opaque.directives(format)
         );
     }
 
@@ -322,30 +368,92 @@ public final class BytecodeMethod {
      * Generate bytecode.
      * @param visitor Visitor.
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     void write(final CustomClassWriter visitor) {
-        try {
-            final MethodVisitor mvisitor = this.properties.writeMethod(
-                visitor,
-                this.maxs.compute()
-            );
-            this.annotations.write(mvisitor);
-            this.defvalues.forEach(defvalue -> defvalue.writeTo(mvisitor));
-            final AsmLabels all = new AsmLabels();
-            if (!this.properties.isAbstract()) {
-                mvisitor.visitCode();
-                this.tryblocks.forEach(block -> block.writeTo(mvisitor, all));
-                this.entries.forEach(instruction -> instruction.writeTo(mvisitor, all));
-                final BytecodeMaxs max;
-                if (this.maxs.compute()) {
-                    max = this.computeMaxs();
-                } else {
-                    max = this.maxs;
-                }
-                mvisitor.visitMaxs(max.stack(), max.locals());
+        this.guarded(
+            () -> this.writeBody(this.properties.writeMethod(visitor, this.compute()))
+        );
+    }
+
+    /**
+     * Generate bytecode recorded in advance.
+     * <p>The class writer receives exactly the same calls as from
+     * {@link #write(CustomClassWriter)}, so the bytecode is the same.</p>
+     * @param visitor Visitor.
+     * @param recorded Body of this method, see {@link #recorded()}.
+     */
+    void write(final CustomClassWriter visitor, final RecordedMethod recorded) {
+        this.guarded(
+            () -> recorded.replay(this.properties.writeMethod(visitor, this.compute()))
+        );
+    }
+
+    /**
+     * Method of the original class this method is copied from.
+     * <p>Such a method is not written by itself, it's copied by the class,
+     * see {@link CustomClassWriter#copy(java.util.Set)}.</p>
+     * @return Name and descriptor of the method, or empty if it's written by itself.
+     */
+    Optional<String> original() {
+        return this.opaque.original();
+    }
+
+    /**
+     * Record the body of the method without a class writer.
+     * <p>Everything the method does to write itself, including computation of maxs,
+     * is done here, so methods can be recorded in parallel and then written to the
+     * class writer one by one, see {@link #write(CustomClassWriter, RecordedMethod)}.</p>
+     * @return Recorded body.
+     */
+    RecordedMethod recorded() {
+        final RecordedMethod result = new RecordedMethod();
+        this.guarded(() -> this.writeBody(result));
+        return result;
+    }
+
+    /**
+     * Write the body of the method: annotations, code and attributes.
+     * @param mvisitor Method visitor.
+     */
+    private void writeBody(final MethodVisitor mvisitor) {
+        this.annotations.write(mvisitor);
+        this.defvalues.forEach(defvalue -> defvalue.writeTo(mvisitor));
+        final AsmLabels all = new AsmLabels();
+        if (this.opaque.present()) {
+            this.opaque.write(mvisitor);
+        } else if (!this.properties.isAbstract()) {
+            mvisitor.visitCode();
+            this.tryblocks.forEach(block -> block.writeTo(mvisitor, all));
+            this.entries.forEach(instruction -> instruction.writeTo(mvisitor, all));
+            final BytecodeMaxs max;
+            if (this.maxs.compute()) {
+                max = this.computeMaxs();
+            } else {
+                max = this.maxs;
             }
-            this.attributes.write(mvisitor, all);
-            mvisitor.visitEnd();
+            mvisitor.visitMaxs(max.stack(), max.locals());
+        }
+        this.attributes.write(mvisitor, all);
+        mvisitor.visitEnd();
+    }
+
+    /**
+     * Should maxs and frames be computed.
+     * <p>They are never computed for the code kept as it is,
+     * see {@link BytecodeOpaqueCode}.</p>
+     * @return True if they should be computed.
+     */
+    private boolean compute() {
+        return this.maxs.compute() && !this.opaque.present();
+    }
+
+    /**
+     * Run the writing of the method and explain its failures.
+     * @param writing Writing.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void guarded(final Runnable writing) {
+        try {
+            writing.run();
         } catch (final NegativeArraySizeException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -388,7 +496,7 @@ public final class BytecodeMethod {
      * @return Maxs.
      */
     BytecodeMaxs computeMaxs() {
-        return new BytecodeMaxs(this.computeStack(), this.computeLocals());
+        return new ControlFlow(this.properties, this.entries, this.catches()).maxs();
     }
 
     /**
@@ -420,31 +528,13 @@ public final class BytecodeMethod {
     }
 
     /**
-     * Compute max stack.
-     * @return Max stack.
-     */
-    private int computeStack() {
-        return new MaxStack(
-            this.entries,
-            this.tryblocks.stream()
-                .filter(BytecodeTryCatchBlock.class::isInstance)
-                .map(BytecodeTryCatchBlock.class::cast)
-                .collect(Collectors.toList())
-        ).value();
-    }
-
-    /**
-     * Compute max local variables.
-     * @return Max local variables.
+     * Try-catch blocks of the method.
+     * @return Try-catch blocks.
      */
-    private int computeLocals() {
-        return new MaxLocals(
-            this.properties,
-            this.entries,
-            this.tryblocks.stream()
-                .filter(BytecodeTryCatchBlock.class::isInstance)
-                .map(BytecodeTryCatchBlock.class::cast)
-                .collect(Collectors.toList())
-        ).value();
+    List<BytecodeTryCatchBlock> catches() {
+        return this.tryblocks.stream()
+            .filter(BytecodeTryCatchBlock.class::isInstance)
+            .map(BytecodeTryCatchBlock.class::cast)
+            .collect(Collectors.toList());
     }
 }
@@ -17,6 +17,7 @@ import org.eolang.jeo.representation.directives.DirectivesClass;
 import org.eolang.jeo.representation.directives.DirectivesMetas;
 import org.eolang.jeo.representation.directives.DirectivesObject;
 import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.ClassReader;
 
 /**
  * Bytecode program.
@@ -85,8 +86,38 @@ public final class BytecodeObject {
      * @return Bytecode.
      */
     public Bytecode bytecode() {
-        final CustomClassWriter writer = new CustomClassWriter();
-        this.top().writeTo(writer);
+        return this.bytecode(0);
+    }
+
+    /**
+     * Convert to bytecode.
+     * <p>Methods of a large class are prepared in parallel, the bytecode is the same.</p>
+     * @param parallel Minimal number of methods in the class to prepare them in parallel,
+     *  zero to never do it.
+     * @return Bytecode.
+     */
+    public Bytecode bytecode(final int parallel) {
+        return this.bytecode(parallel, new byte[0]);
+    }
+
+    /**
+     * Convert to bytecode keeping the constant pool of the original class.
+     * <p>Methods copied from the original class, see {@link BytecodeOpaqueCode},
+     * refer to the same constants, the other constants are added to the end of the
+     * pool. The original class is parsed only once, for all of them.</p>
+     * @param parallel Minimal number of methods in the class to prepare them in parallel,
+     *  zero to never do it.
+     * @param original Original class file, or empty to build the constant pool from scratch.
+     * @return Bytecode.
+     */
+    public Bytecode bytecode(final int parallel, final byte[] original) {
+        final CustomClassWriter writer;
+        if (original.length > 0) {
+            writer = new CustomClassWriter(new ClassReader(original));
+        } else {
+            writer = new CustomClassWriter();
+        }
+        this.top().writeTo(writer, parallel);
         return writer.bytecode();
     }
 
@@ -123,7 +154,7 @@ public final class BytecodeObject {
         return new DirectivesObject(
             format,
             clazz,
-            new DirectivesMetas(classname)
+            new DirectivesMetas(classname, format)
         );
     }
 }
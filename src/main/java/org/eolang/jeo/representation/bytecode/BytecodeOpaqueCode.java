@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.directives.DirectivesOpaqueCode;
+import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.TypePath;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Code of a method kept as it is.
+ *
+ * <p>The code of the methods that are not selected for disassembling (see
+ * {@link org.eolang.jeo.representation.MethodFilter}) is not converted to
+ * instructions. The {@code Code} attribute refers to the constant pool of its class,
+ * so it can't be copied to another class as plain bytes. Instead, it's kept as a
+ * class file with this single method and its own constant pool. The code is copied
+ * from this class file to the assembled class by ASM, together with its frames and
+ * maxs, which are neither computed nor checked.</p>
+ *
+ * <p>A method that wasn't changed since the disassembling is instead copied from the
+ * original class as a whole, see {@link CustomClassWriter#copy(java.util.Set)}. Such
+ * code only refers to the method by its name and descriptor, it exists only during
+ * assembling and is never written to XMIR.</p>
+ * @since 0.15.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class BytecodeOpaqueCode {
+
+    /**
+     * Class file with the single method.
+     */
+    private final byte[] clazz;
+
+    /**
+     * Name and descriptor of the method in the original class, or empty.
+     */
+    private final String method;
+
+    /**
+     * Constructor.
+     * No opaque code, the code of the method is disassembled.
+     */
+    public BytecodeOpaqueCode() {
+        this(new byte[0]);
+    }
+
+    /**
+     * Constructor.
+     * @param clazz Class file with the single method.
+     */
+    public BytecodeOpaqueCode(final byte[] clazz) {
+        this(clazz, "");
+    }
+
+    /**
+     * Constructor.
+     * The method is copied from the original class.
+     * @param name Name of the method in the original class.
+     * @param descriptor Descriptor of the method.
+     */
+    public BytecodeOpaqueCode(final String name, final String descriptor) {
+        this(new byte[0], String.format("%s%s", name, descriptor));
+    }
+
+    /**
+     * Constructor.
+     * @param clazz Class file with the single method, or empty.
+     * @param method Name and descriptor of the method in the original class, or empty.
+     */
+    private BytecodeOpaqueCode(final byte[] clazz, final String method) {
+        this.clazz = clazz.clone();
+        this.method = method;
+    }
+
+    /**
+     * Is there any opaque code.
+     * @return True if the code of the method is kept as it is.
+     */
+    public boolean present() {
+        return this.clazz.length > 0;
+    }
+
+    /**
+     * Method of the original class to copy.
+     * @return Name and descriptor of the method, or empty if the method is not copied
+     *  from the original class.
+     */
+    Optional<String> original() {
+        return Optional.of(this.method).filter(name -> !name.isEmpty());
+    }
+
+    /**
+     * Convert to directives.
+     * @param format Format of the directives.
+     * @return Directives, empty if there is no opaque code.
+     */
+    public Iterable<Directive> directives(final Format format) {
+        final Iterable<Directive> result;
+        if (this.present()) {
+            result = new DirectivesOpaqueCode(format, this.clazz);
+        } else {
+            result = new Directives();
+        }
+        return result;
+    }
+
+    /**
+     * Write the code to the method: from {@link MethodVisitor#visitCode()}
+     * to {@link MethodVisitor#visitMaxs(int, int)}.
+     * @param visitor Method visitor.
+     */
+    void write(final MethodVisitor visitor) {
+        new ClassReader(this.clazz).accept(new Unwrapping(visitor), 0);
+    }
+
+    /**
+     * Class visitor that passes the code of its single method to another method.
+     * @since 0.15.0
+     */
+    private static final class Unwrapping extends ClassVisitor {
+
+        /**
+         * Method to pass the code to.
+         */
+        private final MethodVisitor target;
+
+        /**
+         * Constructor.
+         * @param target Method to pass the code to.
+         */
+        Unwrapping(final MethodVisitor target) {
+            super(new DefaultVersion().api());
+            this.target = target;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            return new Unwrapped(this.target);
+        }
+    }
+
+    /**
+     * Method visitor that passes the code only.
+     * <p>Everything else, including the end of the method, is visited by
+     * the method itself.</p>
+     * @since 0.15.0
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    private static final class Unwrapped extends MethodVisitor {
+
+        /**
+         * Constructor.
+         * @param target Method to pass the code to.
+         */
+        Unwrapped(final MethodVisitor target) {
+            super(new DefaultVersion().api(), target);
+        }
+
+        @Override
+        public void visitParameter(final String name, final int access) {
+            // Parameters are visited by the method itself.
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(
+            final int ref, final TypePath path, final String descriptor, final boolean visible
+        ) {
+            return null;
+        }
+
+        @Override
+        public void visitAnnotableParameterCount(final int count, final boolean visible) {
+            // Annotations are visited by the method itself.
+        }
+
+        @Override
+        public AnnotationVisitor visitParameterAnnotation(
+            final int parameter, final String descriptor, final boolean visible
+        ) {
+            return null;
+        }
+
+        @Override
+        public void visitAttribute(final Attribute attribute) {
+            // Unknown attributes are visited by the method itself.
+        }
+
+        @Override
+        public void visitEnd() {
+            // The end of the method is visited by the method itself.
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Class hierarchy that doesn't load classes.
+ *
+ * <p>ASM needs to know the class hierarchy to compute stack map frames and to verify
+ * bytecode. By default, it loads classes with {@link Class#forName(String)}, which
+ * initializes static state, requires all the transitive dependencies to be present
+ * and fails if any of them is missing. This class reads only class headers
+ * (super class, interfaces and access flags) from the bytecode available through
+ * a class loader resources and never defines the classes.</p>
+ *
+ * <p>Headers are cached per class loader, so all the classes processed during a single
+ * plugin run share the same cache. Unknown types are handled conservatively: they are
+ * treated as direct subclasses of {@code java/lang/Object}.</p>
+ * @since 0.15.0
+ */
+public final class ClassHierarchy {
+
+    /**
+     * Internal name of the Object class.
+     */
+    private static final String OBJECT = "java/lang/Object";
+
+    /**
+     * Header caches of all the class loaders.
+     */
+    private static final Map<ClassLoader, Headers> CACHES =
+        Collections.synchronizedMap(new WeakHashMap<>(1));
+
+    /**
+     * Cached headers.
+     */
+    private final Headers headers;
+
+    /**
+     * Headers of the classes that are not available through the class loader yet.
+     */
+    private final Map<String, Header> local;
+
+    /**
+     * Constructor.
+     * <p>Uses the current thread class loader, see {@code PluginStartup#init()}.</p>
+     */
+    public ClassHierarchy() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to read class headers from.
+     */
+    public ClassHierarchy(final ClassLoader loader) {
+        this(
+            ClassHierarchy.CACHES.computeIfAbsent(
+                Optional.ofNullable(loader).orElseGet(ClassLoader::getSystemClassLoader),
+                Headers::new
+            ),
+            Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param headers Cached headers.
+     * @param local Headers of the classes that are not available through the class loader.
+     */
+    private ClassHierarchy(final Headers headers, final Map<String, Header> local) {
+        this.headers = headers;
+        this.local = local;
+    }
+
+    /**
+     * Hierarchy that also knows about one more class.
+     * <p>Usually it's a class that is being verified right now.</p>
+     * @param name Internal name of the class.
+     * @param parent Internal name of the super class, might be null.
+     * @param interfaces Internal names of the interfaces.
+     * @param access Access flags.
+     * @return New hierarchy.
+     */
+    public ClassHierarchy with(
+        final String name,
+        final String parent,
+        final List<String> interfaces,
+        final int access
+    ) {
+        final Map<String, Header> all = new HashMap<>(this.local);
+        all.put(name, new Header(parent, interfaces.toArray(new String[0]), access));
+        return new ClassHierarchy(this.headers, all);
+    }
+
+    /**
+     * Is the class an interface?
+     * @param name Internal class name.
+     * @return True if the class is known and it is an interface.
+     */
+    public boolean isInterface(final String name) {
+        return this.header(name).map(Header::isInterface).orElse(false);
+    }
+
+    /**
+     * Super class.
+     * @param name Internal class name.
+     * @return Internal name of the super class, or empty for {@code java/lang/Object}.
+     *  For unknown classes it returns {@code java/lang/Object}.
+     */
+    public Optional<String> parent(final String name) {
+        final Optional<String> result;
+        if (ClassHierarchy.OBJECT.equals(name)) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(
+                this.header(name).map(Header::parent).orElse(ClassHierarchy.OBJECT)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Is the hierarchy of the class fully known?
+     * @param name Internal class name.
+     * @return True if the class and all its ancestors are found.
+     */
+    public boolean isKnown(final String name) {
+        final Deque<String> pending = new ArrayDeque<>(1);
+        final Set<String> visited = new HashSet<>(1);
+        pending.add(name);
+        boolean result = true;
+        while (result && !pending.isEmpty()) {
+            final String current = pending.poll();
+            if (visited.add(current)) {
+                final Optional<Header> header = this.header(current);
+                if (header.isPresent()) {
+                    pending.addAll(header.get().ancestors());
+                } else {
+                    result = false;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Is the target class assignable from the source class?
+     * <p>If some ancestor of the source class is unknown and the target is not found
+     * among the known ones, we consider the classes assignable.</p>
+     * @param target Internal name of the target class.
+     * @param source Internal name of the source class.
+     * @return True if the source class is a subtype of the target class.
+     */
+    public boolean isAssignable(final String target, final String source) {
+        final Deque<String> pending = new ArrayDeque<>(1);
+        final Set<String> visited = new HashSet<>(1);
+        pending.add(source);
+        boolean found = ClassHierarchy.OBJECT.equals(target);
+        boolean unknown = false;
+        while (!found && !pending.isEmpty()) {
+            final String current = pending.poll();
+            if (target.equals(current)) {
+                found = true;
+            } else if (visited.add(current)) {
+                final Optional<Header> header = this.header(current);
+                if (header.isPresent()) {
+                    pending.addAll(header.get().ancestors());
+                } else {
+                    unknown = true;
+                }
+            }
+        }
+        return found || unknown;
+    }
+
+    /**
+     * The closest common super class of two classes.
+     * <p>Follows the algorithm of {@code ClassWriter#getCommonSuperClass}, but returns
+     * {@code java/lang/Object} if the hierarchy of any of the classes is unknown.</p>
+     * @param first Internal name of the first class.
+     * @param second Internal name of the second class.
+     * @return Internal name of the common super class.
+     */
+    public String common(final String first, final String second) {
+        String result;
+        if (first.equals(second)) {
+            result = first;
+        } else if (!this.isKnown(first) || !this.isKnown(second)) {
+            result = ClassHierarchy.OBJECT;
+        } else if (this.isAssignable(first, second)) {
+            result = first;
+        } else if (this.isAssignable(second, first)) {
+            result = second;
+        } else if (this.isInterface(first) || this.isInterface(second)) {
+            result = ClassHierarchy.OBJECT;
+        } else {
+            result = first;
+            do {
+                result = this.parent(result).orElse(ClassHierarchy.OBJECT);
+            } while (!this.isAssignable(result, second));
+        }
+        return result;
+    }
+
+    /**
+     * Class header.
+     * @param name Internal class name.
+     * @return Header if the class is found.
+     */
+    private Optional<Header> header(final String name) {
+        final Optional<Header> result;
+        if (this.local.containsKey(name)) {
+            result = Optional.of(this.local.get(name));
+        } else {
+            result = this.headers.header(name);
+        }
+        return result;
+    }
+
+    /**
+     * Cache of class headers read through a class loader.
+     * @since 0.15.0
+     */
+    private static final class Headers {
+
+        /**
+         * Class loader.
+         * <p>We keep a weak reference, because the loader is the key of
+         * {@link ClassHierarchy#CACHES}.</p>
+         */
+        private final Reference<ClassLoader> loader;
+
+        /**
+         * Cached headers.
+         */
+        private final Map<String, Optional<Header>> cache;
+
+        /**
+         * Constructor.
+         * @param loader Class loader.
+         */
+        Headers(final ClassLoader loader) {
+            this.loader = new WeakReference<>(loader);
+            this.cache = new ConcurrentHashMap<>(0);
+        }
+
+        /**
+         * Class header.
+         * @param name Internal class name.
+         * @return Header if the class is found.
+         */
+        Optional<Header> header(final String name) {
+            return this.cache.computeIfAbsent(name, this::read);
+        }
+
+        /**
+         * Read the class header.
+         * @param name Internal class name.
+         * @return Header if the class is found.
+         */
+        private Optional<Header> read(final String name) {
+            final ClassLoader current = this.loader.get();
+            Optional<Header> result = Optional.empty();
+            if (current != null) {
+                try (InputStream stream = current.getResourceAsStream(
+                    String.format("%s.class", name)
+                )) {
+                    if (stream != null) {
+                        final ClassReader reader = new ClassReader(stream);
+                        result = Optional.of(
+                            new Header(
+                                reader.getSuperName(),
+                                reader.getInterfaces(),
+                                reader.getAccess()
+                            )
+                        );
+                    }
+                } catch (final IOException | IllegalArgumentException exception) {
+                    result = Optional.empty();
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Class header.
+     * @since 0.15.0
+     */
+    private static final class Header {
+
+        /**
+         * Internal name of the super class, might be null.
+         */
+        private final String sup;
+
+        /**
+         * Internal names of the interfaces.
+         */
+        private final String[] interfaces;
+
+        /**
+         * Access flags.
+         */
+        private final int access;
+
+        /**
+         * Constructor.
+         * @param sup Internal name of the super class, might be null.
+         * @param interfaces Internal names of the interfaces.
+         * @param access Access flags.
+         */
+        Header(final String sup, final String[] interfaces, final int access) {
+            this.sup = sup;
+            this.interfaces = interfaces.clone();
+            this.access = access;
+        }
+
+        /**
+         * Super class.
+         * @return Internal name of the super class.
+         */
+        String parent() {
+            return Optional.ofNullable(this.sup).orElse(ClassHierarchy.OBJECT);
+        }
+
+        /**
+         * Is it an interface?
+         * @return True if it is an interface.
+         */
+        boolean isInterface() {
+            return (this.access & Opcodes.ACC_INTERFACE) != 0;
+        }
+
+        /**
+         * Direct ancestors: the super class and all the interfaces.
+         * @return Internal names of the ancestors.
+         */
+        List<String> ancestors() {
+            final List<String> result;
+            if (this.sup == null) {
+                result = Arrays.asList(this.interfaces);
+            } else {
+                final String[] all = Arrays.copyOf(this.interfaces, this.interfaces.length + 1);
+                all[this.interfaces.length] = this.sup;
+                result = Arrays.asList(all);
+            }
+            return result;
+        }
+    }
+}
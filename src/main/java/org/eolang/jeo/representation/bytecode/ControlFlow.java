@@ -0,0 +1,433 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.objectweb.asm.Type;
+
+/**
+ * Control-flow graph of a method.
+ *
+ * <p>This class computes the maximum stack size and the maximum number of local
+ * variables of a method in a single pass. It resolves all the labels and splits
+ * the instructions into basic blocks only once, and then runs a worklist fixpoint
+ * over the block entry stack heights. Each basic block is summarized (total stack
+ * impact, stack peak, highest local variable slot) when it is reached for the first
+ * time, so revisiting a block costs O(1).</p>
+ *
+ * <p>The result is the same as the one computed by {@link MaxStack} and
+ * {@link MaxLocals}, but it doesn't rescan the instruction list for every branch
+ * target and every try-catch block.</p>
+ * @since 0.15.0
+ */
+final class ControlFlow {
+
+    /**
+     * The maximum stack size allowed by the JVM specification.
+     */
+    private static final int LIMIT = 0xFFFF;
+
+    /**
+     * Height of a block that was not reached yet.
+     */
+    private static final int UNREACHED = Integer.MIN_VALUE;
+
+    /**
+     * Method properties.
+     */
+    private final BytecodeMethodProperties props;
+
+    /**
+     * Method instructions.
+     */
+    private final List<? extends BytecodeEntry> instructions;
+
+    /**
+     * Try-catch blocks.
+     */
+    private final List<BytecodeTryCatchBlock> blocks;
+
+    /**
+     * Constructor.
+     * @param props Method properties.
+     * @param instructions Instructions.
+     * @param blocks Try-catch blocks.
+     */
+    ControlFlow(
+        final BytecodeMethodProperties props,
+        final List<? extends BytecodeEntry> instructions,
+        final List<BytecodeTryCatchBlock> blocks
+    ) {
+        this.props = props;
+        this.instructions = instructions;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Compute the maximum stack size and the maximum number of local variables.
+     * @return Maxs.
+     */
+    BytecodeMaxs maxs() {
+        final BytecodeMaxs result;
+        if (this.instructions.isEmpty()) {
+            result = new BytecodeMaxs(0, 0);
+        } else {
+            result = new Graph(
+                this.instructions.toArray(new BytecodeEntry[0]),
+                this.blocks
+            ).maxs(this.initial());
+        }
+        return result;
+    }
+
+    /**
+     * Number of local variables occupied by the method arguments.
+     * @return Initial number of local variables.
+     */
+    private int initial() {
+        int result;
+        if (this.props.isStatic()) {
+            result = 0;
+        } else {
+            result = 1;
+        }
+        for (final Type type : Type.getArgumentTypes(this.props.descriptor())) {
+            result += type.getSize();
+        }
+        return result;
+    }
+
+    /**
+     * Does the entry end a basic block?
+     * @param entry Bytecode entry.
+     * @return True if control doesn't flow to the next entry unconditionally.
+     */
+    private static boolean terminal(final BytecodeEntry entry) {
+        return entry.isSwitch()
+            || entry.isIf()
+            || entry.isJump()
+            || entry.isReturn()
+            || entry.isThrow();
+    }
+
+    /**
+     * Basic blocks of a method with their edges.
+     * <p>Every label starts a new block, as well as every entry that follows
+     * a branch, a return or a throw. Block summaries are computed lazily, when
+     * a block is reached for the first time.</p>
+     * @since 0.15.0
+     */
+    @SuppressWarnings("PMD.TooManyFields")
+    private static final class Graph {
+
+        /**
+         * All the entries of the method.
+         */
+        private final BytecodeEntry[] entries;
+
+        /**
+         * Index of the first occurrence of each label.
+         */
+        private final Map<BytecodeLabel, Integer> labels;
+
+        /**
+         * Index of the first entry of each block.
+         */
+        private final int[] starts;
+
+        /**
+         * Block to which each entry belongs.
+         */
+        private final int[] owner;
+
+        /**
+         * Offsets of the handler edges of each block in {@link #handlers}.
+         */
+        private final int[] offsets;
+
+        /**
+         * Handler blocks reachable from each block.
+         */
+        private final int[] handlers;
+
+        /**
+         * Was the block summarized already?
+         */
+        private final boolean[] summarized;
+
+        /**
+         * Total stack impact of each block.
+         */
+        private final int[] impact;
+
+        /**
+         * The highest stack height inside each block, relative to its entry height.
+         */
+        private final int[] peak;
+
+        /**
+         * The number of local variables required by each block.
+         */
+        private final int[] locals;
+
+        /**
+         * Successor blocks of each block (excluding exception handlers).
+         */
+        private final int[][] successors;
+
+        /**
+         * Constructor.
+         * @param entries All the entries of the method.
+         * @param catches Try-catch blocks.
+         */
+        Graph(final BytecodeEntry[] entries, final List<BytecodeTryCatchBlock> catches) {
+            this.entries = entries;
+            final int total = entries.length;
+            this.labels = new HashMap<>(total);
+            this.owner = new int[total];
+            final int[] leaders = new int[total];
+            int count = 0;
+            for (int index = 0; index < total; ++index) {
+                final BytecodeEntry entry = entries[index];
+                if (index == 0 || entry.isLabel() || ControlFlow.terminal(entries[index - 1])) {
+                    leaders[count] = index;
+                    ++count;
+                }
+                this.owner[index] = count - 1;
+                if (entry.isLabel()) {
+                    this.labels.putIfAbsent((BytecodeLabel) entry, index);
+                }
+            }
+            this.starts = Arrays.copyOf(leaders, count);
+            this.offsets = new int[count + 1];
+            this.handlers = this.edges(catches);
+            this.summarized = new boolean[count];
+            this.impact = new int[count];
+            this.peak = new int[count];
+            this.locals = new int[count];
+            this.successors = new int[count][];
+        }
+
+        /**
+         * Run the worklist fixpoint over the block entry heights.
+         * @param initial Number of local variables occupied by the method arguments.
+         * @return Maxs.
+         */
+        BytecodeMaxs maxs(final int initial) {
+            final int count = this.starts.length;
+            final int[] heights = new int[count];
+            Arrays.fill(heights, ControlFlow.UNREACHED);
+            final boolean[] queued = new boolean[count];
+            final int[] pending = new int[count];
+            int size = 0;
+            heights[0] = 0;
+            pending[size] = 0;
+            ++size;
+            queued[0] = true;
+            int stack = ControlFlow.UNREACHED;
+            int vars = initial;
+            while (size > 0) {
+                --size;
+                final int block = pending[size];
+                queued[block] = false;
+                this.summarize(block);
+                final int height = heights[block];
+                stack = Math.max(stack, height + this.peak[block]);
+                vars = Math.max(vars, this.locals[block]);
+                final int out = height + this.impact[block];
+                for (final int next : this.successors[block]) {
+                    size = Graph.reach(next, out, heights, queued, pending, size);
+                }
+                for (int edge = this.offsets[block]; edge < this.offsets[block + 1]; ++edge) {
+                    size = Graph.reach(this.handlers[edge], 1, heights, queued, pending, size);
+                }
+            }
+            return new BytecodeMaxs(stack, vars);
+        }
+
+        /**
+         * Compute the summary of a block if it wasn't computed yet.
+         * @param block Block index.
+         */
+        private void summarize(final int block) {
+            if (!this.summarized[block]) {
+                final int start = this.starts[block];
+                final int end = this.end(block);
+                int height = 0;
+                int top = Integer.MIN_VALUE;
+                int vars = 0;
+                for (int index = start; index <= end; ++index) {
+                    final BytecodeEntry entry = this.entries[index];
+                    height += entry.impact();
+                    top = Math.max(top, height);
+                    if (entry instanceof BytecodeInstruction
+                        && ((BytecodeInstruction) entry).isVarInstruction()) {
+                        final BytecodeInstruction instruction = (BytecodeInstruction) entry;
+                        vars = Math.max(
+                            vars, instruction.varIndex() + Math.max(instruction.varSize(), 1)
+                        );
+                    }
+                }
+                this.impact[block] = height;
+                this.peak[block] = top;
+                this.locals[block] = vars;
+                this.successors[block] = this.next(block, this.entries[end]);
+                this.summarized[block] = true;
+            }
+        }
+
+        /**
+         * Successors of a block.
+         * @param block Block index.
+         * @param last The last entry of the block.
+         * @return Indexes of successor blocks.
+         */
+        private int[] next(final int block, final BytecodeEntry last) {
+            final boolean fallthrough = block + 1 < this.starts.length;
+            final int[] result;
+            if (last.isSwitch()) {
+                result = last.jumps().stream().mapToInt(this::block).toArray();
+            } else if (last.isIf()) {
+                final int target = this.block(last.jumps().get(0));
+                if (fallthrough) {
+                    result = new int[]{target, block + 1};
+                } else {
+                    result = new int[]{target};
+                }
+            } else if (last.isJump()) {
+                result = new int[]{this.block(last.jumps().get(0))};
+            } else if (last.isReturn() || last.isThrow() || !fallthrough) {
+                result = new int[0];
+            } else {
+                result = new int[]{block + 1};
+            }
+            return result;
+        }
+
+        /**
+         * Build exception handler edges.
+         * <p>A block gets an edge to a handler if it starts inside the try-catch
+         * range (end label included) and contains at least one entry that
+         * is not a branch, a return or a throw.</p>
+         * @param catches Try-catch blocks.
+         * @return Handler blocks, grouped by the block they are reachable from.
+         */
+        private int[] edges(final List<BytecodeTryCatchBlock> catches) {
+            final int size = catches.size();
+            final int[] from = new int[size];
+            final int[] upto = new int[size];
+            final int[] target = new int[size];
+            for (int index = 0; index < size; ++index) {
+                final BytecodeTryCatchBlock block = catches.get(index);
+                from[index] = this.block(block.startLabel());
+                upto[index] = this.block(block.endLabel());
+                target[index] = this.block(block.handlerLabel());
+            }
+            final int count = this.starts.length;
+            for (int index = 0; index < size; ++index) {
+                for (int block = from[index]; block <= upto[index]; ++block) {
+                    if (this.covered(block)) {
+                        ++this.offsets[block + 1];
+                    }
+                }
+            }
+            for (int block = 0; block < count; ++block) {
+                this.offsets[block + 1] += this.offsets[block];
+            }
+            final int[] result = new int[this.offsets[count]];
+            final int[] filled = Arrays.copyOf(this.offsets, count);
+            for (int index = 0; index < size; ++index) {
+                for (int block = from[index]; block <= upto[index]; ++block) {
+                    if (this.covered(block)) {
+                        result[filled[block]] = target[index];
+                        ++filled[block];
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Can the block throw into a covering try-catch handler?
+         * @param block Block index.
+         * @return True unless the block is a single branch, return or throw.
+         */
+        private boolean covered(final int block) {
+            final int start = this.starts[block];
+            return start != this.end(block) || !ControlFlow.terminal(this.entries[start]);
+        }
+
+        /**
+         * Index of the last entry of a block.
+         * @param block Block index.
+         * @return Entry index.
+         */
+        private int end(final int block) {
+            final int result;
+            if (block + 1 < this.starts.length) {
+                result = this.starts[block + 1] - 1;
+            } else {
+                result = this.entries.length - 1;
+            }
+            return result;
+        }
+
+        /**
+         * Block that starts with the label.
+         * @param label Label.
+         * @return Block index.
+         */
+        private int block(final BytecodeLabel label) {
+            final Integer index = this.labels.get(label);
+            if (index == null) {
+                throw new IllegalStateException(String.format("Label %s not found", label));
+            }
+            return this.owner[index];
+        }
+
+        /**
+         * Propagate the stack height to a block.
+         * @param block Target block.
+         * @param height Incoming stack height.
+         * @param heights Entry heights of all blocks.
+         * @param queued Which blocks are in the worklist already.
+         * @param pending Worklist.
+         * @param size Current worklist size.
+         * @return New worklist size.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private static int reach(
+            final int block,
+            final int height,
+            final int[] heights,
+            final boolean[] queued,
+            final int[] pending,
+            final int size
+        ) {
+            int result = size;
+            if (height > heights[block]) {
+                if (height > ControlFlow.LIMIT) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Stack height %d exceeds the JVM limit of %d, the method is probably malformed",
+                            height,
+                            ControlFlow.LIMIT
+                        )
+                    );
+                }
+                heights[block] = height;
+                if (!queued[block]) {
+                    queued[block] = true;
+                    pending[result] = block;
+                    ++result;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -5,10 +5,14 @@
 package org.eolang.jeo.representation.bytecode;
 
 import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.PluginStartup;
 import org.eolang.jeo.representation.DefaultVersion;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
@@ -27,29 +31,40 @@ public final class CustomClassWriter extends ClassVisitor {
      */
     private final ClassesAwareWriter writer;
 
+    /**
+     * Original class, if any.
+     */
+    private final Optional<ClassReader> original;
+
     /**
      * Constructor.
      */
     CustomClassWriter() {
-        this(new ClassesAwareWriter());
+        this(new ClassesAwareWriter(), Optional.empty());
     }
 
     /**
      * Constructor.
-     * @param writer Writer.
+     * <p>The constant pool and the bootstrap methods of the original class are copied
+     * to the new class, so the methods copied from the original class refer to the same
+     * constants, see {@link #copy(Set)}.</p>
+     * @param original Original class.
      */
-    private CustomClassWriter(final ClassesAwareWriter writer) {
-        this(new DefaultVersion().api(), writer);
+    CustomClassWriter(final ClassReader original) {
+        this(new ClassesAwareWriter(original), Optional.of(original));
     }
 
     /**
      * Constructor.
-     * @param api Java ASM API version.
      * @param writer Writer.
+     * @param original Original class, if any.
      */
-    private CustomClassWriter(final int api, final ClassesAwareWriter writer) {
-        super(api, writer);
+    private CustomClassWriter(
+        final ClassesAwareWriter writer, final Optional<ClassReader> original
+    ) {
+        super(new DefaultVersion().api(), writer);
         this.writer = writer;
+        this.original = original;
     }
 
     /**
@@ -60,6 +75,24 @@ public final class CustomClassWriter extends ClassVisitor {
         return new Bytecode(this.writer.toByteArray());
     }
 
+    /**
+     * Copy methods from the original class as they are.
+     * <p>The original class is read once for all the methods. Each of them goes
+     * straight from the reader to the writer, so ASM copies its bytes, with the code,
+     * frames, annotations and attributes, without visiting them, see
+     * {@link ClassWriter#ClassWriter(ClassReader, int)}.</p>
+     * @param methods Names and descriptors of the methods.
+     */
+    void copy(final Set<String> methods) {
+        final Copying copying = new Copying(this.writer, methods);
+        this.original.orElseThrow(
+            () -> new IllegalStateException(
+                String.format("There is no original class to copy the methods %s from", methods)
+            )
+        ).accept(copying, 0);
+        copying.verify();
+    }
+
     /**
      * Visits a method of the class.
      * @param access Access flags.
@@ -136,14 +169,77 @@ public final class CustomClassWriter extends ClassVisitor {
     }
 
     /**
-     * Class writer that knows about additional classes loaded.
-     * This class works in couple with {@link PluginStartup#init()} ()} method that sets
+     * Class visitor that passes the chosen methods of the original class straight
+     * to the writer and skips everything else.
+     * @since 0.15.0
+     */
+    private static final class Copying extends ClassVisitor {
+
+        /**
+         * Writer of the new class.
+         */
+        private final ClassWriter target;
+
+        /**
+         * Names and descriptors of the methods that are not copied yet.
+         */
+        private final Set<String> remaining;
+
+        /**
+         * Constructor.
+         * @param target Writer of the new class.
+         * @param methods Names and descriptors of the methods to copy.
+         */
+        Copying(final ClassWriter target, final Set<String> methods) {
+            super(new DefaultVersion().api());
+            this.target = target;
+            this.remaining = new HashSet<>(methods);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            final MethodVisitor result;
+            if (this.remaining.remove(String.format("%s%s", name, descriptor))) {
+                result = this.target.visitMethod(access, name, descriptor, signature, exceptions);
+            } else {
+                result = null;
+            }
+            return result;
+        }
+
+        /**
+         * Check that all the methods are copied.
+         */
+        void verify() {
+            if (!this.remaining.isEmpty()) {
+                throw new IllegalStateException(
+                    String.format(
+                        "The methods %s are not found in the original class", this.remaining
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Class writer that knows about additional classes.
+     * This class works in couple with {@link PluginStartup#init()} method that sets
      * the maven classloader as the current thread classloader.
-     * Originally we faced with the problem that {@link ClassWriter} uses classes from ClassLoader
-     * to perform {@link MethodVisitor#visitMaxs(int, int)} method and if it can't
-     * find the class it throws {@link ClassNotFoundException}. To prevent this we override
-     * {@link ClassWriter#getClassLoader()} method and return the current thread classloader that
-     * knows about all classes that were compiled on the previous maven phases.
+     * The writer itself is created without {@link ClassWriter#COMPUTE_FRAMES}, but
+     * frames of a method are still computed when it's visited by
+     * {@link CustomClassWriter#visitMethodWithoutFrames}, which switches the writer to
+     * computing all the frames for this method only. Then {@link ClassWriter} loads
+     * classes in {@link ClassWriter#getCommonSuperClass(String, String)} and if it
+     * can't find a class it throws {@link ClassNotFoundException}. To prevent this we
+     * override {@link ClassWriter#getCommonSuperClass(String, String)} and resolve the
+     * common super class with {@link ClassHierarchy}, which only reads class headers
+     * through the current thread classloader and never loads classes.
      * You can read more about this problem here:
      * - https://gitlab.ow2.org/asm/asm/-/issues/317918
      * - https://stackoverflow.com/questions/11292701/error-while-instrumenting-class-files-asm-classwriter-getcommonsuperclass
@@ -171,9 +267,23 @@ public final class CustomClassWriter extends ClassVisitor {
             super(flags);
         }
 
+        /**
+         * Constructor.
+         * Do not compute frames automatically.
+         * @param original Original class to copy the constant pool from.
+         */
+        ClassesAwareWriter(final ClassReader original) {
+            super(original, 0);
+        }
+
         @Override
         public final ClassLoader getClassLoader() {
             return Thread.currentThread().getContextClassLoader();
         }
+
+        @Override
+        protected final String getCommonSuperClass(final String first, final String second) {
+            return new ClassHierarchy().common(first, second);
+        }
     }
 }
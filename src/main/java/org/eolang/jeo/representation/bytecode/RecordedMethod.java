@@ -0,0 +1,372 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.Attribute;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.TypePath;
+
+/**
+ * Method body recorded to be written later.
+ *
+ * <p>It records all the calls of a method visitor in the order they were made and
+ * replays them to another visitor. Unlike {@link org.objectweb.asm.tree.MethodNode},
+ * which groups the calls by their kind, it doesn't change the order of the calls,
+ * so the class writer adds the constants to the pool in the same order and the
+ * bytecode is the same as if the calls were made to the class writer directly.</p>
+ *
+ * <p>The recording is filled by one thread and replayed by another one, but never
+ * concurrently.</p>
+ * @since 0.15.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.UseVarargs"})
+final class RecordedMethod extends MethodVisitor {
+
+    /**
+     * Recorded calls.
+     */
+    private final List<Consumer<MethodVisitor>> calls;
+
+    /**
+     * Constructor.
+     */
+    RecordedMethod() {
+        super(new DefaultVersion().api());
+        this.calls = new ArrayList<>(0);
+    }
+
+    /**
+     * Replay all the recorded calls.
+     * @param visitor Visitor to make the calls to
+     */
+    void replay(final MethodVisitor visitor) {
+        this.calls.forEach(call -> call.accept(visitor));
+    }
+
+    @Override
+    public void visitParameter(final String name, final int access) {
+        this.calls.add(visitor -> visitor.visitParameter(name, access));
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotationDefault() {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(visitor -> result.replay(visitor.visitAnnotationDefault()));
+        return result;
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(visitor -> result.replay(visitor.visitAnnotation(descriptor, visible)));
+        return result;
+    }
+
+    @Override
+    public AnnotationVisitor visitTypeAnnotation(
+        final int ref, final TypePath path, final String descriptor, final boolean visible
+    ) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(
+            visitor -> result.replay(visitor.visitTypeAnnotation(ref, path, descriptor, visible))
+        );
+        return result;
+    }
+
+    @Override
+    public void visitAnnotableParameterCount(final int count, final boolean visible) {
+        this.calls.add(visitor -> visitor.visitAnnotableParameterCount(count, visible));
+    }
+
+    @Override
+    public AnnotationVisitor visitParameterAnnotation(
+        final int parameter, final String descriptor, final boolean visible
+    ) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(
+            visitor -> result.replay(
+                visitor.visitParameterAnnotation(parameter, descriptor, visible)
+            )
+        );
+        return result;
+    }
+
+    @Override
+    public void visitAttribute(final Attribute attribute) {
+        this.calls.add(visitor -> visitor.visitAttribute(attribute));
+    }
+
+    @Override
+    public void visitCode() {
+        this.calls.add(MethodVisitor::visitCode);
+    }
+
+    @Override
+    public void visitFrame(
+        final int type,
+        final int nlocal,
+        final Object[] local,
+        final int nstack,
+        final Object[] stack
+    ) {
+        final Object[] locals = RecordedMethod.copy(local);
+        final Object[] stacks = RecordedMethod.copy(stack);
+        this.calls.add(visitor -> visitor.visitFrame(type, nlocal, locals, nstack, stacks));
+    }
+
+    @Override
+    public void visitInsn(final int opcode) {
+        this.calls.add(visitor -> visitor.visitInsn(opcode));
+    }
+
+    @Override
+    public void visitIntInsn(final int opcode, final int operand) {
+        this.calls.add(visitor -> visitor.visitIntInsn(opcode, operand));
+    }
+
+    @Override
+    public void visitVarInsn(final int opcode, final int index) {
+        this.calls.add(visitor -> visitor.visitVarInsn(opcode, index));
+    }
+
+    @Override
+    public void visitTypeInsn(final int opcode, final String type) {
+        this.calls.add(visitor -> visitor.visitTypeInsn(opcode, type));
+    }
+
+    @Override
+    public void visitFieldInsn(
+        final int opcode, final String owner, final String name, final String descriptor
+    ) {
+        this.calls.add(visitor -> visitor.visitFieldInsn(opcode, owner, name, descriptor));
+    }
+
+    @Override
+    public void visitMethodInsn(
+        final int opcode,
+        final String owner,
+        final String name,
+        final String descriptor,
+        final boolean isinterface
+    ) {
+        this.calls.add(
+            visitor -> visitor.visitMethodInsn(opcode, owner, name, descriptor, isinterface)
+        );
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(
+        final String name,
+        final String descriptor,
+        final Handle handle,
+        final Object... arguments
+    ) {
+        final Object[] args = arguments.clone();
+        this.calls.add(visitor -> visitor.visitInvokeDynamicInsn(name, descriptor, handle, args));
+    }
+
+    @Override
+    public void visitJumpInsn(final int opcode, final Label label) {
+        this.calls.add(visitor -> visitor.visitJumpInsn(opcode, label));
+    }
+
+    @Override
+    public void visitLabel(final Label label) {
+        this.calls.add(visitor -> visitor.visitLabel(label));
+    }
+
+    @Override
+    public void visitLdcInsn(final Object value) {
+        this.calls.add(visitor -> visitor.visitLdcInsn(value));
+    }
+
+    @Override
+    public void visitIincInsn(final int index, final int increment) {
+        this.calls.add(visitor -> visitor.visitIincInsn(index, increment));
+    }
+
+    @Override
+    public void visitTableSwitchInsn(
+        final int min, final int max, final Label dflt, final Label... labels
+    ) {
+        final Label[] all = labels.clone();
+        this.calls.add(visitor -> visitor.visitTableSwitchInsn(min, max, dflt, all));
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(final Label dflt, final int[] keys, final Label[] labels) {
+        final int[] all = keys.clone();
+        final Label[] targets = labels.clone();
+        this.calls.add(visitor -> visitor.visitLookupSwitchInsn(dflt, all, targets));
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(final String descriptor, final int dims) {
+        this.calls.add(visitor -> visitor.visitMultiANewArrayInsn(descriptor, dims));
+    }
+
+    @Override
+    public AnnotationVisitor visitInsnAnnotation(
+        final int ref, final TypePath path, final String descriptor, final boolean visible
+    ) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(
+            visitor -> result.replay(visitor.visitInsnAnnotation(ref, path, descriptor, visible))
+        );
+        return result;
+    }
+
+    @Override
+    public void visitTryCatchBlock(
+        final Label start, final Label end, final Label handler, final String type
+    ) {
+        this.calls.add(visitor -> visitor.visitTryCatchBlock(start, end, handler, type));
+    }
+
+    @Override
+    public AnnotationVisitor visitTryCatchAnnotation(
+        final int ref, final TypePath path, final String descriptor, final boolean visible
+    ) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        this.calls.add(
+            visitor -> result.replay(
+                visitor.visitTryCatchAnnotation(ref, path, descriptor, visible)
+            )
+        );
+        return result;
+    }
+
+    @Override
+    public void visitLocalVariable(
+        final String name,
+        final String descriptor,
+        final String signature,
+        final Label start,
+        final Label end,
+        final int index
+    ) {
+        this.calls.add(
+            visitor -> visitor.visitLocalVariable(name, descriptor, signature, start, end, index)
+        );
+    }
+
+    @Override
+    public AnnotationVisitor visitLocalVariableAnnotation(
+        final int ref,
+        final TypePath path,
+        final Label[] start,
+        final Label[] end,
+        final int[] index,
+        final String descriptor,
+        final boolean visible
+    ) {
+        final RecordedAnnotation result = new RecordedAnnotation();
+        final Label[] starts = start.clone();
+        final Label[] ends = end.clone();
+        final int[] indexes = index.clone();
+        this.calls.add(
+            visitor -> result.replay(
+                visitor.visitLocalVariableAnnotation(
+                    ref, path, starts, ends, indexes, descriptor, visible
+                )
+            )
+        );
+        return result;
+    }
+
+    @Override
+    public void visitLineNumber(final int line, final Label start) {
+        this.calls.add(visitor -> visitor.visitLineNumber(line, start));
+    }
+
+    @Override
+    public void visitMaxs(final int stack, final int locals) {
+        this.calls.add(visitor -> visitor.visitMaxs(stack, locals));
+    }
+
+    @Override
+    public void visitEnd() {
+        this.calls.add(MethodVisitor::visitEnd);
+    }
+
+    /**
+     * Copy of an array that may be absent.
+     * @param array Array or null
+     * @return Copy or null
+     */
+    private static Object[] copy(final Object[] array) {
+        final Object[] result;
+        if (array == null) {
+            result = null;
+        } else {
+            result = array.clone();
+        }
+        return result;
+    }
+
+    /**
+     * Annotation recorded to be written later.
+     * @since 0.15.0
+     */
+    private static final class RecordedAnnotation extends AnnotationVisitor {
+
+        /**
+         * Recorded calls.
+         */
+        private final List<Consumer<AnnotationVisitor>> calls;
+
+        /**
+         * Constructor.
+         */
+        RecordedAnnotation() {
+            super(new DefaultVersion().api());
+            this.calls = new ArrayList<>(0);
+        }
+
+        /**
+         * Replay all the recorded calls.
+         * @param visitor Visitor to make the calls to
+         */
+        void replay(final AnnotationVisitor visitor) {
+            this.calls.forEach(call -> call.accept(visitor));
+        }
+
+        @Override
+        public void visit(final String name, final Object value) {
+            this.calls.add(visitor -> visitor.visit(name, value));
+        }
+
+        @Override
+        public void visitEnum(final String name, final String descriptor, final String value) {
+            this.calls.add(visitor -> visitor.visitEnum(name, descriptor, value));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(final String name, final String descriptor) {
+            final RecordedAnnotation result = new RecordedAnnotation();
+            this.calls.add(visitor -> result.replay(visitor.visitAnnotation(name, descriptor)));
+            return result;
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(final String name) {
+            final RecordedAnnotation result = new RecordedAnnotation();
+            this.calls.add(visitor -> result.replay(visitor.visitArray(name)));
+            return result;
+        }
+
+        @Override
+        public void visitEnd() {
+            this.calls.add(AnnotationVisitor::visitEnd);
+        }
+    }
+}
@@ -103,9 +103,7 @@ public final class DirectivesAbsractObject implements Iterable<Directive> {
             directives.attr("name", this.name);
         }
         directives.append(new DirectivesValue(this.format, "base", this.base));
-        if (this.internal.iterator().hasNext()) {
-            directives.append(this.internal);
-        }
+        directives.append(this.internal);
         directives.up();
         return directives.iterator();
     }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.PrefixedName;
 import org.xembly.Directive;
@@ -173,10 +174,29 @@ public final class DirectivesClass implements Iterable<Directive> {
             new PrefixedName(this.name.name()).encode(),
             this.properties,
             new DirectivesValue(this.format, "name", this.name.full().replace('.', '/')),
-            this.fields.stream().map(Directives::new).reduce(new Directives(), Directives::append),
-            this.methods.stream().map(Directives::new).reduce(new Directives(), Directives::append),
+            new DirectivesJoined(this.fields),
+            new DirectivesJoined(this.mdirectives()),
             this.annotations,
             this.attributes
         ).iterator();
     }
+
+    /**
+     * Directives of methods.
+     * <p>Methods of a large class are materialised in parallel, each one
+     * independently of the others, and joined in the original order,
+     * so the directives are the same as of the serial materialisation.</p>
+     * @return Directives of methods
+     */
+    private List<? extends Iterable<Directive>> mdirectives() {
+        final List<? extends Iterable<Directive>> result;
+        if (this.format.parallel(this.methods.size())) {
+            result = this.methods.parallelStream()
+                .map(Directives::new)
+                .collect(Collectors.toList());
+        } else {
+            result = this.methods;
+        }
+        return result;
+    }
 }
@@ -92,9 +92,7 @@ public final class DirectivesClosedObject implements Iterable<Directive> {
             directives.attr("name", this.name);
         }
         directives.attr("base", this.base);
-        if (this.internal.iterator().hasNext()) {
-            directives.append(this.internal);
-        }
+        directives.append(this.internal);
         directives.up();
         return directives.iterator();
     }
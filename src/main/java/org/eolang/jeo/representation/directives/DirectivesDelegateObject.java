@@ -96,9 +96,7 @@ public final class DirectivesDelegateObject implements Iterable<Directive> {
             directives.attr("name", this.name);
         }
         directives.append(new DirectivesSimpleDelegate(this.base));
-        if (this.internal.iterator().hasNext()) {
-            directives.append(this.internal);
-        }
+        directives.append(this.internal);
         directives.up();
         return directives.iterator();
     }
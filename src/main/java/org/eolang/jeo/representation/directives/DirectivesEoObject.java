@@ -64,7 +64,7 @@ public final class DirectivesEoObject implements Iterable<Directive> {
             new EoFqn(this.base).fqn(),
             "",
             this.name,
-            this.inner.stream().reduce(new Directives(), Directives::append)
+            new DirectivesJoined(this.inner)
         ).iterator();
     }
 }
@@ -81,10 +81,18 @@ public final class DirectivesFrame implements Iterable<Directive> {
 
     /**
      * Attribute name.
+     * <p>If the output must be reproducible, the name is made of the index of
+     * the frame, otherwise of the identity hash code.</p>
      * @param attribute Attribute name.
      * @return Attribute name.
      */
     private String name(final String attribute) {
-        return String.format("%s-%d", attribute, this.hashCode());
+        final int suffix;
+        if (this.format.reproducible()) {
+            suffix = this.index;
+        } else {
+            suffix = this.hashCode();
+        }
+        return String.format("%s-%d", attribute, suffix);
     }
 }
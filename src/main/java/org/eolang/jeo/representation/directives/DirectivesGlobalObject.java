@@ -66,7 +66,7 @@ public final class DirectivesGlobalObject implements Iterable<Directive> {
             new JeoFqn(this.base).fqn(),
             "",
             this.name,
-            this.inner.stream().reduce(new Directives(), Directives::append)
+            new DirectivesJoined(this.inner)
         ).iterator();
     }
 }
@@ -82,7 +82,7 @@ public final class DirectivesJeoObject implements Iterable<Directive> {
             new JeoFqn(this.base).fqn(),
             "",
             this.name,
-            this.inner.stream().reduce(new Directives(), Directives::append)
+            new DirectivesJoined(this.inner)
         ).iterator();
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.directives;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import org.xembly.Directive;
+
+/**
+ * Directives of several parts, one after another.
+ *
+ * <p>It's a view over the parts, nothing is copied. Usually the parts are
+ * already materialised {@link org.xembly.Directives}, so the object that
+ * includes the joined directives copies each of them only once,
+ * instead of folding them into a new {@link org.xembly.Directives} first.</p>
+ * @since 0.15.0
+ */
+final class DirectivesJoined implements Iterable<Directive> {
+
+    /**
+     * Parts.
+     */
+    private final List<? extends Iterable<Directive>> parts;
+
+    /**
+     * Constructor.
+     * @param parts Parts
+     */
+    DirectivesJoined(final List<? extends Iterable<Directive>> parts) {
+        this.parts = parts;
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        return this.parts.stream()
+            .flatMap(part -> StreamSupport.stream(part.spliterator(), false))
+            .iterator();
+    }
+}
@@ -22,12 +22,27 @@ public final class DirectivesMetas implements Iterable<Directive> {
      */
     private final ClassName name;
 
+    /**
+     * Format of the directives.
+     */
+    private final Format format;
+
     /**
      * Constructor.
      * @param classname Class name.
      */
     public DirectivesMetas(final ClassName classname) {
+        this(classname, new Format());
+    }
+
+    /**
+     * Constructor.
+     * @param classname Class name.
+     * @param format Format of the directives.
+     */
+    public DirectivesMetas(final ClassName classname, final Format format) {
         this.name = classname;
+        this.format = format;
     }
 
     @Override
@@ -39,9 +54,26 @@ public final class DirectivesMetas implements Iterable<Directive> {
         }
         result.append(DirectivesMetas.spdx());
         result.append(DirectivesMetas.version());
+        if (this.format.signatures()) {
+            result.append(this.mode());
+        }
         return result.up().iterator();
     }
 
+    /**
+     * Disassemble mode directives.
+     * The mode is added only if XMIR can't be assembled back, so the assembler
+     * can refuse it.
+     * @return Directives for mode.
+     */
+    private Directives mode() {
+        return new Directives()
+            .add("meta")
+            .add("head").set("mode").up()
+            .add("tail").set(this.format.mode()).up()
+            .up();
+    }
+
     /**
      * Home directives.
      * @return Directives for home.
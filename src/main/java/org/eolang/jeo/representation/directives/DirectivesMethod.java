@@ -65,6 +65,11 @@ public final class DirectivesMethod implements Iterable<Directive> {
      */
     private final DirectivesAttributes attributes;
 
+    /**
+     * Code of the method kept as it is.
+     */
+    private final Iterable<Directive> opaque;
+
     /**
      * Constructor.
      * @param name Method name
@@ -115,6 +120,36 @@ public final class DirectivesMethod implements Iterable<Directive> {
         final DirectivesAnnotations annotations,
         final List<Iterable<Directive>> dvalue,
         final DirectivesAttributes attributes
+    ) {
+        this(
+            format, name, properties, instructions, exceptions,
+            annotations, dvalue, attributes, new Directives()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param format Directives format
+     * @param name Method name
+     * @param properties Method properties
+     * @param instructions Method instructions
+     * @param exceptions Method exceptions
+     * @param annotations Method annotations
+     * @param dvalue Annotation default value
+     * @param attributes Method attributes
+     * @param opaque Code of the method kept as it is, empty if it's disassembled
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DirectivesMethod(
+        final Format format,
+        final NumberedName name,
+        final DirectivesMethodProperties properties,
+        final List<Iterable<Directive>> instructions,
+        final List<Iterable<Directive>> exceptions,
+        final DirectivesAnnotations annotations,
+        final List<Iterable<Directive>> dvalue,
+        final DirectivesAttributes attributes,
+        final Iterable<Directive> opaque
     ) {
         this.format = format;
         this.name = name;
@@ -124,6 +159,7 @@ public final class DirectivesMethod implements Iterable<Directive> {
         this.annotations = annotations;
         this.dvalue = dvalue;
         this.attributes = attributes;
+        this.opaque = opaque;
     }
 
     /**
@@ -170,6 +206,7 @@ public final class DirectivesMethod implements Iterable<Directive> {
                     this.dvalue.stream(),
                     Stream.of(
                         this.attributes,
+                        this.opaque,
                         new DirectivesValue(this.format, "name", mname)
                     )
                 )
@@ -141,9 +141,11 @@ public final class DirectivesMethodProperties implements Iterable<Directive> {
             .append(new DirectivesValue(this.format, "signature", this.signature))
             .append(
                 new DirectivesOptionalValues(this.format, "exceptions", (Object[]) this.exceptions)
-            )
-            .append(this.max.get())
-            .append(this.params);
+            );
+        if (!this.format.signatures()) {
+            dirs.append(this.max.get());
+        }
+        dirs.append(this.params);
         if (this.format.modifiers()) {
             dirs.append(new DirectivesMethodModifiers(this.format, this.access));
         }
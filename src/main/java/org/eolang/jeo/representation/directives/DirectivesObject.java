@@ -5,6 +5,7 @@
 package org.eolang.jeo.representation.directives;
 
 import com.jcabi.manifests.Manifests;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -86,15 +87,13 @@ public final class DirectivesObject implements Iterable<Directive> {
 
     @Override
     public Iterator<Directive> iterator() {
-        final String now = ZonedDateTime.now(ZoneOffset.UTC)
-            .format(DateTimeFormatter.ISO_INSTANT);
         final Directives directives = new Directives()
             .add("object")
             .attr("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance")
             .attr("version", Manifests.read("JEO-Version"))
             .attr("revision", Manifests.read("JEO-Revision"))
             .attr("dob", Manifests.read("JEO-Dob"))
-            .attr("time", now)
+            .attr("time", this.time())
             .attr("xsi:noNamespaceSchemaLocation", "https://www.eolang.org/xsd/XMIR-0.57.0.xsd");
         final String listing = this.format.listing();
         if (!listing.isEmpty()) {
@@ -105,4 +104,19 @@ public final class DirectivesObject implements Iterable<Directive> {
         directives.up();
         return directives.iterator();
     }
+
+    /**
+     * Time of disassembling.
+     * <p>If the output must be reproducible, the time is fixed to the epoch.</p>
+     * @return Time in ISO format.
+     */
+    private String time() {
+        final ZonedDateTime time;
+        if (this.format.reproducible()) {
+            time = Instant.EPOCH.atZone(ZoneOffset.UTC);
+        } else {
+            time = ZonedDateTime.now(ZoneOffset.UTC);
+        }
+        return time.format(DateTimeFormatter.ISO_INSTANT);
+    }
 }
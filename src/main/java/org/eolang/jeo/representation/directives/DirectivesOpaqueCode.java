@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.directives;
+
+import java.util.Iterator;
+import org.xembly.Directive;
+
+/**
+ * Opaque code of a method directives.
+ * <p>The code is a class file with a single method, written as hex bytes.</p>
+ * @since 0.15.0
+ */
+public final class DirectivesOpaqueCode implements Iterable<Directive> {
+
+    /**
+     * Format of the directives.
+     */
+    private final Format format;
+
+    /**
+     * Class file with the single method.
+     */
+    private final byte[] clazz;
+
+    /**
+     * Constructor.
+     * @param format Format of the directives.
+     * @param clazz Class file with the single method.
+     */
+    public DirectivesOpaqueCode(final Format format, final byte[] clazz) {
+        this.format = format;
+        this.clazz = clazz.clone();
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        return new DirectivesJeoObject(
+            "opaque-code",
+            "opaque",
+            new DirectivesValue(this.format, "code", this.clazz)
+        ).iterator();
+    }
+}
@@ -10,8 +10,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.cactoos.scalar.LengthOf;
-import org.cactoos.scalar.Unchecked;
 import org.xembly.Directive;
 import org.xembly.Directives;
 
@@ -63,9 +61,7 @@ public final class DirectivesSeq implements Iterable<Directive> {
 
     @Override
     public Iterator<Directive> iterator() {
-        final List<Directives> all = this.stream()
-            .map(Directives::new)
-            .collect(Collectors.toList());
+        final List<Directives> all = this.stream().collect(Collectors.toList());
         return new DirectivesJeoObject(
             String.format("seq.of%d", all.size()),
             this.name,
@@ -74,13 +70,30 @@ public final class DirectivesSeq implements Iterable<Directive> {
     }
 
     /**
-     * Stream of directives.
+     * Stream of non-empty elements.
+     * <p>Each element is materialised exactly once; emptiness is checked
+     * on the materialised directives.</p>
      * @return Stream of directives.
      */
     private Stream<Directives> stream() {
         return this.directives.stream()
             .filter(Objects::nonNull)
-            .filter(dirs -> new Unchecked<>(new LengthOf(dirs)).value() > 0)
-            .map(Directives::new);
+            .map(DirectivesSeq::materialised)
+            .filter(dirs -> dirs.iterator().hasNext());
+    }
+
+    /**
+     * Materialise the element, unless it's materialised already.
+     * @param element Element
+     * @return Directives
+     */
+    private static Directives materialised(final Iterable<Directive> element) {
+        final Directives result;
+        if (element instanceof Directives) {
+            result = (Directives) element;
+        } else {
+            result = new Directives(element);
+        }
+        return result;
     }
 }
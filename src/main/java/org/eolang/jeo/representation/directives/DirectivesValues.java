@@ -4,6 +4,7 @@
  */
 package org.eolang.jeo.representation.directives;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Locale;
@@ -92,8 +93,14 @@ public final class DirectivesValues implements Iterable<Directive> {
      */
     private String nonEmptyName() {
         final String result;
-        if (this.name.isEmpty()) {
-            result = DirectivesValues.randomName();
+        if (this.name.isEmpty() && this.format.reproducible()) {
+            result = DirectivesValues.letters(
+                UUID.nameUUIDFromBytes(
+                    Arrays.deepToString(this.values).getBytes(StandardCharsets.UTF_8)
+                )
+            );
+        } else if (this.name.isEmpty()) {
+            result = DirectivesValues.letters(UUID.randomUUID());
         } else {
             result = this.name;
         }
@@ -101,12 +108,15 @@ public final class DirectivesValues implements Iterable<Directive> {
     }
 
     /**
-     * Generate random name.
-     * @return Random name.
+     * Name made of the UUID.
+     * <p>If the output must be reproducible, the UUID is made of the values,
+     * otherwise it's random.</p>
+     * @param uuid UUID.
+     * @return Name that starts with a letter.
      */
-    private static String randomName() {
+    private static String letters(final UUID uuid) {
         return DirectivesValues.DIGITS.matcher(
-            UUID.randomUUID().toString().toLowerCase(Locale.getDefault())
+            uuid.toString().toLowerCase(Locale.getDefault())
         ).replaceAll("a");
     }
 }
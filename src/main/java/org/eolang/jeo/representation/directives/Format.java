@@ -7,7 +7,9 @@ package org.eolang.jeo.representation.directives;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import org.eolang.jeo.representation.MethodFilter;
 
 /**
  * Output format of the XMIR representation.
@@ -57,6 +59,43 @@ public final class Format {
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     public static final String MODE = "mode";
 
+    /**
+     * Minimal number of methods in a class to process them in parallel.
+     * Expected to be an integer value, zero means that methods are always
+     * processed one by one.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String PARALLEL = "parallel";
+
+    /**
+     * Filter of methods whose code is disassembled.
+     * Expected to be a {@link MethodFilter}, the code of all the methods
+     * is disassembled if it's absent.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String FILTER = "filter";
+
+    /**
+     * Should fingerprints of methods be added to the metas.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String FINGERPRINTS = "fingerprints";
+
+    /**
+     * Should the output be the same for the same bytecode.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String REPRODUCIBLE = "reproducible";
+
+    /**
+     * Should XMIR files be compressed with gzip.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String COMPRESS = "compress";
+
     /**
      * All properties of the format.
      */
@@ -135,6 +174,104 @@ public final class Format {
         return this.string(Format.MODE);
     }
 
+    /**
+     * Should only signatures of methods be included in the output, without their code.
+     * It's the case for the 'signatures' mode.
+     * @return True if methods have no code, false otherwise.
+     */
+    public boolean signatures() {
+        return "signatures".equalsIgnoreCase(this.mode());
+    }
+
+    /**
+     * Minimal number of methods in a class to process them in parallel.
+     * @return Number of methods, or zero if methods are never processed in parallel.
+     */
+    public int parallel() {
+        return this.number(Format.PARALLEL);
+    }
+
+    /**
+     * Should methods of a class with this many methods be processed in parallel.
+     * @param methods Number of methods in the class.
+     * @return True if methods are processed in parallel, false otherwise.
+     */
+    public boolean parallel(final int methods) {
+        final int threshold = this.parallel();
+        return threshold > 0 && methods >= threshold;
+    }
+
+    /**
+     * Filter of methods whose code is disassembled.
+     * @return Filter of methods.
+     */
+    public MethodFilter filter() {
+        final MethodFilter result;
+        final Object value = this.properties.get(Format.FILTER);
+        if (value == null) {
+            result = new MethodFilter();
+        } else if (value instanceof MethodFilter) {
+            result = (MethodFilter) value;
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Property '%s' is not a filter of methods", Format.FILTER)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Should fingerprints of methods be added to the metas.
+     * <p>The assembler compares them with the methods it reads, so the code of
+     * unchanged methods can be taken from the original class.</p>
+     * @return True if fingerprints are added, false otherwise.
+     */
+    public boolean fingerprints() {
+        return this.bool(Format.FINGERPRINTS);
+    }
+
+    /**
+     * Should the output be the same for the same bytecode.
+     * <p>The time of disassembling is fixed and not measured, and the names of labels
+     * and of anonymous values don't depend on the run.</p>
+     * @return True if the output is reproducible, false otherwise.
+     */
+    public boolean reproducible() {
+        return this.bool(Format.REPRODUCIBLE);
+    }
+
+    /**
+     * Should XMIR files be compressed with gzip.
+     * <p>Compressed files get the '.xmir.gz' extension, both the assembler
+     * and the XMIR verification read them as well as plain ones.</p>
+     * @return True if XMIR is compressed, false otherwise.
+     */
+    public boolean compress() {
+        return this.bool(Format.COMPRESS);
+    }
+
+    /**
+     * The properties that affect the output, sorted by name.
+     * <p>Two formats that produce the same XMIR have the same salt, so it can be used
+     * as a part of a cache key. The number of methods to disassemble in parallel
+     * is left out, since the output is the same anyway.</p>
+     * @return Salt of the format.
+     */
+    public String salt() {
+        final Map<String, Object> sorted = new TreeMap<>(this.properties);
+        sorted.remove(Format.PARALLEL);
+        return sorted.toString();
+    }
+
+    /**
+     * All the properties sorted by name.
+     * @return String representation of the format.
+     */
+    @Override
+    public String toString() {
+        return new TreeMap<>(this.properties).toString();
+    }
+
     /**
      * Get the boolean property.
      * @param name Name of the property.
@@ -179,6 +316,28 @@ public final class Format {
         return result;
     }
 
+    /**
+     * Integer property.
+     * @param name Name of the property.
+     * @return Integer value of the property.
+     */
+    private int number(final String name) {
+        final int result;
+        if (this.properties.containsKey(name)) {
+            final Object value = this.properties.get(name);
+            if (value instanceof Integer) {
+                result = (Integer) value;
+            } else {
+                throw new IllegalArgumentException(
+                    String.format("Property '%s' is not an integer", name)
+                );
+            }
+        } else {
+            result = 0;
+        }
+        return result;
+    }
+
     /**
      * Parse pairs of properties into a map.
      * @param map Initial map to populate.
@@ -216,6 +375,7 @@ public final class Format {
         props.put(Format.WITH_LISTING, false);
         props.put(Format.PRETTY, true);
         props.put(Format.MODE, "short");
+        props.put(Format.PARALLEL, 0);
         return props;
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import org.eolang.jeo.representation.asm.DisassembleMode;
+
+/**
+ * Disassemble mode of XMIR that is going to be assembled.
+ *
+ * <p>XMIR disassembled in some modes doesn't contain enough to assemble the class back,
+ * for example, in the 'signatures' mode it has no code of methods. Such XMIR has
+ * the 'mode' meta, and the assembler refuses it instead of producing a broken class.</p>
+ * @since 0.15.0
+ */
+final class AssemblableMode {
+
+    /**
+     * Mode from the metas.
+     */
+    private final String mode;
+
+    /**
+     * Constructor.
+     * @param mode Mode from the metas
+     */
+    AssemblableMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Make sure XMIR can be assembled.
+     * @param source Where XMIR comes from, a file or a class, for the error message
+     * @throws IllegalArgumentException If XMIR can't be assembled
+     */
+    void verify(final Object source) {
+        if (!DisassembleMode.fromString(this.mode).assemblable()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "XMIR from '%s' was disassembled in the '%s' mode, it doesn't contain the code of methods and can't be assembled, disassemble it in the 'short' or 'debug' mode",
+                    source,
+                    this.mode
+                )
+            );
+        }
+    }
+}
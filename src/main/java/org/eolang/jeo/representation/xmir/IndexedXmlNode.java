@@ -0,0 +1,239 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * XML node with indexed children.
+ *
+ * <p>Most of the XMIR objects are delegates: their first child is the {@code @} object
+ * with the base, and the rest of the children are the parts of the object, which are
+ * found by their {@code name} or by their own base. Without an index, each of these
+ * lookups scans and wraps all the children again, so reading a method with a dozen
+ * parts takes a dozen passes over its children. This node collects the children once,
+ * on the first request, and indexes the parts by name and base, so the lookups take
+ * constant time and the whole traversal of XMIR is linear.</p>
+ *
+ * <p>The children are indexed nodes too, so the index of each node is built at most once,
+ * no matter how many objects wrap it. The node is not thread-safe, it's expected to be
+ * read by one thread.</p>
+ * @since 0.15.0
+ */
+final class IndexedXmlNode implements XmlNode {
+
+    /**
+     * Original node.
+     */
+    private final XmlNode origin;
+
+    /**
+     * All the 'o' children.
+     */
+    private final Unchecked<List<XmlNode>> objects;
+
+    /**
+     * The first part with the name, by name.
+     */
+    private final Unchecked<Map<String, XmlNode>> names;
+
+    /**
+     * All the parts with the base, by base.
+     */
+    private final Unchecked<Map<String, List<XmlNode>>> bases;
+
+    /**
+     * Constructor.
+     * @param origin Original node
+     */
+    IndexedXmlNode(final XmlNode origin) {
+        this.origin = origin;
+        this.objects = new Unchecked<>(
+            new Sticky<>(
+                () -> Collections.unmodifiableList(
+                    origin.children().map(IndexedXmlNode::of).collect(Collectors.toList())
+                )
+            )
+        );
+        this.names = new Unchecked<>(new Sticky<>(this::byName));
+        this.bases = new Unchecked<>(new Sticky<>(this::byBase));
+    }
+
+    /**
+     * Indexed node.
+     * @param node Node
+     * @return The same node, if it's indexed already, or a new indexed node
+     */
+    static IndexedXmlNode of(final XmlNode node) {
+        final IndexedXmlNode result;
+        if (node instanceof IndexedXmlNode) {
+            result = (IndexedXmlNode) node;
+        } else {
+            result = new IndexedXmlNode(node);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean result;
+        if (other instanceof IndexedXmlNode) {
+            result = this.origin.equals(((IndexedXmlNode) other).origin);
+        } else {
+            result = this.origin.equals(other);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.origin.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Stream<XmlNode> children() {
+        return this.objects.value().stream();
+    }
+
+    @Override
+    public String text() {
+        return this.origin.text();
+    }
+
+    @Override
+    public Optional<String> attribute(final String name) {
+        return this.origin.attribute(name);
+    }
+
+    @Override
+    public XmlNode child(final String name) {
+        return IndexedXmlNode.of(this.origin.child(name));
+    }
+
+    @Override
+    public List<String> xpath(final String xpath) {
+        return this.origin.xpath(xpath);
+    }
+
+    @Override
+    public void validate() {
+        this.origin.validate();
+    }
+
+    /**
+     * All the 'o' children.
+     * @return Children, without copying
+     */
+    List<XmlNode> objects() {
+        return this.objects.value();
+    }
+
+    /**
+     * Parts of the delegate object: all the 'o' children except the first one.
+     * @return Parts, without copying
+     */
+    List<XmlNode> parts() {
+        final List<XmlNode> all = this.objects();
+        if (all.isEmpty()) {
+            throw new IllegalStateException(
+                String.format(
+                    "The '%s' node doesn't have any children, but it should have at least one",
+                    this.origin
+                )
+            );
+        }
+        return all.subList(1, all.size());
+    }
+
+    /**
+     * Base of the delegate object, the base of its first '@' child.
+     * @return Base, if the first child is '@'
+     */
+    Optional<String> base() {
+        return this.objects().stream()
+            .findFirst()
+            .filter(child -> child.attribute("name").map("@"::equals).orElse(false))
+            .map(child -> new XmlSimpleDelegate(child).base());
+    }
+
+    /**
+     * The first part with exactly this name.
+     * @param name Name
+     * @return Part
+     */
+    Optional<XmlNode> named(final String name) {
+        return Optional.ofNullable(this.names.value().get(name));
+    }
+
+    /**
+     * The first part with exactly this name, or the first part whose name matches.
+     * <p>Parts are usually found by their exact name, so the slow scan of all the parts
+     * is done only if there is no part with exactly this name.</p>
+     * @param name Name
+     * @param matches Whether the name of another part matches
+     * @return Part
+     */
+    Optional<XmlNode> named(final String name, final Predicate<String> matches) {
+        Optional<XmlNode> result = this.named(name);
+        if (!result.isPresent()) {
+            result = this.parts().stream()
+                .filter(part -> part.attribute("name").map(matches::test).orElse(false))
+                .findFirst();
+        }
+        return result;
+    }
+
+    /**
+     * All the parts with the base, in the document order.
+     * @param base Base
+     * @return Parts
+     */
+    Stream<XmlNode> based(final String base) {
+        return this.bases.value().getOrDefault(base, Collections.emptyList()).stream();
+    }
+
+    /**
+     * Index parts by name.
+     * @return The first part with the name, by name
+     */
+    private Map<String, XmlNode> byName() {
+        final List<XmlNode> parts = this.parts();
+        final Map<String, XmlNode> result = new HashMap<>(parts.size());
+        for (final XmlNode part : parts) {
+            part.attribute("name").ifPresent(name -> result.putIfAbsent(name, part));
+        }
+        return result;
+    }
+
+    /**
+     * Index parts by base.
+     * @return All the parts with the base, by base
+     */
+    private Map<String, List<XmlNode>> byBase() {
+        final List<XmlNode> parts = this.parts();
+        final Map<String, List<XmlNode>> result = new HashMap<>(parts.size());
+        for (final XmlNode part : parts) {
+            IndexedXmlNode.of(part).base().ifPresent(
+                base -> result.computeIfAbsent(base, key -> new ArrayList<>(1)).add(part)
+            );
+        }
+        return result;
+    }
+}
@@ -6,8 +6,13 @@ package org.eolang.jeo.representation.xmir;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.io.InputOf;
 
 /**
  * Jcabi XML document.
@@ -56,17 +61,24 @@ public final class JcabiXmlDoc implements XmlDoc {
 
     /**
      * Convert a path to XML.
+     * <p>The file is read as a stream, since it may be compressed, see {@link XmirPath},
+     * or be in a file system of an archive, where paths can't be turned into files.</p>
      * @param path Path to XML file.
      * @return XML.
      * @checkstyle IllegalCatchCheck (20 lines)
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private static XML open(final Path path) {
-        try {
-            return new XMLDocument(path);
-        } catch (final FileNotFoundException exception) {
+        try (InputStream input = new XmirPath(path).open()) {
+            return new XMLDocument(
+                new String(
+                    new UncheckedBytes(new BytesOf(new InputOf(input))).asBytes(),
+                    StandardCharsets.UTF_8
+                )
+            );
+        } catch (final IOException exception) {
             throw new IllegalStateException(
-                String.format("Can't find file '%s'", path),
+                String.format("Can't read file '%s'", path),
                 exception
             );
         } catch (final RuntimeException broken) {
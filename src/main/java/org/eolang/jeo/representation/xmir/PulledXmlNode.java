@@ -0,0 +1,288 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.EqualsAndHashCode;
+
+/**
+ * XML node pulled from a stream of XML events.
+ *
+ * <p>It's a lightweight immutable alternative to {@link NativeXmlNode} that doesn't need
+ * a DOM. It's built from an {@link XMLStreamReader} positioned at the start of an element
+ * and keeps only the names, attributes and text of the element and its descendants.
+ * It behaves exactly like {@link NativeXmlNode}:
+ * attributes are looked up in the alphabetical order of their names, like DOM does,
+ * and text nodes are kept as children named {@code #text}.</p>
+ *
+ * <p>XPath and validation are not supported natively: the node is serialized
+ * and parsed into DOM for them, since they are never used during assembling.</p>
+ * @since 0.15.0
+ */
+@EqualsAndHashCode
+final class PulledXmlNode implements XmlNode {
+
+    /**
+     * Name of text nodes, the same as in DOM.
+     */
+    private static final String TEXT = "#text";
+
+    /**
+     * Name of the node.
+     */
+    private final String name;
+
+    /**
+     * Attributes sorted by name.
+     */
+    private final Map<String, String> attributes;
+
+    /**
+     * Child elements and text nodes in the document order.
+     */
+    private final List<PulledXmlNode> content;
+
+    /**
+     * Value of a text node, empty for elements.
+     */
+    private final String value;
+
+    /**
+     * Constructor of a text node.
+     * @param value Text
+     */
+    PulledXmlNode(final String value) {
+        this(PulledXmlNode.TEXT, Collections.emptyMap(), Collections.emptyList(), value);
+    }
+
+    /**
+     * Constructor of an element.
+     * @param name Name of the element
+     * @param attributes Attributes
+     * @param content Child elements and text nodes
+     */
+    PulledXmlNode(
+        final String name,
+        final Map<String, String> attributes,
+        final List<PulledXmlNode> content
+    ) {
+        this(name, attributes, content, "");
+    }
+
+    /**
+     * Constructor.
+     * @param name Name of the node
+     * @param attributes Attributes
+     * @param content Child elements and text nodes
+     * @param value Value of a text node
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private PulledXmlNode(
+        final String name,
+        final Map<String, String> attributes,
+        final List<PulledXmlNode> content,
+        final String value
+    ) {
+        this.name = name;
+        this.attributes = attributes;
+        this.content = content;
+        this.value = value;
+    }
+
+    /**
+     * Read the whole element the reader is positioned at.
+     * <p>When the method returns, the reader is positioned at the end of the element.</p>
+     * @param reader Reader positioned at the start of an element
+     * @return Element
+     * @throws XMLStreamException If XML is broken
+     */
+    static PulledXmlNode read(final XMLStreamReader reader) throws XMLStreamException {
+        final String name = PulledXmlNode.name(reader);
+        final Map<String, String> attrs = PulledXmlNode.attributes(reader);
+        final List<PulledXmlNode> content = new ArrayList<>(0);
+        for (int event = reader.next(); event != XMLStreamConstants.END_ELEMENT;
+            event = reader.next()) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                content.add(PulledXmlNode.read(reader));
+            } else if (PulledXmlNode.isText(event)) {
+                content.add(new PulledXmlNode(reader.getText()));
+            }
+        }
+        return new PulledXmlNode(name, attrs, content);
+    }
+
+    /**
+     * Skip the whole element the reader is positioned at.
+     * <p>When the method returns, the reader is positioned at the end of the element.</p>
+     * @param reader Reader positioned at the start of an element
+     * @throws XMLStreamException If XML is broken
+     */
+    static void skip(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                ++depth;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                --depth;
+            }
+        }
+    }
+
+    /**
+     * Qualified name of the element or the attribute the reader is positioned at.
+     * @param reader Reader positioned at the start of an element
+     * @return Name, with the prefix if there is one
+     */
+    static String name(final XMLStreamReader reader) {
+        return PulledXmlNode.qualified(reader.getPrefix(), reader.getLocalName());
+    }
+
+    /**
+     * Attributes of the element the reader is positioned at.
+     * @param reader Reader positioned at the start of an element
+     * @return Attributes sorted by name
+     */
+    static Map<String, String> attributes(final XMLStreamReader reader) {
+        final Map<String, String> result = new TreeMap<>();
+        final int count = reader.getAttributeCount();
+        for (int index = 0; index < count; ++index) {
+            result.put(
+                PulledXmlNode.qualified(
+                    reader.getAttributePrefix(index), reader.getAttributeLocalName(index)
+                ),
+                reader.getAttributeValue(index)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Whether the event carries text.
+     * @param event Event
+     * @return True if it's text
+     */
+    static boolean isText(final int event) {
+        return event == XMLStreamConstants.CHARACTERS
+            || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE;
+    }
+
+    @Override
+    public String toString() {
+        final String result;
+        if (PulledXmlNode.TEXT.equals(this.name)) {
+            result = PulledXmlNode.escape(this.value);
+        } else {
+            result = String.format(
+                "<%s%s>%s</%1$s>",
+                this.name,
+                this.attributes.entrySet().stream()
+                    .map(
+                        attr -> String.format(
+                            " %s=\"%s\"", attr.getKey(), PulledXmlNode.escape(attr.getValue())
+                        )
+                    )
+                    .collect(Collectors.joining()),
+                this.content.stream().map(PulledXmlNode::toString).collect(Collectors.joining())
+            );
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<XmlNode> children() {
+        return this.content.stream().filter(node -> "o".equals(node.name)).map(XmlNode.class::cast);
+    }
+
+    @Override
+    public String text() {
+        final String result;
+        if (PulledXmlNode.TEXT.equals(this.name)) {
+            result = this.value;
+        } else {
+            result = this.content.stream()
+                .map(PulledXmlNode::text)
+                .collect(Collectors.joining());
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<String> attribute(final String attr) {
+        return this.attributes.entrySet().stream()
+            .filter(entry -> entry.getKey().startsWith(attr))
+            .map(Map.Entry::getValue)
+            .findFirst();
+    }
+
+    @Override
+    public XmlNode child(final String element) {
+        return this.elements(element)
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalStateException(
+                    String.format("Can't find %s in '%s'", element, this)
+                )
+            );
+    }
+
+    /**
+     * Child elements with the given name.
+     * @param element Name of the elements
+     * @return Elements
+     */
+    Stream<PulledXmlNode> elements(final String element) {
+        return this.content.stream().filter(node -> node.name.equals(element));
+    }
+
+    @Override
+    public List<String> xpath(final String xpath) {
+        return new NativeXmlNode(this.toString()).xpath(xpath);
+    }
+
+    @Override
+    public void validate() {
+        new NativeXmlNode(this.toString()).validate();
+    }
+
+    /**
+     * Qualified name.
+     * @param prefix Prefix, maybe empty or null
+     * @param local Local name
+     * @return Name
+     */
+    private static String qualified(final String prefix, final String local) {
+        final String result;
+        if (prefix == null || prefix.isEmpty()) {
+            result = local;
+        } else {
+            result = String.format("%s:%s", prefix, local);
+        }
+        return result;
+    }
+
+    /**
+     * Escape XML special characters.
+     * @param text Text
+     * @return Escaped text
+     */
+    private static String escape(final String text) {
+        return text.replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
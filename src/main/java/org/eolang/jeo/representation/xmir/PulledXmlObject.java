@@ -0,0 +1,373 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.eolang.jeo.representation.PrefixedName;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+
+/**
+ * XMIR object read by a pull parser.
+ *
+ * <p>It's an alternative to {@link XmlObject} that doesn't build a DOM of the whole
+ * file. The XMIR is read with {@link XMLStreamReader}, and each method of the class is
+ * converted to {@link BytecodeMethod} as soon as its element is read, so only one method
+ * body is kept in memory at a time, or one batch of them if methods are converted in
+ * parallel. All the other parts of the class are small,
+ * they are collected into {@link PulledXmlNode}s and converted by {@link XmlClass}.
+ * The listing and all the other unknown elements are skipped without being read.</p>
+ *
+ * <p>The conversion itself is done by the same {@code Xml*} classes, so both readers
+ * produce the same bytecode; {@link XmlObject} stays the reference implementation.</p>
+ *
+ * <p>If the original class is given and the metas contain fingerprints of the methods,
+ * see {@link XmlFingerprints}, the methods that still have the same fingerprints are
+ * not converted: their code is taken from the original class as it is. It's done only
+ * if the class itself has the same fingerprint, see {@link XmlClassFingerprint},
+ * otherwise all the methods are converted.</p>
+ * @since 0.15.0
+ */
+public final class PulledXmlObject {
+
+    /**
+     * Factories of readers, one per thread, since factories are not thread-safe.
+     */
+    private static final ThreadLocal<XMLInputFactory> FACTORIES = ThreadLocal.withInitial(
+        PulledXmlObject::factory
+    );
+
+    /**
+     * Path to the XMIR file, plain or compressed, see {@link XmirPath}.
+     */
+    private final Path path;
+
+    /**
+     * Minimal number of methods to convert them in parallel, zero to never do it.
+     */
+    private final int parallel;
+
+    /**
+     * Original class file, or empty if there is no original class.
+     */
+    private final byte[] original;
+
+    /**
+     * Constructor.
+     * @param path Path to the XMIR file
+     */
+    public PulledXmlObject(final Path path) {
+        this(path, 0);
+    }
+
+    /**
+     * Constructor.
+     * <p>If parallel conversion is enabled, methods are collected while they are read,
+     * and each batch of this many methods is converted in parallel as soon as it's
+     * full. The rest of the methods are converted when the whole class is read, in
+     * parallel too if the class has enough methods.</p>
+     * @param path Path to the XMIR file
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     */
+    public PulledXmlObject(final Path path, final int parallel) {
+        this(path, parallel, new byte[0]);
+    }
+
+    /**
+     * Constructor.
+     * @param path Path to the XMIR file
+     * @param parallel Minimal number of methods to convert them in parallel,
+     *  zero to never do it
+     * @param original Original class file to take the code of unchanged methods from,
+     *  or empty if there is no original class
+     */
+    public PulledXmlObject(final Path path, final int parallel, final byte[] original) {
+        this.path = path;
+        this.parallel = parallel;
+        this.original = original.clone();
+    }
+
+    /**
+     * Convert to bytecode.
+     * @return Bytecode program.
+     * @throws IllegalArgumentException If XMIR can't be assembled, see {@link AssemblableMode}
+     */
+    public BytecodeObject bytecode() {
+        try (InputStream input = new XmirPath(this.path).open()) {
+            final XMLStreamReader reader = PulledXmlObject.FACTORIES.get()
+                .createXMLStreamReader(input);
+            try {
+                return this.object(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read XMIR from the file '%s'", this.path),
+                exception
+            );
+        } catch (final XMLStreamException exception) {
+            throw new IllegalStateException(
+                String.format("Can't parse XMIR from the file '%s'", this.path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Read the root 'object' element.
+     * @param reader Reader positioned before the root element
+     * @return Bytecode program
+     * @throws XMLStreamException If XML is broken
+     */
+    private BytecodeObject object(final XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!"object".equals(PulledXmlNode.name(reader))) {
+            throw new IllegalStateException(
+                String.format("Can't find object in '%s'", this.path)
+            );
+        }
+        String pckg = "";
+        try {
+            final Map<String, String> prints = new HashMap<>(0);
+            String print = "";
+            final List<String> headers = new ArrayList<>(0);
+            XmlNode top = null;
+            final List<BytecodeMethod> methods = new ArrayList<>(0);
+            final List<XmlNode> pending = new ArrayList<>(0);
+            for (int event = reader.next(); event != XMLStreamConstants.END_ELEMENT;
+                event = reader.next()) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = PulledXmlNode.name(reader);
+                    if ("metas".equals(name) && pckg.isEmpty()) {
+                        final PulledXmlNode metas = PulledXmlNode.read(reader);
+                        PulledXmlObject.meta(metas, "mode")
+                            .ifPresent(mode -> new AssemblableMode(mode).verify(this.path));
+                        pckg = PulledXmlObject.meta(metas, "package")
+                            .map(PrefixedName::new)
+                            .map(PrefixedName::decode)
+                            .orElse("");
+                        if (this.original.length > 0) {
+                            print = PulledXmlObject.meta(metas, XmlFingerprints.CLASS)
+                                .orElse("");
+                        }
+                        if (!print.isEmpty()) {
+                            prints.putAll(PulledXmlObject.fingerprints(metas));
+                        }
+                    } else if ("o".equals(name) && top == null) {
+                        top = PulledXmlObject.top(
+                            reader,
+                            (clazz, node) -> {
+                                if (!prints.isEmpty()) {
+                                    headers.add(new XmlMethod(node).header());
+                                }
+                                if (this.parallel > 0) {
+                                    pending.add(node);
+                                    if (pending.size() == this.parallel) {
+                                        methods.addAll(
+                                            this.converted(clazz, pending, prints, true)
+                                        );
+                                        pending.clear();
+                                    }
+                                } else {
+                                    methods.add(this.method(clazz, node, prints));
+                                }
+                            }
+                        );
+                    } else {
+                        PulledXmlNode.skip(reader);
+                    }
+                }
+            }
+            if (top == null) {
+                throw new IllegalStateException(
+                    String.format("Can't find o in '%s'", this.path)
+                );
+            }
+            final BytecodeObject result;
+            if (prints.isEmpty()
+                || print.equals(new XmlClassFingerprint(pckg, top, headers).asString())) {
+                final String clazz = top.attribute("name").orElse("");
+                result = new BytecodeObject(
+                    pckg,
+                    new XmlClass(pckg, top).bytecode(
+                        () -> {
+                            methods.addAll(
+                                this.converted(
+                                    clazz, pending, prints,
+                                    this.parallel > 0
+                                        && methods.size() + pending.size() >= this.parallel
+                                )
+                            );
+                            return methods;
+                        }
+                    )
+                );
+            } else {
+                result = new PulledXmlObject(this.path, this.parallel).bytecode();
+            }
+            return result;
+        } catch (final IllegalStateException exception) {
+            throw new ParsingException(
+                String.format(
+                    "Unexpected exception during parsing the program in package '%s' from '%s'",
+                    pckg,
+                    this.path
+                ),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Read the top-level class.
+     * <p>Methods are given away right after they are read and don't get into
+     * the class node.</p>
+     * @param reader Reader positioned at the start of the class element
+     * @param methods Where to give the methods, along with the name of the class
+     * @return Class node without methods
+     * @throws XMLStreamException If XML is broken
+     */
+    private static XmlNode top(
+        final XMLStreamReader reader, final BiConsumer<String, XmlNode> methods
+    ) throws XMLStreamException {
+        final String name = PulledXmlNode.name(reader);
+        final Map<String, String> attrs = PulledXmlNode.attributes(reader);
+        final List<PulledXmlNode> content = new ArrayList<>(0);
+        boolean based = false;
+        for (int event = reader.next(); event != XMLStreamConstants.END_ELEMENT;
+            event = reader.next()) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final boolean object = "o".equals(PulledXmlNode.name(reader));
+                final PulledXmlNode child = PulledXmlNode.read(reader);
+                if (based && object && new XmlMethod(child).isMethod()) {
+                    methods.accept(attrs.get("name"), child);
+                } else {
+                    content.add(child);
+                }
+                based = based || object;
+            } else if (PulledXmlNode.isText(event)) {
+                content.add(new PulledXmlNode(reader.getText()));
+            }
+        }
+        return new PulledXmlNode(name, attrs, content);
+    }
+
+    /**
+     * Convert methods that were put aside while reading.
+     * @param clazz Name of the class
+     * @param nodes Method nodes
+     * @param prints Fingerprints of the methods by their names
+     * @param concurrently Convert them in parallel
+     * @return Bytecode methods in the original order
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private List<BytecodeMethod> converted(
+        final String clazz,
+        final List<XmlNode> nodes,
+        final Map<String, String> prints,
+        final boolean concurrently
+    ) {
+        final Stream<XmlNode> all;
+        if (concurrently) {
+            all = nodes.parallelStream();
+        } else {
+            all = nodes.stream();
+        }
+        return all.map(node -> this.method(clazz, node, prints)).collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a method.
+     * <p>The code of the method is taken from the original class if the method
+     * has the same fingerprint as it had right after the disassembling.</p>
+     * @param clazz Name of the class
+     * @param node Method node
+     * @param prints Fingerprints of the methods by their names
+     * @return Bytecode method
+     */
+    private BytecodeMethod method(
+        final String clazz, final XmlNode node, final Map<String, String> prints
+    ) {
+        try {
+            final BytecodeMethod result;
+            final boolean unchanged = node.attribute("name")
+                .map(prints::get)
+                .map(print -> print.equals(new XmlFingerprint(node).asString()))
+                .orElse(false);
+            if (unchanged) {
+                result = new XmlMethod(node).unchanged();
+            } else {
+                result = new XmlMethod(node).bytecode();
+            }
+            return result;
+        } catch (final IllegalStateException exception) {
+            throw new ParsingException(
+                String.format("Unexpected exception during parsing the class '%s'", clazz),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Tail of the meta.
+     * @param metas Metas node
+     * @param head Head of the meta
+     * @return Tail, if there is a meta with a non-empty tail
+     */
+    private static Optional<String> meta(final PulledXmlNode metas, final String head) {
+        return metas.elements("meta")
+            .filter(meta -> meta.elements("head").map(XmlNode::text).anyMatch(head::equals))
+            .flatMap(meta -> meta.elements("tail"))
+            .map(XmlNode::text)
+            .filter(tail -> !tail.isEmpty())
+            .findFirst();
+    }
+
+    /**
+     * Fingerprints of the methods.
+     * @param metas Metas node
+     * @return Fingerprints by the names of the methods
+     */
+    private static Map<String, String> fingerprints(final PulledXmlNode metas) {
+        final Map<String, String> result = new HashMap<>(0);
+        metas.elements("meta")
+            .filter(
+                meta -> meta.elements("head").map(XmlNode::text)
+                    .anyMatch(XmlFingerprints.HEAD::equals)
+            )
+            .map(meta -> meta.elements("part").map(XmlNode::text).collect(Collectors.toList()))
+            .filter(parts -> parts.size() == 2)
+            .forEach(parts -> result.put(parts.get(0), parts.get(1)));
+        return result;
+    }
+
+    /**
+     * Secure factory of readers.
+     * @return Factory
+     */
+    private static XMLInputFactory factory() {
+        final XMLInputFactory result = XMLInputFactory.newFactory();
+        result.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        result.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return result;
+    }
+}
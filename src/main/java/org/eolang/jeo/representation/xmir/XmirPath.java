@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Path to an XMIR file, either plain or compressed.
+ *
+ * <p>Plain XMIR files have the '.xmir' extension, gzip-compressed ones have
+ * the '.xmir.gz' extension. Readers open both of them the same way, so the rest
+ * of the code doesn't care how the file is stored.</p>
+ * @since 0.15.0
+ */
+public final class XmirPath {
+
+    /**
+     * Extension of plain XMIR files.
+     */
+    public static final String PLAIN = ".xmir";
+
+    /**
+     * Extension of compressed XMIR files.
+     */
+    public static final String COMPRESSED = ".xmir.gz";
+
+    /**
+     * Path to the file.
+     */
+    private final Path path;
+
+    /**
+     * Constructor.
+     * @param path Path to the file
+     */
+    public XmirPath(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Is it an XMIR file, plain or compressed.
+     * @return True if the file has one of the XMIR extensions
+     */
+    public boolean isXmir() {
+        final String name = this.name();
+        return name.endsWith(XmirPath.PLAIN) || name.endsWith(XmirPath.COMPRESSED);
+    }
+
+    /**
+     * Is it a compressed XMIR file.
+     * @return True if the file has the '.xmir.gz' extension
+     */
+    public boolean compressed() {
+        return this.name().endsWith(XmirPath.COMPRESSED);
+    }
+
+    /**
+     * Open the file for reading.
+     * <p>Compressed files are decompressed on the fly.</p>
+     * @return Buffered stream of the XMIR content
+     * @throws IOException If the file can't be opened
+     */
+    public InputStream open() throws IOException {
+        final InputStream result;
+        if (this.compressed()) {
+            result = new BufferedInputStream(new GZIPInputStream(Files.newInputStream(this.path)));
+        } else {
+            result = new BufferedInputStream(Files.newInputStream(this.path));
+        }
+        return result;
+    }
+
+    /**
+     * Name of the file.
+     * @return File name
+     */
+    private String name() {
+        return this.path.getFileName().toString();
+    }
+}
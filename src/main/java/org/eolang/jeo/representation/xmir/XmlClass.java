@@ -7,6 +7,7 @@ package org.eolang.jeo.representation.xmir;
 import com.jcabi.xml.XMLDocument;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -15,8 +16,10 @@ import org.eolang.jeo.representation.PrefixedName;
 import org.eolang.jeo.representation.bytecode.BytecodeAnnotations;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.directives.DirectivesClass;
 import org.eolang.jeo.representation.directives.DirectivesClassProperties;
+import org.eolang.jeo.representation.directives.JeoFqn;
 import org.objectweb.asm.Opcodes;
 import org.xembly.Transformers;
 import org.xembly.Xembler;
@@ -34,12 +37,27 @@ import org.xembly.Xembler;
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public final class XmlClass {
 
+    /**
+     * Method base full qualified name.
+     */
+    private static final String METHOD = new JeoFqn("method").fqn();
+
+    /**
+     * Field base full qualified name.
+     */
+    private static final String FIELD = new JeoFqn("field").fqn();
+
     /**
      * Class node from entire XML.
      */
     @ToString.Include
     private final XmlGlobalObject node;
 
+    /**
+     * Parts of the class node.
+     */
+    private final IndexedXmlNode parts;
+
     /**
      * Package name.
      */
@@ -51,8 +69,18 @@ public final class XmlClass {
      * @param node The XML node representing the class
      */
     XmlClass(final String pckg, final XmlNode node) {
+        this(pckg, IndexedXmlNode.of(node));
+    }
+
+    /**
+     * Constructor.
+     * @param pckg Package name
+     * @param parts The XML node representing the class, with indexed parts
+     */
+    private XmlClass(final String pckg, final IndexedXmlNode parts) {
         this.pckg = pckg;
-        this.node = new XmlGlobalObject(node);
+        this.node = new XmlGlobalObject(parts);
+        this.parts = parts;
     }
 
     /**
@@ -77,13 +105,25 @@ public final class XmlClass {
      * @return Bytecode class.
      */
     public BytecodeClass bytecode() {
+        return this.bytecode(
+            () -> this.methods().stream().map(XmlMethod::bytecode).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Convert to bytecode with the methods converted elsewhere.
+     * <p>It's used by {@link PulledXmlObject}, which converts methods while it reads them,
+     * so the class node doesn't contain them.</p>
+     * @param methods Bytecode methods
+     * @return Bytecode class.
+     */
+    BytecodeClass bytecode(final Supplier<List<BytecodeMethod>> methods) {
         try {
             return new BytecodeClass(
                 new ClassName(
                     new PrefixedName(new ClassName(this.pckg, this.name()).full()).decode()
                 ),
-                this.methods().stream().map(XmlMethod::bytecode)
-                    .collect(Collectors.toList()),
+                methods.get(),
                 this.fields().stream()
                     .map(XmlField::bytecode)
                     .collect(Collectors.toList()),
@@ -126,12 +166,7 @@ public final class XmlClass {
      * @return Annotations node.
      */
     private Optional<XmlAnnotations> annotations() {
-        return this.node.children()
-            .map(XmlJeoObject::new)
-            .filter(XmlJeoObject::named)
-            .filter(object -> "annotations".equals(object.name()))
-            .findFirst()
-            .map(XmlAnnotations::new);
+        return this.parts.named("annotations").map(XmlAnnotations::new);
     }
 
     /**
@@ -147,9 +182,8 @@ public final class XmlClass {
      * @return Class methods.
      */
     private List<XmlMethod> methods() {
-        return this.node.children()
+        return this.parts.based(XmlClass.METHOD)
             .map(XmlMethod::new)
-            .filter(XmlMethod::isMethod)
             .collect(Collectors.toList());
     }
 
@@ -158,9 +192,8 @@ public final class XmlClass {
      * @return Class fields.
      */
     private List<XmlField> fields() {
-        return this.node.children()
+        return this.parts.based(XmlClass.FIELD)
             .map(XmlField::new)
-            .filter(XmlField::isField)
             .collect(Collectors.toList());
     }
 
@@ -169,12 +202,7 @@ public final class XmlClass {
      * @return Attributes.
      */
     private Optional<XmlAttributes> attributes() {
-        return this.node.children()
-            .map(XmlSeq::new)
-            .filter(XmlSeq::named)
-            .filter(seq -> "attributes".equals(seq.name()))
-            .findFirst()
-            .map(XmlAttributes::new);
+        return this.parts.named("attributes").map(XmlAttributes::new);
     }
 
     /**
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.List;
+
+/**
+ * Fingerprint of an XMIR class, everything but the code of its methods.
+ *
+ * <p>It's a SHA-256 hash of the package, the name of the class, all its parts
+ * that are not methods (the super class, interfaces, fields, annotations and so on)
+ * and the names and descriptors of the methods. The code of an unchanged method
+ * may be taken from the original class only if the class still has the same
+ * fingerprint: the code refers to the class, its super class and fields through
+ * the constant pool of the original class, see {@link PulledXmlObject}.</p>
+ * @since 0.15.0
+ */
+public final class XmlClassFingerprint {
+
+    /**
+     * Package of the class.
+     */
+    private final String pckg;
+
+    /**
+     * Class node, methods are skipped if it has them.
+     */
+    private final XmlNode clazz;
+
+    /**
+     * Names and descriptors of the methods, see {@link XmlMethod#header()}.
+     */
+    private final List<String> headers;
+
+    /**
+     * Constructor.
+     * @param pckg Package of the class
+     * @param clazz Class node
+     * @param headers Names and descriptors of the methods
+     */
+    public XmlClassFingerprint(
+        final String pckg, final XmlNode clazz, final List<String> headers
+    ) {
+        this.pckg = pckg;
+        this.clazz = clazz;
+        this.headers = headers;
+    }
+
+    /**
+     * Fingerprint as a hex string.
+     * @return Hex SHA-256 hash
+     */
+    public String asString() {
+        return XmlFingerprint.hash(
+            digest -> {
+                XmlFingerprint.update(digest, this.pckg);
+                XmlFingerprint.update(digest, '|');
+                XmlFingerprint.update(digest, this.clazz.attribute("name").orElse(""));
+                XmlFingerprint.update(digest, ':');
+                this.clazz.children()
+                    .filter(child -> !new XmlMethod(child).isMethod())
+                    .forEach(child -> XmlFingerprint.update(digest, child));
+                XmlFingerprint.update(digest, ':');
+                this.headers.forEach(
+                    header -> {
+                        XmlFingerprint.update(digest, header);
+                        XmlFingerprint.update(digest, ';');
+                    }
+                );
+            }
+        );
+    }
+}
@@ -6,7 +6,6 @@ package org.eolang.jeo.representation.xmir;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -27,14 +26,14 @@ public final class XmlDelegateObject implements XmlEoObject {
     /**
      * Inner XML node representing the delegate object.
      */
-    private final XmlNode inner;
+    private final IndexedXmlNode inner;
 
     /**
      * Constructor.
      * @param inner XML node representing the delegate object
      */
     XmlDelegateObject(final XmlNode inner) {
-        this.inner = inner;
+        this.inner = IndexedXmlNode.of(inner);
     }
 
     @Override
@@ -44,9 +43,7 @@ public final class XmlDelegateObject implements XmlEoObject {
 
     @Override
     public Optional<String> base() {
-        return this.inner.children().findFirst()
-            .filter(child -> child.attribute("name").map("@"::equals).orElse(false))
-            .map(child -> new XmlSimpleDelegate(child).base());
+        return this.inner.base();
     }
 
     @Override
@@ -58,7 +55,7 @@ public final class XmlDelegateObject implements XmlEoObject {
     public Optional<XmlNode> child(final int index) {
         final int indx = index + 1;
         final Optional<XmlNode> result;
-        final List<XmlNode> children = this.inner.children().collect(Collectors.toList());
+        final List<XmlNode> children = this.inner.objects();
         if (indx < 0 || indx >= children.size()) {
             result = Optional.empty();
         } else {
@@ -69,15 +66,6 @@ public final class XmlDelegateObject implements XmlEoObject {
 
     @Override
     public Stream<XmlNode> children() {
-        final List<XmlNode> collect = this.inner.children().collect(Collectors.toList());
-        if (collect.isEmpty()) {
-            throw new IllegalStateException(
-                String.format(
-                    "The '%s' node doesn't have any children, but it should have at least one",
-                    this.inner
-                )
-            );
-        }
-        return collect.subList(1, collect.size()).stream();
+        return this.inner.parts().stream();
     }
 }
@@ -5,7 +5,6 @@
 package org.eolang.jeo.representation.xmir;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.ToString;
 import org.eolang.jeo.representation.PrefixedName;
 import org.eolang.jeo.representation.bytecode.BytecodeAnnotations;
@@ -29,20 +28,26 @@ public class XmlField {
      */
     private final XmlJeoObject node;
 
+    /**
+     * Parts of the field node.
+     */
+    private final IndexedXmlNode parts;
+
     /**
      * Constructor.
      * @param xmlnode Field node.
      */
     XmlField(final XmlNode xmlnode) {
-        this(new XmlJeoObject(xmlnode));
+        this(IndexedXmlNode.of(xmlnode));
     }
 
     /**
      * Constructor.
-     * @param node XML Jeo object node.
+     * @param parts Field node with indexed parts.
      */
-    private XmlField(final XmlJeoObject node) {
-        this.node = node;
+    private XmlField(final IndexedXmlNode parts) {
+        this.node = new XmlJeoObject(parts);
+        this.parts = parts;
     }
 
     /**
@@ -109,11 +114,7 @@ public class XmlField {
      * @return Value.
      */
     private Object value() {
-        return new XmlOperand(
-            this.node.children()
-                .collect(Collectors.toList())
-                .get(Attribute.VALUE.ordinal())
-        ).asObject();
+        return new XmlOperand(this.parts.parts().get(Attribute.VALUE.ordinal())).asObject();
     }
 
     /**
@@ -122,12 +123,7 @@ public class XmlField {
      */
     private Optional<XmlAnnotations> annotations() {
         final String name = String.format("annotations-%s", this.name());
-        return this.node.children()
-            .map(XmlJeoObject::new)
-            .filter(XmlJeoObject::named)
-            .filter(object -> name.equals(object.name()))
-            .findFirst()
-            .map(XmlAnnotations::new);
+        return this.parts.named(name).map(XmlAnnotations::new);
     }
 
     /**
@@ -137,9 +133,7 @@ public class XmlField {
      */
     private Optional<XmlValue> find(final Attribute attribute) {
         return Optional.of(
-            new XmlValue(
-                this.node.children().collect(Collectors.toList()).get(attribute.ordinal())
-            )
+            new XmlValue(this.parts.parts().get(attribute.ordinal()))
         );
     }
 
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Consumer;
+
+/**
+ * Fingerprint of an XMIR method.
+ *
+ * <p>It's a SHA-256 hash of the method object: names, bases and 'as' attributes
+ * of all the nested objects and the texts of the objects without children.
+ * Indentation doesn't matter, so the fingerprint is the same for the method
+ * read from the DOM right after disassembling and for the method pulled from
+ * the file later, see {@link PulledXmlObject}.</p>
+ * @since 0.15.0
+ */
+public final class XmlFingerprint {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Method node.
+     */
+    private final XmlNode node;
+
+    /**
+     * Constructor.
+     * @param node Method node
+     */
+    public XmlFingerprint(final XmlNode node) {
+        this.node = node;
+    }
+
+    /**
+     * Fingerprint as a hex string.
+     * @return Hex SHA-256 hash
+     */
+    public String asString() {
+        return XmlFingerprint.hash(digest -> XmlFingerprint.update(digest, this.node));
+    }
+
+    /**
+     * SHA-256 hash of the content as a hex string.
+     * @param content What to add to the digest
+     * @return Hex SHA-256 hash
+     */
+    static String hash(final Consumer<MessageDigest> content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            content.accept(digest);
+            final byte[] hash = digest.digest();
+            final char[] result = new char[hash.length * 2];
+            for (int index = 0; index < hash.length; ++index) {
+                result[index * 2] = XmlFingerprint.HEX[hash[index] >> 4 & 0xF];
+                result[index * 2 + 1] = XmlFingerprint.HEX[hash[index] & 0xF];
+            }
+            return new String(result);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported", exception);
+        }
+    }
+
+    /**
+     * Add the object and all its nested objects to the digest.
+     * @param digest Digest
+     * @param object Object
+     */
+    static void update(final MessageDigest digest, final XmlNode object) {
+        XmlFingerprint.update(digest, '(');
+        XmlFingerprint.update(digest, object.attribute("name").orElse(""));
+        XmlFingerprint.update(digest, '|');
+        XmlFingerprint.update(digest, object.attribute("base").orElse(""));
+        XmlFingerprint.update(digest, '|');
+        XmlFingerprint.update(digest, object.attribute("as").orElse(""));
+        XmlFingerprint.update(digest, ':');
+        final boolean[] empty = {true};
+        object.children().forEach(
+            child -> {
+                empty[0] = false;
+                XmlFingerprint.update(digest, child);
+            }
+        );
+        if (empty[0]) {
+            XmlFingerprint.update(digest, object.text().trim());
+        }
+        XmlFingerprint.update(digest, ')');
+    }
+
+    /**
+     * Add the text to the digest.
+     * @param digest Digest
+     * @param text Text
+     */
+    static void update(final MessageDigest digest, final String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Add the character to the digest.
+     * @param digest Digest
+     * @param character Character
+     */
+    static void update(final MessageDigest digest, final char character) {
+        digest.update((byte) character);
+    }
+}
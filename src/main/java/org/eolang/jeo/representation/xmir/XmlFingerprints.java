@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.eolang.jeo.representation.PrefixedName;
+import org.w3c.dom.Document;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Fingerprints of all the methods of an XMIR document, as metas.
+ *
+ * <p>Each method of the top-level class gets its own meta with the 'fingerprint'
+ * head, the name of the method object and its {@link XmlFingerprint}:</p>
+ *
+ * <pre>{@code
+ * <meta>
+ *   <head>fingerprint</head>
+ *   <tail>j$foo 9f86d08...</tail>
+ *   <part>j$foo</part>
+ *   <part>9f86d08...</part>
+ * </meta>
+ * }</pre>
+ *
+ * <p>The class itself gets the meta with the 'class-fingerprint' head and
+ * its {@link XmlClassFingerprint}, which doesn't depend on the code of the methods:</p>
+ *
+ * <pre>{@code
+ * <meta>
+ *   <head>class-fingerprint</head>
+ *   <tail>5e8848a...</tail>
+ *   <part>5e8848a...</part>
+ * </meta>
+ * }</pre>
+ *
+ * <p>The directives are applied to the same document they are computed from.</p>
+ * @since 0.15.0
+ */
+public final class XmlFingerprints implements Iterable<Directive> {
+
+    /**
+     * Head of the metas.
+     */
+    static final String HEAD = "fingerprint";
+
+    /**
+     * Head of the class meta.
+     */
+    static final String CLASS = "class-fingerprint";
+
+    /**
+     * XMIR document.
+     */
+    private final Document document;
+
+    /**
+     * Constructor.
+     * @param document XMIR document
+     */
+    public XmlFingerprints(final Document document) {
+        this.document = document;
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        final Directives result = new Directives().xpath("/object/metas");
+        final XmlNode root = new NativeXmlNode(this.document.getDocumentElement());
+        root.children()
+            .findFirst()
+            .ifPresent(
+                clazz -> {
+                    final List<String> headers = new ArrayList<>(0);
+                    clazz.children()
+                        .filter(child -> new XmlMethod(child).isMethod())
+                        .forEach(
+                            method -> {
+                                final String name = method.attribute("name").orElse("");
+                                final String hash = new XmlFingerprint(method).asString();
+                                headers.add(new XmlMethod(method).header());
+                                result.add("meta")
+                                    .add("head").set(XmlFingerprints.HEAD).up()
+                                    .add("tail").set(String.format("%s %s", name, hash)).up()
+                                    .add("part").set(name).up()
+                                    .add("part").set(hash).up()
+                                    .up();
+                            }
+                        );
+                    final String hash = new XmlClassFingerprint(
+                        root.xpath("/object/metas/meta[head='package']/tail/text()")
+                            .stream()
+                            .findFirst()
+                            .map(PrefixedName::new)
+                            .map(PrefixedName::decode)
+                            .orElse(""),
+                        clazz,
+                        headers
+                    ).asString();
+                    result.add("meta")
+                        .add("head").set(XmlFingerprints.CLASS).up()
+                        .add("tail").set(hash).up()
+                        .add("part").set(hash).up()
+                        .up();
+                }
+            );
+        return result.iterator();
+    }
+}
@@ -19,20 +19,26 @@ public final class XmlFrame implements XmlBytecodeEntry {
      */
     private final XmlJeoObject node;
 
+    /**
+     * Parts of the frame node.
+     */
+    private final IndexedXmlNode parts;
+
     /**
      * Constructor.
      * @param xmlnode Xmir node
      */
     public XmlFrame(final XmlNode xmlnode) {
-        this(new XmlJeoObject(xmlnode));
+        this(IndexedXmlNode.of(xmlnode));
     }
 
     /**
      * Constructor.
-     * @param node XML Jeo object node
+     * @param parts Xmir node with indexed parts
      */
-    private XmlFrame(final XmlJeoObject node) {
-        this.node = node;
+    private XmlFrame(final IndexedXmlNode parts) {
+        this.node = new XmlJeoObject(parts);
+        this.parts = parts;
     }
 
     /**
@@ -124,11 +130,6 @@ public final class XmlFrame implements XmlBytecodeEntry {
     }
 
     private Optional<XmlNode> byName(final String name) {
-        return this.node.children()
-            .filter(
-                child -> child.attribute("name")
-                    .map(s -> s.startsWith(name))
-                    .orElse(false))
-            .findFirst();
+        return this.parts.named(name, candidate -> candidate.startsWith(name));
     }
 }
@@ -4,6 +4,7 @@
  */
 package org.eolang.jeo.representation.xmir;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -15,10 +16,12 @@ import org.eolang.jeo.representation.MethodName;
 import org.eolang.jeo.representation.NumberedName;
 import org.eolang.jeo.representation.bytecode.BytecodeAnnotations;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
+import org.eolang.jeo.representation.bytecode.BytecodeDefaultValue;
 import org.eolang.jeo.representation.bytecode.BytecodeMaxs;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodParameters;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeOpaqueCode;
 import org.eolang.jeo.representation.directives.DirectivesMaxs;
 import org.eolang.jeo.representation.directives.DirectivesMethod;
 import org.eolang.jeo.representation.directives.DirectivesMethodParams;
@@ -50,25 +53,41 @@ public final class XmlMethod {
      */
     private static final int UNDEFINED = -1;
 
+    /**
+     * Params base full qualified name.
+     */
+    private static final String PARAMS = new JeoFqn("params").fqn();
+
+    /**
+     * Annotation default value base full qualified name.
+     */
+    private static final String DEFVALUE = new JeoFqn("annotation-default-value").fqn();
+
     /**
      * Method node.
      */
     private final XmlJeoObject node;
 
+    /**
+     * Parts of the method node.
+     */
+    private final IndexedXmlNode parts;
+
     /**
      * Constructor.
      * @param xmlnode Method node.
      */
     XmlMethod(final XmlNode xmlnode) {
-        this(new XmlJeoObject(xmlnode));
+        this(IndexedXmlNode.of(xmlnode));
     }
 
     /**
      * Constructor.
-     * @param node Method node.
+     * @param parts Method node with indexed parts.
      */
-    private XmlMethod(final XmlJeoObject node) {
-        this.node = node;
+    private XmlMethod(final IndexedXmlNode parts) {
+        this.node = new XmlJeoObject(parts);
+        this.parts = parts;
     }
 
     /**
@@ -125,15 +144,11 @@ public final class XmlMethod {
                     .collect(Collectors.toList()),
                 this.annotations(),
                 this.properties(),
-                this.defvalue()
-                    .map(XmlDefaultValue::bytecode)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(Collections::singletonList)
-                    .orElse(Collections.emptyList()),
+                this.defvalues(),
                 this.maxs().map(XmlMaxs::bytecode)
                     .orElse(new BytecodeMaxs()),
-                this.attrs()
+                this.attrs(),
+                this.opaque()
             );
         } catch (final IllegalStateException exception) {
             throw new ParsingException(
@@ -163,6 +178,44 @@ public final class XmlMethod {
         }
     }
 
+    /**
+     * Convert to bytecode copied from the original class.
+     * <p>It's used for the methods that were not changed since the disassembling,
+     * see {@link XmlFingerprint}, so their code is not converted from XMIR at all:
+     * the whole method is copied from the original class when the class is written.</p>
+     * @return Bytecode method.
+     */
+    BytecodeMethod unchanged() {
+        try {
+            return new BytecodeMethod(
+                new ArrayList<>(0),
+                new ArrayList<>(0),
+                this.annotations(),
+                this.properties(),
+                this.defvalues(),
+                new BytecodeMaxs(),
+                this.attrs().unknown(),
+                new BytecodeOpaqueCode(this.name(), this.descriptor())
+            );
+        } catch (final IllegalStateException exception) {
+            throw new ParsingException(
+                String.format(
+                    "Unexpected exception during parsing the unchanged method '%s'",
+                    this.name()
+                ),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Name and descriptor of the method, as in bytecode.
+     * @return Name followed by the descriptor, like {@code foo(I)V}.
+     */
+    String header() {
+        return String.format("%s%s", this.name(), this.descriptor());
+    }
+
     /**
      * Whether the node is a method.
      * @return True if the node is a method.
@@ -176,32 +229,49 @@ public final class XmlMethod {
      * @return Attributes.
      */
     private BytecodeAttributes attrs() {
-        return this.node.children()
-            .map(XmlSeq::new)
-            .filter(XmlSeq::named)
-            .filter(seq -> seq.name().contains("local-variable-table"))
-            .findFirst()
+        return this.part("local-variable-table")
             .map(XmlAttributes::new)
             .map(XmlAttributes::attributes)
             .orElseGet(BytecodeAttributes::new);
     }
 
+    /**
+     * Code of the method kept as it is.
+     * @return Opaque code, or no code if the method is disassembled.
+     */
+    private BytecodeOpaqueCode opaque() {
+        return this.parts.named("opaque")
+            .map(XmlOpaqueCode::new)
+            .map(XmlOpaqueCode::bytecode)
+            .orElseGet(BytecodeOpaqueCode::new);
+    }
+
+    /**
+     * Default values of the annotation method.
+     * @return Default values, at most one.
+     */
+    private List<BytecodeDefaultValue> defvalues() {
+        return this.defvalue()
+            .map(XmlDefaultValue::bytecode)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .map(Collections::singletonList)
+            .orElse(Collections.emptyList());
+    }
+
     /**
      * Method name.
      * @return Name.
      */
     private String name() {
-        return this.node.children()
+        return this.parts.named("name")
             .map(XmlNamedObject::new)
-            .filter(XmlNamedObject::named)
-            .filter(xml -> "name".equals(xml.name()))
             .map(XmlValue::new)
             .map(XmlValue::string)
             .map(NumberedName::new)
             .map(NumberedName::plain)
             .map(MethodName::new)
             .map(MethodName::bytecode)
-            .findFirst()
             .orElseThrow(
                 () -> new IllegalStateException(
                     String.format("Method '%s' doesn't have a name", this.node.name())
@@ -214,11 +284,8 @@ public final class XmlMethod {
      * @return Instructions.
      */
     private List<XmlBytecodeEntry> instructions() {
-        return this.node.children()
+        return this.part("body")
             .map(XmlSeq::new)
-            .filter(XmlSeq::named)
-            .filter(seq -> seq.name().contains("body"))
-            .findFirst()
             .map(XmlSeq::children)
             .orElse(Stream.empty())
             .map(XmlMethod::toEntry)
@@ -251,11 +318,8 @@ public final class XmlMethod {
      * @return Maxs.
      */
     private Optional<XmlMaxs> maxs() {
-        return this.node.children()
+        return this.part("maxs")
             .map(XmlJeoObject::new)
-            .filter(XmlJeoObject::named)
-            .filter(object -> object.name().contains("maxs"))
-            .findFirst()
             .map(XmlMaxs::new);
     }
 
@@ -318,11 +382,8 @@ public final class XmlMethod {
      * @return Child.
      */
     private XmlNamedObject child(final String name) {
-        return this.node.children()
+        return this.part(name)
             .map(XmlNamedObject::new)
-            .filter(XmlNamedObject::named)
-            .filter(object -> object.name().contains(name))
-            .findFirst()
             .orElseThrow(
                 () -> new IllegalStateException(
                     String.format(
@@ -334,17 +395,27 @@ public final class XmlMethod {
             );
     }
 
+    /**
+     * Find a part of the method by its name.
+     * <p>Parts are found by their exact names. If there is no such part,
+     * the first part whose name contains the given one is taken.</p>
+     * @param name Name of the part.
+     * @return Part.
+     */
+    private Optional<XmlNode> part(final String name) {
+        return this.parts.named(name, candidate -> candidate.contains(name));
+    }
+
     /**
      * Method trycatch entries.
      *
      * @return Trycatch entries.
      */
     private List<XmlTryCatchEntry> trycatchEntries() {
-        return this.node.children()
+        return this.part("trycatchblocks")
             .map(XmlSeq::new)
-            .filter(XmlSeq::named)
-            .filter(seq -> seq.name().contains("trycatchblocks"))
-            .flatMap(XmlSeq::children)
+            .map(XmlSeq::children)
+            .orElse(Stream.empty())
             .map(XmlTryCatchEntry::new)
             .collect(Collectors.toList());
     }
@@ -355,11 +426,7 @@ public final class XmlMethod {
      * @return Annotations.
      */
     private BytecodeAnnotations annotations() {
-        return this.node.children()
-            .map(XmlJeoObject::new)
-            .filter(XmlJeoObject::named)
-            .filter(object -> object.name().contains("annotations"))
-            .findFirst()
+        return this.part("annotations")
             .map(XmlAnnotations::new)
             .map(XmlAnnotations::bytecode)
             .orElse(new BytecodeAnnotations());
@@ -371,10 +438,9 @@ public final class XmlMethod {
      * @return Optional XMIR of the default value.
      */
     private Optional<XmlDefaultValue> defvalue() {
-        return this.node.children()
-            .map(XmlDefaultValue::new)
-            .filter(XmlDefaultValue::isDefaultValue)
-            .findFirst();
+        return this.parts.based(XmlMethod.DEFVALUE)
+            .findFirst()
+            .map(XmlDefaultValue::new);
     }
 
     /**
@@ -382,10 +448,9 @@ public final class XmlMethod {
      * @return Parameters.
      */
     private BytecodeMethodParameters params() {
-        return this.node.children()
-            .map(XmlMethodParams::new)
-            .filter(XmlMethodParams::isParams)
+        return this.parts.based(XmlMethod.PARAMS)
             .findFirst()
+            .map(XmlMethodParams::new)
             .map(XmlMethodParams::params)
             .orElse(new BytecodeMethodParameters());
     }
@@ -396,10 +461,8 @@ public final class XmlMethod {
      * @return Exceptions.
      */
     private String[] exceptions() {
-        return this.node.children()
+        return this.parts.named("exceptions")
             .map(XmlExceptions::new)
-            .filter(XmlExceptions::isExceptions)
-            .findFirst()
             .map(n -> n.bytecode().stream())
             .orElse(Stream.empty())
             .toArray(String[]::new);
@@ -51,8 +51,17 @@ public final class XmlObject {
     /**
      * Convert to bytecode.
      * @return Bytecode program.
+     * @throws IllegalArgumentException If XMIR can't be assembled, see {@link AssemblableMode}
      */
     public BytecodeObject bytecode() {
+        this.root.xpath("/object/metas/meta[head='mode']/tail/text()")
+            .stream()
+            .findFirst()
+            .ifPresent(
+                mode -> new AssemblableMode(mode).verify(
+                    this.root.child("o").attribute("name").orElse("")
+                )
+            );
         try {
             return new BytecodeObject(this.pckg(), this.top().bytecode());
         } catch (final IllegalStateException exception) {
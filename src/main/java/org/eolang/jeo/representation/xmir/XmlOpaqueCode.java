@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import org.eolang.jeo.representation.bytecode.BytecodeOpaqueCode;
+
+/**
+ * XML opaque code of a method.
+ * Mirror of {@link org.eolang.jeo.representation.bytecode.BytecodeOpaqueCode}
+ * @since 0.15.0
+ */
+final class XmlOpaqueCode {
+
+    /**
+     * Opaque code node.
+     */
+    private final XmlJeoObject node;
+
+    /**
+     * Constructor.
+     * @param node Opaque code node.
+     */
+    XmlOpaqueCode(final XmlNode node) {
+        this.node = new XmlJeoObject(node);
+    }
+
+    /**
+     * Parse bytecode opaque code from XML.
+     * @return Opaque code.
+     */
+    BytecodeOpaqueCode bytecode() {
+        return new BytecodeOpaqueCode(
+            (byte[]) new XmlValue(
+                this.node.child(0).orElseThrow(
+                    () -> new IllegalStateException(
+                        String.format("Code is missing in `%s`", this.node)
+                    )
+                )
+            ).object()
+        );
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.stream.Stream;
 import org.eolang.jeo.Assembler;
+import org.eolang.jeo.AssemblerOptions;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
@@ -68,7 +69,7 @@ public class AssembleBenchmark {
         this.dir.toFile().deleteOnExit();
         Files.createDirectories(input);
         Files.write(input.resolve("test.xmir"), new Representation().disassemble());
-        this.assembler = new Assembler(input, this.dir, false);
+        this.assembler = new Assembler(input, this.dir, new AssemblerOptions());
     }
 
     @Benchmark
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmark;
+
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeLabel;
+import org.eolang.jeo.representation.bytecode.BytecodeMethodBuilder;
+import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+import org.eolang.jeo.representation.bytecode.BytecodeTryCatchBlock;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Assembling of a single large method.
+ * <p>The method consists of many short branches guarded by try-catch blocks,
+ * so the benchmark is dominated by instruction queries (stack impact, branch kind)
+ * and maxs computation.</p>
+ * @since 0.15.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 1, time = 3)
+@State(Scope.Benchmark)
+public class LargeMethodBenchmark {
+
+    /**
+     * Number of branches in the method.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     */
+    @Param({"500", "2000"})
+    public int branches;
+
+    /**
+     * Object with a single large method.
+     */
+    private BytecodeObject object;
+
+    /**
+     * This method is used to run the benchmark from IDE.
+     * Don't remove it.
+     * @param args Arguments.
+     * @throws RunnerException If something goes wrong.
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(LargeMethodBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        final BytecodeClass clazz = new BytecodeClass("benchmark/Large");
+        final BytecodeMethodBuilder method = clazz.withMethod(
+            new BytecodeMethodProperties("large", "(IIJ)I", Opcodes.ACC_PUBLIC, Opcodes.ACC_STATIC)
+        );
+        for (int index = 0; index < this.branches; ++index) {
+            final String start = String.format("start-%d", index);
+            final String end = String.format("end-%d", index);
+            final String handler = String.format("handler-%d", index);
+            final String next = String.format("next-%d", index);
+            method.trycatch(
+                new BytecodeTryCatchBlock(start, end, handler, "java/lang/RuntimeException")
+            )
+                .label(start)
+                .opcode(Opcodes.ILOAD, 0)
+                .opcode(Opcodes.SIPUSH, index)
+                .opcode(Opcodes.IF_ICMPNE, new BytecodeLabel(end))
+                .opcode(Opcodes.ILOAD, 1)
+                .opcode(Opcodes.LLOAD, 2)
+                .opcode(Opcodes.L2I)
+                .opcode(Opcodes.IADD)
+                .opcode(Opcodes.ISTORE, 1)
+                .opcode(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;")
+                .opcode(Opcodes.ILOAD, 1)
+                .opcode(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(I)V", false)
+                .label(end)
+                .opcode(Opcodes.GOTO, new BytecodeLabel(next))
+                .label(handler)
+                .opcode(Opcodes.ASTORE, 4)
+                .opcode(Opcodes.IINC, 1, -1)
+                .label(next);
+        }
+        method.opcode(Opcodes.ILOAD, 1).opcode(Opcodes.IRETURN);
+        this.object = new BytecodeObject(clazz);
+    }
+
+    @Benchmark
+    public Bytecode assemble() {
+        return this.object.bytecode();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmark;
+
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Disassembling of a class with many methods.
+ * <p>The class looks like a generated parser: tens of thousands of small methods,
+ * heavily overloaded, and a field per method. The benchmark is dominated by
+ * numbering of the overloads and concatenation of the members.</p>
+ * @since 0.15.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 1, time = 3)
+@State(Scope.Benchmark)
+public class ManyMethodsBenchmark {
+
+    /**
+     * Number of methods in the class.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     */
+    @Param({"20000"})
+    public int methods;
+
+    /**
+     * Number of overloads of each method name.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     */
+    @Param({"1", "100"})
+    public int overloads;
+
+    /**
+     * Class to convert into XMIR.
+     */
+    private BytecodeRepresentation clazz;
+
+    /**
+     * This method is used to run the benchmark from IDE.
+     * Don't remove it.
+     * @param args Arguments.
+     * @throws RunnerException If something goes wrong.
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ManyMethodsBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        final BytecodeClass clazz = new BytecodeClass("benchmark/Many");
+        for (int index = 0; index < this.methods; ++index) {
+            clazz.withField(String.format("field%d", index));
+            clazz.withMethod(
+                String.format("rule%d", index / this.overloads),
+                String.format("(%s)I", ManyMethodsBenchmark.params(index % this.overloads)),
+                Opcodes.ACC_PUBLIC,
+                Opcodes.ACC_STATIC
+            )
+                .opcode(Opcodes.SIPUSH, index % Short.MAX_VALUE)
+                .opcode(Opcodes.IRETURN);
+        }
+        this.clazz = new BytecodeRepresentation(new BytecodeObject(clazz).bytecode());
+    }
+
+    @Benchmark
+    public String disassemble() {
+        return this.clazz.toEO(new Format());
+    }
+
+    /**
+     * Parameters of an overload, distinct for each number.
+     * @param number Number of the overload
+     * @return Parameters descriptor, like {@code III}
+     */
+    private static String params(final int number) {
+        final StringBuilder result = new StringBuilder(number);
+        for (int param = 0; param < number; ++param) {
+            result.append('I');
+        }
+        return result.toString();
+    }
+}
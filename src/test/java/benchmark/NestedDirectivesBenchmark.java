@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmark;
+
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Disassembling of a class with deep directive trees.
+ * <p>The class has deeply nested annotations and a method with large switch tables,
+ * so the benchmark is dominated by building the directives of nested objects.
+ * Each subtree is materialised once, so the time should grow linearly
+ * with both parameters.</p>
+ * @since 0.15.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 1, time = 3)
+@State(Scope.Benchmark)
+public class NestedDirectivesBenchmark {
+
+    /**
+     * Depth of nested annotations.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     */
+    @Param({"16", "64"})
+    public int depth;
+
+    /**
+     * Number of cases in each switch table.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     */
+    @Param({"1000", "4000"})
+    public int cases;
+
+    /**
+     * Class to convert into XMIR.
+     */
+    private BytecodeRepresentation clazz;
+
+    /**
+     * This method is used to run the benchmark from IDE.
+     * Don't remove it.
+     * @param args Arguments.
+     * @throws RunnerException If something goes wrong.
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(NestedDirectivesBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        writer.visit(
+            Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC,
+            "benchmark/Nested",
+            null,
+            "java/lang/Object",
+            null
+        );
+        NestedDirectivesBenchmark.nested(
+            writer.visitAnnotation("Lbenchmark/Nested;", true), this.depth
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "table", "(I)I", null, null
+        );
+        NestedDirectivesBenchmark.nested(
+            method.visitAnnotation("Lbenchmark/Nested;", true), this.depth
+        );
+        method.visitCode();
+        final Label fallback = new Label();
+        final Label[] tables = NestedDirectivesBenchmark.labels(this.cases);
+        method.visitVarInsn(Opcodes.ILOAD, 0);
+        method.visitTableSwitchInsn(0, this.cases - 1, fallback, tables);
+        NestedDirectivesBenchmark.branches(method, tables);
+        final Label[] lookups = NestedDirectivesBenchmark.labels(this.cases);
+        final int[] keys = new int[this.cases];
+        for (int index = 0; index < this.cases; ++index) {
+            keys[index] = index * 7;
+        }
+        method.visitLabel(fallback);
+        final Label end = new Label();
+        method.visitVarInsn(Opcodes.ILOAD, 0);
+        method.visitLookupSwitchInsn(end, keys, lookups);
+        NestedDirectivesBenchmark.branches(method, lookups);
+        method.visitLabel(end);
+        method.visitInsn(Opcodes.ICONST_M1);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        writer.visitEnd();
+        this.clazz = new BytecodeRepresentation(new Bytecode(writer.toByteArray()));
+    }
+
+    @Benchmark
+    public String disassemble() {
+        return this.clazz.toEO(new Format());
+    }
+
+    /**
+     * Write an annotation that nests itself.
+     * @param annotation Annotation visitor
+     * @param depth How many levels to nest
+     */
+    private static void nested(final AnnotationVisitor annotation, final int depth) {
+        annotation.visit("level", depth);
+        if (depth > 0) {
+            final AnnotationVisitor array = annotation.visitArray("children");
+            NestedDirectivesBenchmark.nested(
+                array.visitAnnotation(null, "Lbenchmark/Nested;"), depth - 1
+            );
+            array.visitEnd();
+        }
+        annotation.visitEnd();
+    }
+
+    /**
+     * Labels of switch branches.
+     * @param size Number of labels
+     * @return Labels
+     */
+    private static Label[] labels(final int size) {
+        final Label[] result = new Label[size];
+        for (int index = 0; index < size; ++index) {
+            result[index] = new Label();
+        }
+        return result;
+    }
+
+    /**
+     * Write switch branches, each returns its own number.
+     * @param method Method visitor
+     * @param labels Labels of the branches
+     */
+    private static void branches(final MethodVisitor method, final Label[] labels) {
+        for (int index = 0; index < labels.length; ++index) {
+            method.visitLabel(labels[index]);
+            method.visitLdcInsn(index);
+            method.visitInsn(Opcodes.IRETURN);
+        }
+    }
+}
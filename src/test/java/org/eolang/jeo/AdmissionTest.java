@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Admission}.
+ * @since 0.15.0
+ */
+final class AdmissionTest {
+
+    @Test
+    void estimatesClassesAsMoreExpensiveThanXmir(@TempDir final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "Disassembling a class should need more memory than assembling XMIR of the same size",
+            Admission.cost(Files.write(dir.resolve("A.class"), new byte[100])),
+            Matchers.greaterThan(Admission.cost(Files.write(dir.resolve("A.xmir"), new byte[100])))
+        );
+    }
+
+    @Test
+    void admitsSmallFilesTogether(@TempDir final Path dir) throws Exception {
+        final Admission admission = new Admission(1024L * 1024L);
+        final Path file = Files.write(dir.resolve("Small.xmir"), new byte[1024]);
+        final CountDownLatch together = new CountDownLatch(2);
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Boolean> first = pool.submit(
+                () -> admission.admit(file, () -> AdmissionTest.meet(together))
+            );
+            final Future<Boolean> second = pool.submit(
+                () -> admission.admit(file, () -> AdmissionTest.meet(together))
+            );
+            MatcherAssert.assertThat(
+                "Files that fit the budget together should be processed at the same time",
+                first.get() && second.get(),
+                Matchers.is(true)
+            );
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void processesOutliersAlone(@TempDir final Path dir) throws Exception {
+        final Admission admission = new Admission(1024L);
+        final Path huge = Files.write(dir.resolve("Huge.class"), new byte[4096]);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?>[] futures = new Future<?>[8];
+            for (int idx = 0; idx < futures.length; ++idx) {
+                futures[idx] = pool.submit(
+                    () -> admission.admit(huge, () -> AdmissionTest.run(running, max))
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "Files that exceed the budget should be processed one by one",
+            max.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Wait until the other task reaches the latch.
+     * @param latch Latch to meet at
+     * @return True if the other task came in time
+     */
+    private static boolean meet(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Count the running tasks for a while.
+     * @param running Number of running tasks
+     * @param max Maximum number of running tasks
+     * @return Nothing
+     */
+    private static Object run(final AtomicInteger running, final AtomicInteger max) {
+        max.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5L);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } finally {
+            running.decrementAndGet();
+        }
+        return new Object();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link AssemblerOptions}.
+ * @since 0.15.0
+ */
+final class AssemblerOptionsTest {
+
+    @Test
+    void doesNotPassClassesThroughByDefault() {
+        MatcherAssert.assertThat(
+            "We expect all the classes to be assembled by default",
+            new AssemblerOptions().passthrough(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void hasNoCacheFileByDefault() {
+        MatcherAssert.assertThat(
+            "We expect no cache file if it isn't given",
+            new AssemblerOptions().cache(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void extendsOptionsWithoutChangingPrevious() {
+        final AssemblerOptions base = new AssemblerOptions(AssemblerOptions.THREADS, 4);
+        final AssemblerOptions extended = new AssemblerOptions(
+            base, AssemblerOptions.ORIGINALS, Paths.get("originals.txt")
+        );
+        MatcherAssert.assertThat(
+            "We expect the extended options to keep the previous ones",
+            extended.threads(),
+            Matchers.equalTo(4)
+        );
+        MatcherAssert.assertThat(
+            "We expect the base options to stay without the original classes",
+            base.originals(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void refusesValueOfWrongType() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new AssemblerOptions(AssemblerOptions.VERIFY, "yes").verify(),
+            "We expect an error if the option has a value of a wrong type"
+        );
+    }
+}
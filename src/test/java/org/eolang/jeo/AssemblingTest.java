@@ -95,6 +95,12 @@ final class AssemblingTest {
                 Paths.get("nonempty"),
                 Paths.get("File.xmir"),
                 Paths.get("nonempty/File.class")
+            ),
+            Arguments.of(
+                Paths.get("src"),
+                Paths.get("out"),
+                Paths.get("src/org/eolang/jeo/Compressed.xmir.gz"),
+                Paths.get("out/org/eolang/jeo/Compressed.class")
             )
         );
     }
@@ -4,11 +4,18 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 /**
  * Tests for {@link BytecodeClasses}.
@@ -35,4 +42,46 @@ final class BytecodeClassesTest {
             Matchers.equalTo(0L)
         );
     }
+
+    @Test
+    void reportsAllInvalidClassesTogether(@TempDir final Path dir) throws IOException {
+        Files.write(dir.resolve("First.class"), BytecodeClassesTest.invalid("First"));
+        Files.write(dir.resolve("Second.class"), BytecodeClassesTest.invalid("Second"));
+        final IllegalStateException exception = Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeClasses(dir).verify(2),
+            "We expect verification to fail on invalid classes"
+        );
+        MatcherAssert.assertThat(
+            "We expect all the invalid classes to be reported in a single failure",
+            exception.getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("2 of 2 classes"),
+                Matchers.containsString("First.class"),
+                Matchers.containsString("Second.class")
+            )
+        );
+    }
+
+    /**
+     * Generate a class with a method that returns a reference instead of an int.
+     * @param name Class name.
+     * @return Bytecode.
+     */
+    private static byte[] invalid(final String name) {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(
+            Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", new String[0]
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "broken", "()I", null, null
+        );
+        method.visitCode();
+        method.visitInsn(Opcodes.ACONST_NULL);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(1, 0);
+        method.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
 }
@@ -9,57 +9,193 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test cases for {@link Caching}.
  * This class verifies the caching functionality for transformations,
- * ensuring proper cache behavior and file modification tracking.
+ * ensuring that the cache is keyed by the content of the source file.
  *
  * @since 0.6.0
  */
 final class CachingTest {
 
     @Test
-    void skipsOriginalTransformationSinceAlreadyTransformed(@TempDir final Path temp) {
-        final MockTrans mock = new MockTrans(temp);
-        mock.createFrom(0);
-        mock.createTo(1);
+    void performsTransformationSinceNotYetTransformed(@TempDir final Path temp) {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
         MatcherAssert.assertThat(
-            "Cached transformation should skip original transformation and return the cached result",
+            "Cached transformation should perform original transformation and return the result",
             new String(new Caching(mock).transform(), StandardCharsets.UTF_8),
-            Matchers.equalTo(MockTrans.OLD_TO)
+            Matchers.equalTo(MockTrans.PERFORMED)
         );
     }
 
     @Test
-    void performsTransformationSinceModified(@TempDir final Path temp) {
-        final MockTrans mock = new MockTrans(temp);
-        mock.createTo(0);
-        mock.createFrom(1);
+    void skipsOriginalTransformationSinceAlreadyTransformed(@TempDir final Path temp) {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        final CacheManifest manifest = new CacheManifest("salt");
+        new Caching(mock, manifest).transform();
+        mock.createFrom("content", 10);
         MatcherAssert.assertThat(
-            "Cached transformation should perform original transformation since the source file is modified",
-            new String(new Caching(mock).transform(), StandardCharsets.UTF_8),
+            "Cached transformation should skip the source with the same content and return nothing",
+            new Caching(mock, manifest).transform(),
+            Matchers.equalTo(new byte[0])
+        );
+        MatcherAssert.assertThat(
+            "Original transformation should be performed only once",
+            mock.performed(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void performsTransformationSinceContentChanged(@TempDir final Path temp) {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 10);
+        final CacheManifest manifest = new CacheManifest("salt");
+        new Caching(mock, manifest).transform();
+        mock.createFrom("changed", 0);
+        MatcherAssert.assertThat(
+            "Cached transformation should perform original transformation since the source content is changed",
+            new String(new Caching(mock, manifest).transform(), StandardCharsets.UTF_8),
             Matchers.equalTo(MockTrans.PERFORMED)
         );
     }
 
     @Test
-    void performsTransformationSinceNotYetTransformed(@TempDir final Path temp) {
-        final MockTrans mock = new MockTrans(temp);
-        mock.createFrom(0);
+    void performsTransformationSinceTargetRemoved(@TempDir final Path temp) throws IOException {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        final CacheManifest manifest = new CacheManifest("salt");
+        new Caching(mock, manifest).transform();
+        Files.delete(mock.target());
+        new Caching(mock, manifest).transform();
         MatcherAssert.assertThat(
-            "Cached transformation should perform original transformation and return the result",
-            new String(new Caching(mock).transform(), StandardCharsets.UTF_8),
+            "Cached transformation should restore the removed target",
+            mock.target().toFile().exists(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsCacheBetweenRuns(@TempDir final Path temp) {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        final Path file = temp.resolve("cache/manifest.txt");
+        final CacheManifest first = new CacheManifest(file, "salt");
+        new Caching(mock, first).transform();
+        first.save();
+        new Caching(mock, new CacheManifest(file, "salt")).transform();
+        MatcherAssert.assertThat(
+            "Cached transformation should use the manifest saved by the previous run",
+            mock.performed(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void performsTransformationSinceSettingsChanged(@TempDir final Path temp) {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        final Path file = temp.resolve("manifest.txt");
+        final CacheManifest first = new CacheManifest(file, "version 1");
+        new Caching(mock, first).transform();
+        first.save();
+        new Caching(mock, new CacheManifest(file, "version 2")).transform();
+        MatcherAssert.assertThat(
+            "Cached transformation should perform original transformation since the settings are changed",
+            mock.performed(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void transformsSameContentOnlyOnce(@TempDir final Path temp) throws IOException {
+        final MockTrans first = new MockTrans(temp, "first", "first-to");
+        final MockTrans second = new MockTrans(temp, "second", "second-to");
+        first.createFrom("same", 0);
+        second.createFrom("same", 0);
+        final CacheManifest manifest = new CacheManifest("salt");
+        new Caching(first, manifest).transform();
+        new Caching(second, manifest).transform();
+        MatcherAssert.assertThat(
+            "Original transformation should be performed only once for the same content",
+            first.performed() + second.performed(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Target of the duplicate should be a copy of the first target",
+            new String(Files.readAllBytes(second.target()), StandardCharsets.UTF_8),
             Matchers.equalTo(MockTrans.PERFORMED)
         );
     }
 
-    private static class MockTrans implements Transformation {
+    @Test
+    void keepsTargetWithSameContent(@TempDir final Path temp) throws IOException {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        Files.write(mock.target(), MockTrans.PERFORMED.getBytes(StandardCharsets.UTF_8));
+        final FileTime time = FileTime.from(10, TimeUnit.SECONDS);
+        Files.setLastModifiedTime(mock.target(), time);
+        new Caching(mock, new CacheManifest("salt"), true).transform();
+        MatcherAssert.assertThat(
+            "Target with the same content should not be written again",
+            Files.getLastModifiedTime(mock.target()),
+            Matchers.equalTo(time)
+        );
+    }
+
+    @Test
+    void rewritesTargetWithOtherContent(@TempDir final Path temp) throws IOException {
+        final MockTrans mock = new MockTrans(temp, "from", "to");
+        mock.createFrom("content", 0);
+        Files.write(mock.target(), "outdated".getBytes(StandardCharsets.UTF_8));
+        new Caching(mock, new CacheManifest("salt"), true).transform();
+        MatcherAssert.assertThat(
+            "Target with other content should be written again",
+            new String(Files.readAllBytes(mock.target()), StandardCharsets.UTF_8),
+            Matchers.equalTo(MockTrans.PERFORMED)
+        );
+    }
+
+    @Test
+    void releasesClaimWhenTransformationFailsWithError(@TempDir final Path temp) {
+        final MockTrans first = new MockTrans(temp, "first", "first-to");
+        final MockTrans second = new MockTrans(temp, "second", "second-to");
+        first.createFrom("same", 0);
+        second.createFrom("same", 0);
+        final CacheManifest manifest = new CacheManifest("salt");
+        Assertions.assertThrows(
+            LinkageError.class,
+            () -> new Caching(new FailingTrans(first), manifest).transform(),
+            "We expect the error of the transformation to be thrown as it is"
+        );
+        Assertions.assertTimeoutPreemptively(
+            Duration.ofSeconds(10),
+            () -> new Caching(second, manifest).transform(),
+            "We expect the twin not to wait for the transformation that has failed"
+        );
+        MatcherAssert.assertThat(
+            "We expect the twin to be transformed by itself",
+            second.performed(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Mock transformation that counts how many times it's performed.
+     * @since 0.6.0
+     */
+    private static final class MockTrans implements Transformation {
 
         /**
          * Transformation is performed.
@@ -67,81 +203,116 @@ final class CachingTest {
         private static final String PERFORMED = "Transformation is performed";
 
         /**
-         * Old content of 'to' file.
+         * Temporary directory.
+         */
+        private final Path temp;
+
+        /**
+         * Name of the source file.
          */
-        private static final String OLD_TO = "Old content of 'to' file";
+        private final String from;
 
         /**
-         * Temporary directory.
+         * Name of the target file.
          */
-        private final Path temp;
+        private final String into;
+
+        /**
+         * How many times the transformation is performed.
+         */
+        private final AtomicInteger count;
 
         /**
          * Constructor.
          * @param temp Temporary directory.
+         * @param from Name of the source file.
+         * @param into Name of the target file.
          */
-        MockTrans(final Path temp) {
+        MockTrans(final Path temp, final String from, final String into) {
             this.temp = temp;
+            this.from = from;
+            this.into = into;
+            this.count = new AtomicInteger(0);
         }
 
         @Override
         public Path source() {
-            return this.temp.resolve("from.xmir");
+            return this.temp.resolve(String.format("%s.xmir", this.from));
         }
 
         @Override
         public Path target() {
-            return this.temp.resolve("to.xmir");
+            return this.temp.resolve(String.format("%s.xmir", this.into));
         }
 
         @Override
         public byte[] transform() {
+            this.count.incrementAndGet();
             return MockTrans.PERFORMED.getBytes(StandardCharsets.UTF_8);
         }
 
         /**
-         * Create 'from' file.
-         * @param seconds Seconds to set as last modified time.
+         * How many times the transformation is performed.
+         * @return Number of times.
          */
-        void createFrom(final int seconds) {
-            this.create(
-                this.source(),
-                "Old content of 'from' file".getBytes(StandardCharsets.UTF_8),
-                seconds
-            );
+        int performed() {
+            return this.count.get();
         }
 
         /**
-         * Create 'to' file.
-         * @param seconds Seconds to set as last modified time.
-         */
-        void createTo(final int seconds) {
-            this.create(
-                this.target(),
-                MockTrans.OLD_TO.getBytes(StandardCharsets.UTF_8),
-                seconds
-            );
-        }
-
-        /**
-         * Create file.
-         * @param path Path to the file.
+         * Create 'from' file.
          * @param content Content of the file.
          * @param seconds Seconds to set as last modified time.
          */
-        private void create(final Path path, final byte[] content, final int seconds) {
+        void createFrom(final String content, final int seconds) {
+            final Path path = this.source();
             try {
-                Files.write(path, content);
+                Files.write(path, content.getBytes(StandardCharsets.UTF_8));
                 Files.setLastModifiedTime(path, FileTime.from(seconds, TimeUnit.SECONDS));
             } catch (final IOException exception) {
                 throw new IllegalStateException(
                     String.format(
                         "Failed to create file '%s'",
-                        this.source()
+                        path
                     ),
                     exception
                 );
             }
         }
     }
+
+    /**
+     * Transformation that fails with an error.
+     * @since 0.15.0
+     */
+    private static final class FailingTrans implements Transformation {
+
+        /**
+         * Transformation to take the files from.
+         */
+        private final Transformation origin;
+
+        /**
+         * Constructor.
+         * @param origin Transformation to take the files from.
+         */
+        FailingTrans(final Transformation origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public Path source() {
+            return this.origin.source();
+        }
+
+        @Override
+        public Path target() {
+            return this.origin.target();
+        }
+
+        @Override
+        public byte[] transform() {
+            throw new LinkageError("Transformation has failed");
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link DisassemblerOptions}.
+ * @since 0.15.0
+ */
+final class DisassemblerOptionsTest {
+
+    @Test
+    void remembersNoOriginalsByDefault() {
+        MatcherAssert.assertThat(
+            "We expect no file of original classes if it isn't given",
+            new DisassemblerOptions().originals(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void extendsOptionsWithoutChangingPrevious() {
+        final DisassemblerOptions base = new DisassemblerOptions(DisassemblerOptions.DEBUG, true);
+        final DisassemblerOptions extended = new DisassemblerOptions(
+            base, DisassemblerOptions.CACHE, Paths.get("cache.txt")
+        );
+        MatcherAssert.assertThat(
+            "We expect the extended options to keep the previous ones",
+            extended.debug(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "We expect the base options to stay without the cache file",
+            base.cache(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void refusesOddNumberOfValues() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new DisassemblerOptions(DisassemblerOptions.THREADS),
+            "We expect an error if an option has no value"
+        );
+    }
+}
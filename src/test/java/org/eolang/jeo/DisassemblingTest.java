@@ -4,9 +4,14 @@
  */
 package org.eolang.jeo;
 
+import com.jcabi.matchers.XhtmlMatchers;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
@@ -74,4 +79,30 @@ final class DisassemblingTest {
             )
         );
     }
+
+    @Test
+    void writesCompressedXmir(@TempDir final Path tmp) throws Exception {
+        final Path clazz = tmp.resolve("Check.class");
+        Files.write(clazz, new BytesOf(new ResourceOf("Check.class")).asBytes());
+        final Disassembling disassembling = new Disassembling(
+            tmp, tmp.resolve("xmir"), clazz, new Format(Format.COMPRESS, true)
+        );
+        MatcherAssert.assertThat(
+            "We expect the '.xmir.gz' extension for compressed XMIR",
+            disassembling.target(),
+            Matchers.equalTo(tmp.resolve("xmir").resolve("Check.xmir.gz"))
+        );
+        MatcherAssert.assertThat(
+            "We expect valid XMIR after decompression",
+            new String(
+                new BytesOf(
+                    new InputOf(
+                        new GZIPInputStream(new ByteArrayInputStream(disassembling.transform()))
+                    )
+                ).asBytes(),
+                StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPath("/object/o")
+        );
+    }
 }
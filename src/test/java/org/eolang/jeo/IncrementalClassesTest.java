@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link IncrementalClasses}.
+ * @since 0.15.0
+ */
+final class IncrementalClassesTest {
+
+    @Test
+    void skipsClassesVerifiedBefore(@TempDir final Path dir) throws IOException {
+        final Path clazz = IncrementalClassesTest.save(dir, "Verified", "java/lang/Object");
+        final Path record = dir.resolve("record").resolve("verified.txt");
+        final IncrementalClasses first = new IncrementalClasses(
+            dir, Collections.singletonList(clazz), record, false
+        );
+        first.remember(first.all().collect(Collectors.toList()));
+        MatcherAssert.assertThat(
+            "We expect a class with a recorded hash not to be verified again",
+            new IncrementalClasses(dir, Collections.singletonList(clazz), record, false)
+                .all()
+                .collect(Collectors.toList()),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void verifiesOnlyAssembledClasses(@TempDir final Path dir) throws IOException {
+        final Path assembled = IncrementalClassesTest.save(dir, "Assembled", "java/lang/Object");
+        IncrementalClassesTest.save(dir, "Foreign", "java/lang/Object");
+        MatcherAssert.assertThat(
+            "We expect only the assembled class to be verified",
+            new IncrementalClasses(
+                dir, Collections.singletonList(assembled), dir.resolve("verified.txt"), false
+            ).all().collect(Collectors.toList()),
+            Matchers.contains(assembled)
+        );
+    }
+
+    @Test
+    void verifiesSubtypesOfChangedClasses(@TempDir final Path dir) throws IOException {
+        final Path base = IncrementalClassesTest.save(dir, "Base", "java/lang/Object");
+        final Path child = IncrementalClassesTest.save(dir, "Child", "Base");
+        final Path grandchild = IncrementalClassesTest.save(dir, "Grandchild", "Child");
+        IncrementalClassesTest.save(dir, "Unrelated", "java/lang/Object");
+        MatcherAssert.assertThat(
+            "We expect all the subtypes of the changed class to be verified",
+            new IncrementalClasses(
+                dir, Collections.singletonList(base), dir.resolve("verified.txt"), true
+            ).all().collect(Collectors.toList()),
+            Matchers.containsInAnyOrder(base, child, grandchild)
+        );
+    }
+
+    /**
+     * Save an empty class to the directory.
+     * @param dir Directory.
+     * @param name Class name.
+     * @param parent Super class name.
+     * @return Path to the class file.
+     * @throws IOException If something goes wrong.
+     */
+    private static Path save(
+        final Path dir, final String name, final String parent
+    ) throws IOException {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, parent, new String[0]);
+        writer.visitEnd();
+        return Files.write(dir.resolve(String.format("%s.class", name)), writer.toByteArray());
+    }
+}
@@ -10,12 +10,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -102,6 +107,72 @@ final class ParallelTranslatorTest {
         );
     }
 
+    @Test
+    void schedulesLargestFilesFirst(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ParallelTranslatorTest.files(temp, 1, 300, 20, 4000);
+        final List<Path> started = new CopyOnWriteArrayList<>();
+        new ParallelTranslator(
+            path -> {
+                started.add(path);
+                return path;
+            },
+            1
+        ).apply(files.stream()).collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "Files should be translated from the largest one to the smallest one",
+            started,
+            Matchers.contains(files.get(3), files.get(1), files.get(2), files.get(0))
+        );
+    }
+
+    @Test
+    void keepsOrderOfRepresentations(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ParallelTranslatorTest.files(temp, 5, 700, 1, 90, 3000, 2);
+        MatcherAssert.assertThat(
+            "Translated representations should keep the original order",
+            new ParallelTranslator(path -> path, 3)
+                .apply(files.stream())
+                .collect(Collectors.toList()),
+            Matchers.equalTo(files)
+        );
+    }
+
+    @Test
+    void rethrowsFailureOfTranslation(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ParallelTranslatorTest.files(temp, 10);
+        MatcherAssert.assertThat(
+            "The original exception should be rethrown",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new ParallelTranslator(
+                    path -> {
+                        throw new IllegalArgumentException("Broken file");
+                    },
+                    2
+                ).apply(files.stream()).collect(Collectors.toList()),
+                "We expect the translation to fail"
+            ).getMessage(),
+            Matchers.equalTo("Broken file")
+        );
+    }
+
+    /**
+     * Create files of the given sizes.
+     * @param dir Directory.
+     * @param sizes Sizes of the files.
+     * @return Created files.
+     * @throws IOException If fails.
+     */
+    private static List<Path> files(final Path dir, final int... sizes) throws IOException {
+        final List<Path> result = new ArrayList<>(sizes.length);
+        for (int idx = 0; idx < sizes.length; ++idx) {
+            result.add(
+                Files.write(dir.resolve(String.format("File%d.class", idx)), new byte[sizes[idx]])
+            );
+        }
+        return result;
+    }
+
     /**
      * Transform the path.
      * @param path Path to transform.
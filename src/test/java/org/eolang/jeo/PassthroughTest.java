@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Passthrough}.
+ * @since 0.15.0
+ */
+final class PassthroughTest {
+
+    /**
+     * Result of the assembling.
+     */
+    private static final byte[] ASSEMBLED = "assembled".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void passesUnchangedClassThrough(@TempDir final Path temp) throws IOException {
+        final Path clazz = Files.write(temp.resolve("Foo.class"), new byte[] {1, 2, 3});
+        final Path xmir = Files.write(temp.resolve("Foo.xmir"), new byte[] {4, 5});
+        final Originals originals = new Originals(temp.resolve("originals.txt"));
+        originals.remember(xmir, clazz, new byte[0]);
+        originals.save();
+        final Path target = temp.resolve("out/Foo.class");
+        new Passthrough(
+            new PassthroughTest.Fake(xmir, target), new Originals(temp.resolve("originals.txt"))
+        ).transform();
+        MatcherAssert.assertThat(
+            "We expect the original class to be passed through without assembling",
+            Files.readAllBytes(target),
+            Matchers.equalTo(new byte[] {1, 2, 3})
+        );
+    }
+
+    @Test
+    void assemblesChangedXmir(@TempDir final Path temp) throws IOException {
+        final Path clazz = Files.write(temp.resolve("Bar.class"), new byte[] {1, 2, 3});
+        final Path xmir = temp.resolve("Bar.xmir");
+        final Originals originals = new Originals(temp.resolve("originals.txt"));
+        originals.remember(xmir, clazz, new byte[] {4, 5});
+        Files.write(xmir, new byte[] {4, 5, 6});
+        MatcherAssert.assertThat(
+            "We expect the changed XMIR to be assembled",
+            new Passthrough(
+                new PassthroughTest.Fake(xmir, temp.resolve("out/Bar.class")), originals
+            ).transform(),
+            Matchers.equalTo(PassthroughTest.ASSEMBLED)
+        );
+    }
+
+    @Test
+    void assemblesXmirOfChangedClass(@TempDir final Path temp) throws IOException {
+        final Path clazz = Files.write(temp.resolve("Baz.class"), new byte[] {1, 2, 3});
+        final Path xmir = Files.write(temp.resolve("Baz.xmir"), new byte[] {4, 5});
+        final Originals originals = new Originals(temp.resolve("originals.txt"));
+        originals.remember(xmir, clazz, new byte[0]);
+        Files.write(clazz, new byte[] {7});
+        MatcherAssert.assertThat(
+            "We expect the XMIR to be assembled if its original class has changed",
+            new Passthrough(new PassthroughTest.Fake(xmir, clazz), originals).transform(),
+            Matchers.equalTo(PassthroughTest.ASSEMBLED)
+        );
+    }
+
+    /**
+     * Fake assembling.
+     * @since 0.15.0
+     */
+    private static final class Fake implements Transformation {
+
+        /**
+         * XMIR file.
+         */
+        private final Path xmir;
+
+        /**
+         * Class file.
+         */
+        private final Path clazz;
+
+        /**
+         * Constructor.
+         * @param xmir XMIR file
+         * @param clazz Class file
+         */
+        Fake(final Path xmir, final Path clazz) {
+            this.xmir = xmir;
+            this.clazz = clazz;
+        }
+
+        @Override
+        public Path source() {
+            return this.xmir;
+        }
+
+        @Override
+        public Path target() {
+            return this.clazz;
+        }
+
+        @Override
+        public byte[] transform() {
+            return PassthroughTest.ASSEMBLED.clone();
+        }
+    }
+}
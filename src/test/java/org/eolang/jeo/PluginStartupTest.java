@@ -4,8 +4,12 @@
  */
 package org.eolang.jeo;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.apache.maven.project.MavenProject;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
@@ -30,11 +34,61 @@ final class PluginStartupTest {
             dir.resolve("SomeClassCompiledDynamically.class"),
             new BytecodeObject(new BytecodeClass(name)).bytecode().bytes()
         );
-        new PluginStartup(new MavenProject(), dir).init();
+        try (PluginStartup startup = new PluginStartup(new MavenProject(), dir)) {
+            startup.init();
+            MatcherAssert.assertThat(
+                "We expect the class to be loaded",
+                Thread.currentThread().getContextClassLoader().loadClass(name),
+                Matchers.notNullValue()
+            );
+        }
+    }
+
+    @Test
+    void loadsClassesFromJarsLazily(@TempDir final Path dir) throws Exception {
+        final String name = "SomeClassPackedIntoJar";
+        final Path jar = dir.resolve("classes.jar");
+        try (OutputStream file = Files.newOutputStream(jar);
+            ZipOutputStream zip = new ZipOutputStream(file)) {
+            zip.putNextEntry(new ZipEntry(String.format("%s.class", name)));
+            zip.write(new BytecodeObject(new BytecodeClass(name)).bytecode().bytes());
+            zip.closeEntry();
+        }
+        try (PluginStartup startup = new PluginStartup(new MavenProject(), jar)) {
+            startup.init();
+            MatcherAssert.assertThat(
+                "We expect the class to be loaded from the jar",
+                Thread.currentThread().getContextClassLoader().loadClass(name),
+                Matchers.notNullValue()
+            );
+        }
+    }
+
+    @Test
+    void restoresContextClassLoaderWhenClosed(@TempDir final Path dir) throws Exception {
+        final ClassLoader before = Thread.currentThread().getContextClassLoader();
+        try (PluginStartup startup = new PluginStartup(new MavenProject(), dir)) {
+            startup.init();
+        }
         MatcherAssert.assertThat(
-            "We expect the class to be loaded",
-            Thread.currentThread().getContextClassLoader().loadClass(name),
-            Matchers.notNullValue()
+            "We expect the previous context class loader after the startup is closed",
+            Thread.currentThread().getContextClassLoader(),
+            Matchers.sameInstance(before)
         );
     }
+
+    @Test
+    void skipsFilesThatAreNotArchives(@TempDir final Path dir) throws Exception {
+        final Path broken = dir.resolve("broken.jar");
+        Files.write(broken, "not a zip".getBytes(StandardCharsets.UTF_8));
+        try (PluginStartup startup = new PluginStartup(new MavenProject(), broken)) {
+            startup.init();
+            MatcherAssert.assertThat(
+                "We expect resources to be found past a file that is not a zip archive",
+                Thread.currentThread().getContextClassLoader()
+                    .getResourceAsStream("java/lang/Object.class"),
+                Matchers.notNullValue()
+            );
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link Verifying}.
+ * @since 0.15.0
+ */
+final class VerifyingTest {
+
+    @Test
+    void keepsValidClass(@TempDir final Path dir) throws IOException {
+        final Path target = dir.resolve("Valid.class");
+        final VerificationFailures failures = new VerificationFailures();
+        new Caching(
+            new Verifying(
+                new FakeTrans(dir, target, VerifyingTest.clazz("Valid", false)),
+                failures
+            )
+        ).transform();
+        Assertions.assertDoesNotThrow(
+            () -> failures.report(1),
+            "We expect a valid class to pass verification"
+        );
+        MatcherAssert.assertThat(
+            "We expect a valid class to be saved",
+            target.toFile(),
+            FileMatchers.anExistingFile()
+        );
+    }
+
+    @Test
+    void reportsAndRejectsInvalidClass(@TempDir final Path dir) throws IOException {
+        final Path target = dir.resolve("Invalid.class");
+        Files.write(target, VerifyingTest.clazz("Invalid", false));
+        final VerificationFailures failures = new VerificationFailures();
+        Assertions.assertThrows(
+            RejectedClass.class,
+            () -> new Caching(
+                new Verifying(
+                    new FakeTrans(dir, target, VerifyingTest.clazz("Invalid", true)),
+                    failures
+                )
+            ).transform(),
+            "We expect the invalid class to be rejected"
+        );
+        MatcherAssert.assertThat(
+            "We expect the invalid class to be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> failures.report(1),
+                "We expect verification to fail"
+            ).getMessage(),
+            Matchers.containsString("Invalid.class")
+        );
+        MatcherAssert.assertThat(
+            "We expect neither the invalid class nor its previous version to be kept",
+            target.toFile(),
+            Matchers.not(FileMatchers.anExistingFile())
+        );
+    }
+
+    /**
+     * Generate a class with a single method.
+     * @param name Class name.
+     * @param broken Should the method return a reference instead of an int?
+     * @return Bytecode.
+     */
+    private static byte[] clazz(final String name, final boolean broken) {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(
+            Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", new String[0]
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "answer", "()I", null, null
+        );
+        method.visitCode();
+        if (broken) {
+            method.visitInsn(Opcodes.ACONST_NULL);
+        } else {
+            method.visitInsn(Opcodes.ICONST_1);
+        }
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(1, 0);
+        method.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Fake transformation that produces the given bytes.
+     * @since 0.15.0
+     */
+    private static final class FakeTrans implements Transformation {
+
+        /**
+         * Source file, which is created with the same content.
+         */
+        private final Path from;
+
+        /**
+         * Target file.
+         */
+        private final Path into;
+
+        /**
+         * Produced bytes.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Constructor.
+         * @param from Directory of the source file.
+         * @param into Target file.
+         * @param bytes Produced bytes.
+         * @throws IOException If the source file can't be created.
+         */
+        FakeTrans(final Path from, final Path into, final byte[] bytes) throws IOException {
+            this.from = Files.write(from.resolve("source.xmir"), bytes);
+            this.into = into;
+            this.bytes = bytes.clone();
+        }
+
+        @Override
+        public Path source() {
+            return this.from;
+        }
+
+        @Override
+        public Path target() {
+            return this.into;
+        }
+
+        @Override
+        public byte[] transform() {
+            return this.bytes.clone();
+        }
+    }
+}
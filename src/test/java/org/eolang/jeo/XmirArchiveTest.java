@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link XmirArchive}.
+ * @since 0.15.0
+ */
+final class XmirArchiveTest {
+
+    @Test
+    void keepsAllXmirInOneFile(@TempDir final Path temp) throws Exception {
+        final Path classes = XmirArchiveTest.classes(temp);
+        final Path xmirs = temp.resolve("xmirs");
+        try (XmirArchive archive = new XmirArchive(xmirs, true)) {
+            new Disassembler(classes, archive.root()).disassemble();
+        }
+        try (Stream<Path> all = Files.list(xmirs)) {
+            MatcherAssert.assertThat(
+                "We expect only the archive in the folder of XMIR files",
+                all.collect(Collectors.toList()),
+                Matchers.contains(xmirs.resolve(XmirArchive.NAME))
+            );
+        }
+        try (XmirArchive archive = new XmirArchive(xmirs, true)) {
+            MatcherAssert.assertThat(
+                "We expect XMIR of the class in the archive",
+                new XmirFiles(archive.root()).total(),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+
+    @Test
+    void assemblesClassesFromArchive(@TempDir final Path temp) throws Exception {
+        final Path classes = XmirArchiveTest.classes(temp);
+        final Path xmirs = temp.resolve("xmirs");
+        try (XmirArchive archive = new XmirArchive(xmirs, true)) {
+            new Disassembler(classes, archive.root()).disassemble();
+        }
+        final Path output = temp.resolve("output");
+        try (XmirArchive archive = new XmirArchive(xmirs, true)) {
+            new XmirFiles(archive.root()).verify();
+            new Assembler(archive.root(), output, new AssemblerOptions()).assemble();
+        }
+        MatcherAssert.assertThat(
+            "We expect the class assembled from the archive",
+            Files.exists(output.resolve("MethodByte.class")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsFilesInFolderIfDisabled(@TempDir final Path temp) {
+        try (XmirArchive archive = new XmirArchive(temp, false)) {
+            MatcherAssert.assertThat(
+                "We expect the folder itself if the archive is disabled",
+                archive.root(),
+                Matchers.equalTo(temp)
+            );
+        }
+    }
+
+    /**
+     * Folder with a compiled class.
+     * @param temp Temporary folder
+     * @return Folder of classes
+     * @throws Exception If the class can't be written
+     */
+    private static Path classes(final Path temp) throws Exception {
+        final Path result = temp.resolve("classes");
+        Files.createDirectories(result);
+        Files.write(
+            result.resolve("MethodByte.class"),
+            new BytesOf(new ResourceOf("MethodByte.class")).asBytes()
+        );
+        return result;
+    }
+}
@@ -5,12 +5,14 @@
 package org.eolang.jeo;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.BytecodeRepresentation;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
@@ -127,6 +129,29 @@ final class XmirFilesTest {
         );
     }
 
+    @Test
+    void verifiesCompressedXmirFiles(@TempDir final Path temp) throws IOException {
+        try (OutputStream output = new GZIPOutputStream(
+            Files.newOutputStream(temp.resolve("MethodByte.xmir.gz"))
+        )) {
+            output.write(
+                new BytecodeRepresentation(new ResourceOf("MethodByte.class"))
+                    .toXmir()
+                    .toString()
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        MatcherAssert.assertThat(
+            "We expect that compressed XMIR files are retrieved as well",
+            new XmirFiles(temp).all().collect(Collectors.toList()),
+            Matchers.hasSize(1)
+        );
+        Assertions.assertDoesNotThrow(
+            () -> new XmirFiles(temp).verify(),
+            "We expected no exceptions when verifying the correct compressed xmir files"
+        );
+    }
+
     @Test
     void failsOnInvalidXmirFile(@TempDir final Path temp) throws IOException {
         Files.write(
@@ -5,8 +5,12 @@
 package org.eolang.jeo.representation;
 
 import com.jcabi.matchers.XhtmlMatchers;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.set.SetOf;
 import org.eolang.jeo.VerifiedBytecode;
 import org.eolang.jeo.representation.asm.AsmLabels;
 import org.eolang.jeo.representation.bytecode.Bytecode;
@@ -17,6 +21,8 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.objectweb.asm.MethodVisitor;
 
 /**
@@ -227,4 +233,162 @@ final class BytecodeRepresentationTest {
             Matchers.equalTo(original.toString())
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Example.class",
+        "AnnotationsApplication.class",
+        "FastHttpDateFormat.class",
+        "LtIncorrectUnlint.class",
+        "closed-module-info.class"
+    })
+    void writesSameXmirToStream(final String resource) throws Exception {
+        final BytecodeRepresentation repr = new BytecodeRepresentation(new ResourceOf(resource));
+        for (final Format format : new Format[] {
+            new Format(BytecodeRepresentationTest.DEBUG, Format.REPRODUCIBLE, true),
+            new Format(Format.PRETTY, false, Format.REPRODUCIBLE, true),
+            new Format(
+                Format.MODE, "debug", Format.COMMENTS, false, Format.WITH_LISTING, true,
+                Format.REPRODUCIBLE, true
+            ),
+        }) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            repr.toEO(format, output);
+            MatcherAssert.assertThat(
+                String.format("We expect the same XMIR of %s with the format %s", resource, format),
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                Matchers.equalTo(repr.toEO(format))
+            );
+        }
+    }
+
+    @Test
+    void disassemblesOnlySignaturesOfMethods() {
+        MatcherAssert.assertThat(
+            "We expect methods without bodies, try-catch blocks and maxs in the 'signatures' mode",
+            new BytecodeRepresentation(new ResourceOf(BytecodeRepresentationTest.EXAMPLE_BYTECODE))
+                .toEO(new Format(Format.MODE, "signatures")),
+            Matchers.allOf(
+                XhtmlMatchers.hasXPaths(
+                    "/object/o/o[o[contains(@base,'method')]]/o[@name='descriptor']",
+                    "/object/metas/meta[head='mode' and tail='signatures']"
+                ),
+                Matchers.not(XhtmlMatchers.hasXPath("//o[@name='body']")),
+                Matchers.not(XhtmlMatchers.hasXPath("//o[@name='maxs']")),
+                Matchers.not(XhtmlMatchers.hasXPath("//o[starts-with(@name,'trycatchblocks')]"))
+            )
+        );
+    }
+
+    @Test
+    void refusesToAssembleSignatures() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new XmirRepresentation(
+                new BytecodeRepresentation(
+                    new ResourceOf(BytecodeRepresentationTest.EXAMPLE_BYTECODE)
+                ).toXmir(new Format(Format.MODE, "signatures"))
+            ).toBytecode(),
+            "We expect XMIR without code of methods not to be assembled"
+        );
+    }
+
+    @Test
+    void keepsCodeOfExcludedMethods() {
+        MatcherAssert.assertThat(
+            "We expect the code of excluded methods to be kept as hex bytes, without instructions",
+            new BytecodeRepresentation(new ResourceOf(BytecodeRepresentationTest.EXAMPLE_BYTECODE))
+                .toEO(
+                    new Format(
+                        Format.FILTER,
+                        new MethodFilter(
+                            Collections.emptySet(), new SetOf<>("**"), false, false, false
+                        )
+                    )
+                ),
+            Matchers.allOf(
+                XhtmlMatchers.hasXPaths(
+                    "/object/o/o[o[contains(@base,'method')]]/o[@name='opaque']/o[@name='code']",
+                    "/object/o/o[o[contains(@base,'method')]]/o[@name='maxs']"
+                ),
+                Matchers.not(XhtmlMatchers.hasXPath("//o[@name='body']/o"))
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "LoggerFactory$DelegatingLogger.class",
+        "FastHttpDateFormat.class",
+        "Check.class"
+    })
+    void copiesCodeOfExcludedMethods(final String resource) throws Exception {
+        final ResourceOf input = new ResourceOf(resource);
+        MatcherAssert.assertThat(
+            "We expect the code of excluded methods to be copied to the class as it is",
+            new Bytecode(
+                new XmirRepresentation(
+                    new BytecodeRepresentation(input).toXmir(
+                        new Format(
+                            BytecodeRepresentationTest.DEBUG,
+                            Format.FILTER,
+                            new MethodFilter(
+                                Collections.emptySet(), new SetOf<>("**"), false, false, false
+                            )
+                        )
+                    )
+                ).toBytecode().bytes()
+            ).toString(),
+            Matchers.equalTo(new Bytecode(new BytesOf(input).asBytes()).toString())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "AnnotationsApplication.class",
+        "Check.class",
+        "FastHttpDateFormat.class",
+        "LoggerFactory$DelegatingLogger.class"
+    })
+    void disassemblesReproducibly(final String resource) {
+        final Format format = new Format(
+            BytecodeRepresentationTest.DEBUG, Format.REPRODUCIBLE, true
+        );
+        MatcherAssert.assertThat(
+            String.format("We expect the same XMIR of %s each time it's disassembled", resource),
+            new BytecodeRepresentation(new ResourceOf(resource)).toEO(format),
+            Matchers.equalTo(new BytecodeRepresentation(new ResourceOf(resource)).toEO(format))
+        );
+    }
+
+    @Test
+    void writesSameBytesOfFramesEachTime() throws Exception {
+        final Format format = new Format(Format.REPRODUCIBLE, true);
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        new BytecodeRepresentation(new ResourceOf("FastHttpDateFormat.class"))
+            .toEO(format, first);
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        new BytecodeRepresentation(new ResourceOf("FastHttpDateFormat.class"))
+            .toEO(format, second);
+        MatcherAssert.assertThat(
+            "We expect XMIR of a class with stack map frames",
+            new String(first.toByteArray(), StandardCharsets.UTF_8),
+            XhtmlMatchers.hasXPath("//o[@base='Q.jeo.frame']")
+        );
+        MatcherAssert.assertThat(
+            "We expect the same bytes of XMIR with frames each time it's disassembled",
+            first.toByteArray(),
+            Matchers.equalTo(second.toByteArray())
+        );
+    }
+
+    @Test
+    void fixesTimeOfReproducibleXmir() {
+        MatcherAssert.assertThat(
+            "We expect the time of reproducible XMIR to be fixed to the epoch",
+            new BytecodeRepresentation(new ResourceOf(BytecodeRepresentationTest.EXAMPLE_BYTECODE))
+                .toEO(new Format(Format.REPRODUCIBLE, true)),
+            XhtmlMatchers.hasXPath("/object[@time='1970-01-01T00:00:00Z']")
+        );
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.util.Collections;
+import org.cactoos.set.SetOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link MethodFilter}.
+ * @since 0.15.0
+ */
+final class MethodFilterTest {
+
+    @Test
+    void selectsAllMethodsByDefault() {
+        MatcherAssert.assertThat(
+            "We expect the code of all the methods to be disassembled by default",
+            new MethodFilter().test(
+                "org/eolang/Foo", Opcodes.ACC_SYNTHETIC, "lambda$bar$0", "()V"
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "org/eolang/Foo#bar(I)V, true",
+        "org/eolang/Foo#bar*, true",
+        "org.eolang.Foo#bar*, true",
+        "org/eolang/*#*, true",
+        "org/**, true",
+        "org/**/Foo#bar*, true",
+        "org/**/eolang/Foo, true",
+        "**/Foo, true",
+        "org/**/Bar, false",
+        "org/*, false",
+        "org/eolang/Foo#baz*, false",
+        "org/eolang/Foo#bar()V, false"
+    })
+    void matchesIncludes(final String pattern, final boolean selected) {
+        MatcherAssert.assertThat(
+            String.format("We expect the pattern '%s' to be matched correctly", pattern),
+            new MethodFilter(
+                new SetOf<>(pattern), Collections.emptySet(), false, false, false
+            ).test("org/eolang/Foo", Opcodes.ACC_PUBLIC, "bar", "(I)V"),
+            Matchers.is(selected)
+        );
+    }
+
+    @Test
+    void prefersExcludes() {
+        MatcherAssert.assertThat(
+            "We expect excludes to take precedence over includes",
+            new MethodFilter(
+                new SetOf<>("org/eolang/**"),
+                new SetOf<>("**#bar(Ljava/lang/String;)V"),
+                false,
+                false,
+                false
+            ).test("org/eolang/Foo", Opcodes.ACC_PUBLIC, "bar", "(Ljava/lang/String;)V"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void skipsLambdas() {
+        final MethodFilter filter = new MethodFilter(
+            Collections.emptySet(), Collections.emptySet(), false, false, true
+        );
+        MatcherAssert.assertThat(
+            "We expect lambdas to be skipped, but other synthetic methods to be selected",
+            new boolean[] {
+                filter.test("org/eolang/Foo", Opcodes.ACC_SYNTHETIC, "lambda$bar$0", "()V"),
+                filter.test("org/eolang/Foo", Opcodes.ACC_SYNTHETIC, "access$000", "()V"),
+            },
+            Matchers.equalTo(new boolean[] {false, true})
+        );
+    }
+
+    @Test
+    void skipsBridges() {
+        MatcherAssert.assertThat(
+            "We expect bridges to be skipped",
+            new MethodFilter(
+                Collections.emptySet(), Collections.emptySet(), false, true, false
+            ).test(
+                "org/eolang/Foo",
+                Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE,
+                "compareTo",
+                "(Ljava/lang/Object;)I"
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void printsSameStringForSamePatterns() {
+        MatcherAssert.assertThat(
+            "We expect the string representation not to depend on the order of patterns",
+            new MethodFilter(
+                new SetOf<>("a#b", "c#d"), Collections.emptySet(), true, false, false
+            ).toString(),
+            Matchers.equalTo(
+                new MethodFilter(
+                    new SetOf<>("c#d", "a#b"), Collections.emptySet(), true, false, false
+                ).toString()
+            )
+        );
+    }
+}
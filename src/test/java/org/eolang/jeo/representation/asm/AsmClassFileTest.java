@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.util.TraceClassVisitor;
+
+/**
+ * Test case for {@link AsmClassFile}.
+ * @since 0.15.0
+ */
+final class AsmClassFileTest {
+
+    @Test
+    void printsSameListingAsSeparatePass() throws Exception {
+        final byte[] bytes = new BytesOf(new ResourceOf("FastHttpDateFormat.class")).asBytes();
+        final StringWriter expected = new StringWriter();
+        new ClassReader(bytes).accept(new TraceClassVisitor(new PrintWriter(expected)), 0);
+        MatcherAssert.assertThat(
+            "We expect the listing printed along with the tree to be the same as a separate one",
+            new AsmClassFile(bytes, 0, true).listing(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    @Test
+    void readsSameBytecodeWithListing() throws Exception {
+        final byte[] bytes = new BytesOf(new ResourceOf("MethodByte.class")).asBytes();
+        MatcherAssert.assertThat(
+            "We expect the listing not to change the disassembled bytecode",
+            new AsmClassFile(bytes, ClassReader.SKIP_DEBUG, true).bytecode(),
+            Matchers.equalTo(new AsmProgram(bytes).bytecode())
+        );
+    }
+
+    @Test
+    void readsClassOnlyOnce() throws Exception {
+        final AsmClassFile clazz = new AsmClassFile(
+            new BytesOf(new ResourceOf("MethodByte.class")).asBytes(), 0
+        );
+        MatcherAssert.assertThat(
+            "We expect the same tree to be reused by all the consumers",
+            clazz.node(),
+            Matchers.sameInstance(clazz.node())
+        );
+    }
+
+    @Test
+    void readsNameOfClass() throws Exception {
+        MatcherAssert.assertThat(
+            "We expect the internal name of the class",
+            new AsmClassFile(new BytesOf(new ResourceOf("MethodByte.class")).asBytes(), 0).name(),
+            Matchers.equalTo("org/eolang/jeo/MethodByte")
+        );
+    }
+
+    @Test
+    void convertsMethodsInParallelInOriginalOrder() throws Exception {
+        final AsmClassFile clazz = new AsmClassFile(
+            new BytesOf(new ResourceOf("FastHttpDateFormat.class")).asBytes(), 0
+        );
+        MatcherAssert.assertThat(
+            "We expect the parallel conversion to give the same bytecode as the serial one",
+            clazz.bytecode(1),
+            Matchers.equalTo(clazz.bytecode())
+        );
+    }
+}
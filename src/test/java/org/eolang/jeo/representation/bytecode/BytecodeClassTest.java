@@ -4,6 +4,7 @@
  */
 package org.eolang.jeo.representation.bytecode;
 
+import com.jcabi.matchers.XhtmlMatchers;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -181,4 +182,48 @@ final class BytecodeClassTest {
             "We expect no exception here because all instructions are valid"
         );
     }
+
+    @Test
+    void numbersOverloadedMethodsInOrder() {
+        MatcherAssert.assertThat(
+            "We expect overloaded methods to be numbered in the order they appear in the class",
+            new BytecodeObject(
+                new BytecodeClass("Overloads")
+                    .withMethod("foo", "()V", Opcodes.ACC_PUBLIC).opcode(Opcodes.RETURN).up()
+                    .withMethod("bar", "()V", Opcodes.ACC_PUBLIC).opcode(Opcodes.RETURN).up()
+                    .withMethod("foo", "(I)V", Opcodes.ACC_PUBLIC).opcode(Opcodes.RETURN).up()
+                    .withMethod("foo", "(J)V", Opcodes.ACC_PUBLIC).opcode(Opcodes.RETURN).up()
+            ).xml().toString(),
+            XhtmlMatchers.hasXPaths(
+                "//o[@name='j$foo' and o[contains(@base,'method')]]",
+                "//o[@name='j$bar' and o[contains(@base,'method')]]",
+                "//o[@name='j$foo-2' and o[contains(@base,'method')]]",
+                "//o[@name='j$foo-3' and o[contains(@base,'method')]]"
+            )
+        );
+    }
+
+    @Test
+    void computesFramesForClassesThatCannotBeLoaded() {
+        Assertions.assertDoesNotThrow(
+            () -> new BytecodeObject(
+                new BytecodeClass("Merging")
+                    .withMethod("j$pick", "(Z)Ljava/lang/Object;", Opcodes.ACC_STATIC)
+                    .opcode(Opcodes.ILOAD, 0)
+                    .opcode(Opcodes.IFEQ, new BytecodeLabel("other"))
+                    .opcode(Opcodes.NEW, "absent/First")
+                    .opcode(Opcodes.DUP)
+                    .opcode(Opcodes.INVOKESPECIAL, "absent/First", "<init>", "()V", false)
+                    .opcode(Opcodes.GOTO, new BytecodeLabel("end"))
+                    .label("other")
+                    .opcode(Opcodes.NEW, "absent/Second")
+                    .opcode(Opcodes.DUP)
+                    .opcode(Opcodes.INVOKESPECIAL, "absent/Second", "<init>", "()V", false)
+                    .label("end")
+                    .opcode(Opcodes.ARETURN)
+                    .up()
+            ).bytecode(),
+            "We expect frames to be computed without loading the merged classes"
+        );
+    }
 }
@@ -8,6 +8,7 @@ import org.eolang.jeo.representation.directives.DirectivesInstruction;
 import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -42,4 +43,39 @@ final class BytecodeInstructionTest {
             )
         );
     }
+
+    @Test
+    void classifiesBranchInstructions() {
+        final BytecodeLabel label = new BytecodeLabel("target");
+        MatcherAssert.assertThat(
+            "We expect that IFNULL is a conditional branch only",
+            new boolean[]{
+                new BytecodeInstruction(Opcodes.IFNULL, label).isIf(),
+                new BytecodeInstruction(Opcodes.IFNULL, label).isJump(),
+                new BytecodeInstruction(Opcodes.IFNULL, label).isSwitch(),
+                new BytecodeInstruction(Opcodes.IFNULL, label).isReturn(),
+                new BytecodeInstruction(Opcodes.IFNULL, label).isThrow()
+            },
+            Matchers.equalTo(new boolean[]{true, false, false, false, false})
+        );
+    }
+
+    @Test
+    void computesImpactOfVariableInstruction() {
+        final BytecodeInstruction instruction = new BytecodeInstruction(Opcodes.LLOAD, 3);
+        MatcherAssert.assertThat(
+            "We expect that LLOAD pushes two slots and reads a long variable",
+            new int[]{instruction.impact(), instruction.varIndex(), instruction.varSize()},
+            Matchers.equalTo(new int[]{2, 3, 2})
+        );
+    }
+
+    @Test
+    void failsOnUnrecognizedOpcode() {
+        Assertions.assertThrows(
+            UnrecognizedOpcode.class,
+            () -> new BytecodeInstruction(Opcodes.IINC + 500).impact(),
+            "We expect that unknown opcodes are rejected"
+        );
+    }
 }
@@ -5,13 +5,18 @@
 package org.eolang.jeo.representation.bytecode;
 
 import lombok.EqualsAndHashCode;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.asm.AsmClassFile;
 import org.eolang.jeo.representation.directives.DirectivesMetas;
 import org.eolang.jeo.representation.directives.DirectivesObject;
 import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.xembly.Directive;
 import org.xembly.Directives;
 import org.xembly.Transformers;
@@ -23,6 +28,28 @@ import org.xembly.Xembler;
  */
 final class BytecodeObjectTest {
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "AnnotationsApplication.class",
+        "FastHttpDateFormat.class",
+        "LogManager.class",
+        "MethodByte.class",
+        "ParamAnnotation.class"
+    })
+    void writesSameBytecodeWithMethodsPreparedInParallel(final String resource) throws Exception {
+        final BytecodeObject object = new AsmClassFile(
+            new BytesOf(new ResourceOf(resource)).asBytes(), 0
+        ).bytecode();
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect the same bytecode of %s if methods are prepared in parallel",
+                resource
+            ),
+            object.bytecode(1),
+            Matchers.equalTo(object.bytecode())
+        );
+    }
+
     @Test
     void convertsSimpleClassWithoutConstructorToXmir() {
         final BytecodeClass clazz = new BytecodeClass();
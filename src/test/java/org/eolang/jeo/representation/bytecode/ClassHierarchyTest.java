@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link ClassHierarchy}.
+ * @since 0.15.0
+ */
+final class ClassHierarchyTest {
+
+    @Test
+    void findsCommonSuperClassWithoutLoadingClasses() {
+        MatcherAssert.assertThat(
+            "We expect to find the common parent of two siblings by reading class headers only",
+            new ClassHierarchy(new HeadersOnly()).common("app/Left", "app/Right"),
+            Matchers.equalTo("app/Base")
+        );
+    }
+
+    @Test
+    void findsCommonSuperClassOfJdkClasses() {
+        MatcherAssert.assertThat(
+            "We expect to read JDK class headers through the class loader resources",
+            new ClassHierarchy(ClassLoader.getSystemClassLoader())
+                .common("java/lang/Integer", "java/lang/Long"),
+            Matchers.equalTo("java/lang/Number")
+        );
+    }
+
+    @Test
+    void fallsBackToObjectForUnknownClasses() {
+        MatcherAssert.assertThat(
+            "We expect java/lang/Object as a common parent if a hierarchy is unknown",
+            new ClassHierarchy(new HeadersOnly()).common("app/Left", "app/Orphan"),
+            Matchers.equalTo("java/lang/Object")
+        );
+    }
+
+    @Test
+    void considersUnknownAncestorsAssignable() {
+        MatcherAssert.assertThat(
+            "We expect a class with a missing parent to be assignable, since we can't prove otherwise",
+            new ClassHierarchy(new HeadersOnly()).isAssignable("app/Left", "app/Orphan"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void knowsAboutLocalClass() {
+        MatcherAssert.assertThat(
+            "We expect the hierarchy to take into account a class that isn't available as a resource",
+            new ClassHierarchy(new HeadersOnly())
+                .with("app/Local", "app/Left", Collections.singletonList("app/Marker"), Opcodes.ACC_PUBLIC)
+                .isAssignable("app/Marker", "app/Local"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Class loader that provides class bytes as resources, but refuses to load classes.
+     * @since 0.15.0
+     */
+    private static final class HeadersOnly extends ClassLoader {
+
+        /**
+         * Class bytes by resource name.
+         */
+        private final Map<String, byte[]> classes;
+
+        /**
+         * Constructor.
+         */
+        HeadersOnly() {
+            super(null);
+            this.classes = new HashMap<>(4);
+            this.classes.put("app/Base.class", HeadersOnly.clazz("app/Base", "java/lang/Object"));
+            this.classes.put("app/Left.class", HeadersOnly.clazz("app/Left", "app/Base"));
+            this.classes.put("app/Right.class", HeadersOnly.clazz("app/Right", "app/Base"));
+            this.classes.put("app/Orphan.class", HeadersOnly.clazz("app/Orphan", "missing/Parent"));
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            final InputStream result;
+            if (this.classes.containsKey(name)) {
+                result = new ByteArrayInputStream(this.classes.get(name));
+            } else {
+                result = super.getResourceAsStream(name);
+            }
+            return result;
+        }
+
+        @Override
+        public Class<?> loadClass(final String name) {
+            throw new IllegalStateException(
+                String.format("Class '%s' must not be loaded", name)
+            );
+        }
+
+        /**
+         * Generate bytecode of an empty class.
+         * @param name Internal class name.
+         * @param parent Internal name of the super class.
+         * @return Bytecode.
+         */
+        private static byte[] clazz(final String name, final String parent) {
+            final ClassWriter writer = new ClassWriter(0);
+            writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, parent, new String[0]);
+            writer.visitEnd();
+            return writer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link ControlFlow}.
+ * @since 0.15.0
+ */
+final class ControlFlowTest {
+
+    @ParameterizedTest(name = "Comparing maxs of method {1}")
+    @MethodSource("methods")
+    void computesSameMaxsAsDataFlowAnalysis(
+        final BytecodeMethod method,
+        final String name,
+        final BytecodeMaxs ignored
+    ) {
+        MatcherAssert.assertThat(
+            String.format(
+                "Control-flow graph and data-flow analysis disagree on maxs of method %s, instructions: %n%s%n",
+                name,
+                method.instructionsView()
+            ),
+            new ControlFlow(
+                method.properties(),
+                method.instructions(),
+                method.catches()
+            ).maxs(),
+            Matchers.equalTo(
+                new BytecodeMaxs(
+                    new MaxStack(method.instructions(), method.catches()).value(),
+                    new MaxLocals(
+                        method.properties(),
+                        method.instructions(),
+                        method.catches()
+                    ).value()
+                )
+            )
+        );
+    }
+
+    @Test
+    void computesMaxsForEmptyMethod() {
+        MatcherAssert.assertThat(
+            "We expect zero maxs for a method without instructions",
+            new BytecodeMethod("empty").computeMaxs(),
+            Matchers.equalTo(new BytecodeMaxs(0, 0))
+        );
+    }
+
+    @Test
+    void computesMaxsForLoopWithHandler() {
+        final BytecodeLabel start = new BytecodeLabel("start");
+        final BytecodeLabel loop = new BytecodeLabel("loop");
+        final BytecodeLabel end = new BytecodeLabel("end");
+        final BytecodeLabel handler = new BytecodeLabel("handler");
+        final BytecodeMethod method = new BytecodeMethod("loop", "(J)V", Opcodes.ACC_STATIC)
+            .trycatch(new BytecodeTryCatchBlock(start, end, handler, "java/lang/Exception"))
+            .entry(start)
+            .opcode(Opcodes.ICONST_0)
+            .opcode(Opcodes.ISTORE, 2)
+            .entry(loop)
+            .opcode(Opcodes.ILOAD, 2)
+            .opcode(Opcodes.BIPUSH, 10)
+            .opcode(Opcodes.IF_ICMPGE, end)
+            .opcode(Opcodes.IINC, 2, 1)
+            .opcode(Opcodes.GOTO, loop)
+            .entry(end)
+            .opcode(Opcodes.RETURN)
+            .entry(handler)
+            .opcode(Opcodes.ASTORE, 3)
+            .opcode(Opcodes.RETURN);
+        MatcherAssert.assertThat(
+            "We expect the handler to be reachable and loop to converge",
+            method.computeMaxs(),
+            Matchers.equalTo(new BytecodeMaxs(2, 4))
+        );
+    }
+
+    /**
+     * All the methods from the test resources.
+     * @return Stream of arguments.
+     */
+    static Stream<Arguments> methods() {
+        return Stream.of(
+            BytecodeMethodTest.methods("maxs/Maxs.java"),
+            BytecodeMethodTest.methods("maxs/MaxInterface.java"),
+            Stream.of(
+                "AbstractEndpoint.class",
+                "FastHttpDateFormat.class",
+                "ByteArrayClassLoader$ChildFirst$PrependingEnumeration.class",
+                "LogManager.class",
+                "Check.class",
+                "Example.class",
+                "MethodByte.class"
+            ).flatMap(BytecodeMethodTest::disassembleAssemble)
+        ).flatMap(stream -> stream);
+    }
+}
@@ -7,7 +7,11 @@ package org.eolang.jeo.representation.directives;
 import com.jcabi.matchers.XhtmlMatchers;
 import com.jcabi.xml.XMLDocument;
 import java.util.Collections;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.asm.AsmClassFile;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.InnerClass;
 import org.eolang.jeo.representation.bytecode.JavaCodec;
 import org.hamcrest.MatcherAssert;
@@ -111,4 +115,20 @@ final class DirectivesClassTest {
             )
         );
     }
+
+    @Test
+    void materialisesMethodsInParallelInOriginalOrder() throws Exception {
+        final BytecodeClass clazz = new AsmClassFile(
+            new BytesOf(new ResourceOf("FastHttpDateFormat.class")).asBytes(), 0
+        ).bytecode().top();
+        MatcherAssert.assertThat(
+            "We expect the same directives of methods materialised in parallel",
+            new Xembler(
+                clazz.directives(new Format(Format.PARALLEL, 1, Format.REPRODUCIBLE, true))
+            ).xml(),
+            Matchers.equalTo(
+                new Xembler(clazz.directives(new Format(Format.REPRODUCIBLE, true))).xml()
+            )
+        );
+    }
 }
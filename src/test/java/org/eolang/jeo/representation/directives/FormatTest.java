@@ -31,4 +31,31 @@ final class FormatTest {
             Matchers.is(true)
         );
     }
+
+    @Test
+    void processesLargeClassesInParallel() {
+        MatcherAssert.assertThat(
+            "We expect methods of a class at the threshold to be processed in parallel",
+            new Format(Format.PARALLEL, 100).parallel(100),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void processesMethodsSeriallyByDefault() {
+        MatcherAssert.assertThat(
+            "We expect methods to be processed one by one if there is no threshold",
+            new Format().parallel(Integer.MAX_VALUE),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void leavesParallelismOutOfSalt() {
+        MatcherAssert.assertThat(
+            "We expect the same salt for formats that differ only in parallelism",
+            new Format(Format.PARALLEL, 100, Format.COMMENTS, true).salt(),
+            Matchers.equalTo(new Format(Format.COMMENTS, true).salt())
+        );
+    }
 }
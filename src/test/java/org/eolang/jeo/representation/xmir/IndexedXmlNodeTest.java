@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link IndexedXmlNode}.
+ * @since 0.15.0
+ */
+final class IndexedXmlNodeTest {
+
+    /**
+     * Method node with several parts.
+     */
+    private static final String METHOD = String.join(
+        "",
+        "<o name='foo'>",
+        "<o name='@' base='jeo.method'/>",
+        "<o name='access'>01</o>",
+        "<o name='trycatchblocks-foo'/>",
+        "<o name='nlocals'>02</o>",
+        "<o name='locals'>03</o>",
+        "<o name='first'><o name='@' base='jeo.params'/></o>",
+        "<o name='second'><o name='@' base='jeo.params'/></o>",
+        "</o>"
+    );
+
+    @Test
+    void findsBaseOfDelegateObject() {
+        MatcherAssert.assertThat(
+            "We expect the base to be taken from the first '@' child",
+            new IndexedXmlNode(new NativeXmlNode(IndexedXmlNodeTest.METHOD))
+                .base()
+                .orElseThrow(AssertionError::new),
+            Matchers.equalTo("jeo.method")
+        );
+    }
+
+    @Test
+    void findsPartByExactName() {
+        MatcherAssert.assertThat(
+            "We expect the part with exactly the same name to win over the parts that match",
+            new IndexedXmlNode(new NativeXmlNode(IndexedXmlNodeTest.METHOD))
+                .named("locals", name -> name.contains("locals"))
+                .orElseThrow(AssertionError::new)
+                .text(),
+            Matchers.equalTo("03")
+        );
+    }
+
+    @Test
+    void findsPartByMatchingName() {
+        MatcherAssert.assertThat(
+            "We expect the first matching part if there is no part with exactly the same name",
+            new IndexedXmlNode(new NativeXmlNode(IndexedXmlNodeTest.METHOD))
+                .named("trycatchblocks", name -> name.startsWith("trycatchblocks"))
+                .flatMap(part -> part.attribute("name"))
+                .orElseThrow(AssertionError::new),
+            Matchers.equalTo("trycatchblocks-foo")
+        );
+    }
+
+    @Test
+    void findsAllPartsByBase() {
+        MatcherAssert.assertThat(
+            "We expect all the parts with the base in the document order",
+            new IndexedXmlNode(new NativeXmlNode(IndexedXmlNodeTest.METHOD))
+                .based("jeo.params")
+                .map(part -> part.attribute("name").orElse(""))
+                .collect(Collectors.toList()),
+            Matchers.contains("first", "second")
+        );
+    }
+
+    @Test
+    void keepsIndexedChildren() {
+        final IndexedXmlNode node = new IndexedXmlNode(
+            new NativeXmlNode(IndexedXmlNodeTest.METHOD)
+        );
+        MatcherAssert.assertThat(
+            "We expect children to be indexed only once",
+            node.children().findFirst().orElseThrow(AssertionError::new),
+            Matchers.sameInstance(node.children().findFirst().orElseThrow(AssertionError::new))
+        );
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * Test case for {@link PulledXmlObject}.
+ * @since 0.15.0
+ */
+final class PulledXmlObjectTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "AbstractEndpoint.class",
+        "AnnotationsApplication.class",
+        "ByteArrayClassLoader$ChildFirst$PrependingEnumeration.class",
+        "Check$1Local.class",
+        "Check.class",
+        "DeprecatedMethod.class",
+        "Example.class",
+        "FastHttpDateFormat.class",
+        "FixedWidth.class",
+        "LogManager.class",
+        "LoggerFactory$DelegatingLogger.class",
+        "LtIncorrectUnlint.class",
+        "MethodByte.class",
+        "ParamAnnotation.class",
+        "access-modifiers-module-info.class",
+        "closed-module-info.class",
+        "open-module-info.class"
+    })
+    void readsSameBytecodeAsReferenceReader(
+        final String resource, @TempDir final Path dir
+    ) throws Exception {
+        final BytecodeRepresentation repr = new BytecodeRepresentation(new ResourceOf(resource));
+        final Format[] formats = {
+            new Format(),
+            new Format(Format.PRETTY, false),
+            new Format(Format.MODE, "debug", Format.COMMENTS, true),
+        };
+        for (int idx = 0; idx < formats.length; ++idx) {
+            final Path xmir = dir.resolve(String.format("%d.xmir", idx));
+            try (OutputStream output = Files.newOutputStream(xmir)) {
+                repr.toEO(formats[idx], output);
+            }
+            MatcherAssert.assertThat(
+                String.format(
+                    "We expect both readers to read the same bytecode of %s with the format %s",
+                    resource,
+                    formats[idx]
+                ),
+                new PulledXmlObject(xmir).bytecode(),
+                Matchers.equalTo(new XmlObject(new XMLDocument(xmir)).bytecode())
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 1000})
+    void convertsMethodsInParallelInOriginalOrder(
+        final int parallel, @TempDir final Path dir
+    ) throws Exception {
+        final Path xmir = dir.resolve("FastHttpDateFormat.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new ResourceOf("FastHttpDateFormat.class"))
+                .toEO(new Format(), output);
+        }
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect the same bytecode if methods are converted in batches of %d",
+                parallel
+            ),
+            new PulledXmlObject(xmir, parallel).bytecode(),
+            Matchers.equalTo(new PulledXmlObject(xmir).bytecode())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Check.class",
+        "FastHttpDateFormat.class",
+        "LoggerFactory$DelegatingLogger.class"
+    })
+    void takesCodeOfUnchangedMethodsFromOriginalClass(
+        final String resource, @TempDir final Path dir
+    ) throws Exception {
+        final byte[] original = new BytesOf(new ResourceOf(resource)).asBytes();
+        final Path xmir = dir.resolve("Fingerprinted.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new Bytecode(original))
+                .toEO(new Format(Format.MODE, "debug", Format.FINGERPRINTS, true), output);
+        }
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect the code of unchanged methods of %s to be taken as it is",
+                resource
+            ),
+            new Bytecode(
+                new PulledXmlObject(xmir, 0, original).bytecode().bytecode(0, original).bytes()
+            ).toString(),
+            Matchers.equalTo(new Bytecode(original).toString())
+        );
+    }
+
+    @Test
+    void convertsChangedMethods(@TempDir final Path dir) throws Exception {
+        final byte[] original = new BytesOf(new ResourceOf("MethodByte.class")).asBytes();
+        final Path xmir = dir.resolve("Changed.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new Bytecode(original))
+                .toEO(new Format(Format.FINGERPRINTS, true), output);
+        }
+        Files.write(
+            xmir,
+            new String(Files.readAllBytes(xmir), StandardCharsets.UTF_8)
+                .replaceAll("<part>[0-9a-f]{64}</part>", "<part>changed</part>")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "We expect changed methods to be converted from XMIR",
+            new PulledXmlObject(xmir, 0, original).bytecode(),
+            Matchers.equalTo(new PulledXmlObject(xmir).bytecode())
+        );
+    }
+
+    @Test
+    void copiesUnchangedMethodsNextToChangedOne(@TempDir final Path dir) throws Exception {
+        final byte[] original = new BytesOf(new ResourceOf("FastHttpDateFormat.class")).asBytes();
+        final Path xmir = dir.resolve("Partly.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new Bytecode(original))
+                .toEO(new Format(Format.MODE, "debug", Format.FINGERPRINTS, true), output);
+        }
+        Files.write(
+            xmir,
+            new String(Files.readAllBytes(xmir), StandardCharsets.UTF_8)
+                .replaceFirst("<part>[0-9a-f]{64}</part>", "<part>changed</part>")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "We expect all the methods in the class, both copied and converted",
+            PulledXmlObjectTest.methods(
+                new PulledXmlObject(xmir, 0, original).bytecode().bytecode(0, original).bytes()
+            ),
+            Matchers.equalTo(PulledXmlObjectTest.methods(original))
+        );
+    }
+
+    @Test
+    void convertsAllMethodsOfRenamedClass(@TempDir final Path dir) throws Exception {
+        final byte[] original = new BytesOf(
+            new ResourceOf("LoggerFactory$DelegatingLogger.class")
+        ).asBytes();
+        final Path xmir = dir.resolve("Renamed.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new Bytecode(original))
+                .toEO(new Format(Format.MODE, "debug", Format.FINGERPRINTS, true), output);
+        }
+        Files.write(
+            xmir,
+            new String(Files.readAllBytes(xmir), StandardCharsets.UTF_8)
+                .replaceFirst("-67-4C-6F-67-67-65-72</o>", "-67-4C-6F-67-67-65-78</o>")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "We expect all the methods of the renamed class to be converted from XMIR",
+            new PulledXmlObject(xmir, 0, original).bytecode(),
+            Matchers.equalTo(new PulledXmlObject(xmir).bytecode())
+        );
+    }
+
+    @Test
+    void refusesToReadSignatures(@TempDir final Path dir) throws Exception {
+        final Path xmir = dir.resolve("Signatures.xmir");
+        try (OutputStream output = Files.newOutputStream(xmir)) {
+            new BytecodeRepresentation(new ResourceOf("MethodByte.class"))
+                .toEO(new Format(Format.MODE, "signatures"), output);
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PulledXmlObject(xmir).bytecode(),
+            "We expect XMIR disassembled in the 'signatures' mode to be refused"
+        );
+    }
+
+    @Test
+    void failsOnXmirWithoutClass(@TempDir final Path dir) throws Exception {
+        final Path xmir = Files.write(
+            dir.resolve("Empty.xmir"),
+            "<object><metas/></object>".getBytes(StandardCharsets.UTF_8)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new PulledXmlObject(xmir).bytecode(),
+            "We expect an exception if there is no class in XMIR"
+        );
+    }
+
+    /**
+     * Names and descriptors of the methods of the class.
+     * @param clazz Class file
+     * @return Sorted names and descriptors
+     */
+    private static List<String> methods(final byte[] clazz) {
+        final ClassNode node = new ClassNode();
+        new ClassReader(clazz).accept(node, 0);
+        return node.methods.stream()
+            .map(method -> String.format("%s%s", method.name, method.desc))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link XmlClassFingerprint}.
+ * @since 0.15.0
+ */
+final class XmlClassFingerprintTest {
+
+    @Test
+    void changesWithClassName() {
+        MatcherAssert.assertThat(
+            "We expect another fingerprint for the renamed class",
+            new XmlClassFingerprint(
+                "org.eolang",
+                new NativeXmlNode("<o name='j$Foo'><o name='supername'>Object</o></o>"),
+                Collections.singletonList("foo()V")
+            ).asString(),
+            Matchers.not(
+                Matchers.equalTo(
+                    new XmlClassFingerprint(
+                        "org.eolang",
+                        new NativeXmlNode("<o name='j$Bar'><o name='supername'>Object</o></o>"),
+                        Collections.singletonList("foo()V")
+                    ).asString()
+                )
+            )
+        );
+    }
+
+    @Test
+    void changesWithMethodSignatures() {
+        MatcherAssert.assertThat(
+            "We expect another fingerprint if a method has another descriptor",
+            new XmlClassFingerprint(
+                "org.eolang",
+                new NativeXmlNode("<o name='j$Foo'><o name='supername'>Object</o></o>"),
+                Collections.singletonList("foo()V")
+            ).asString(),
+            Matchers.not(
+                Matchers.equalTo(
+                    new XmlClassFingerprint(
+                        "org.eolang",
+                        new NativeXmlNode("<o name='j$Foo'><o name='supername'>Object</o></o>"),
+                        Collections.singletonList("foo(I)V")
+                    ).asString()
+                )
+            )
+        );
+    }
+
+    @Test
+    void ignoresIndentation() {
+        MatcherAssert.assertThat(
+            "We expect the same fingerprint for the indented class",
+            new XmlClassFingerprint(
+                "org.eolang",
+                new NativeXmlNode(
+                    "<o name='j$Foo'>\n  <o name='supername'>\n    Object\n  </o>\n</o>"
+                ),
+                Collections.emptyList()
+            ).asString(),
+            Matchers.equalTo(
+                new XmlClassFingerprint(
+                    "org.eolang",
+                    new NativeXmlNode("<o name='j$Foo'><o name='supername'>Object</o></o>"),
+                    Collections.emptyList()
+                ).asString()
+            )
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link XmlFingerprint}.
+ * @since 0.15.0
+ */
+final class XmlFingerprintTest {
+
+    @Test
+    void ignoresIndentation() {
+        MatcherAssert.assertThat(
+            "We expect the same fingerprint for the indented method",
+            new XmlFingerprint(
+                new NativeXmlNode(
+                    "<o name='j$foo'>\n  <o base='Q.jeo.opcode'>\n    B1-\n  </o>\n</o>"
+                )
+            ).asString(),
+            Matchers.equalTo(
+                new XmlFingerprint(
+                    new NativeXmlNode("<o name='j$foo'><o base='Q.jeo.opcode'>B1-</o></o>")
+                ).asString()
+            )
+        );
+    }
+
+    @Test
+    void changesWithCode() {
+        MatcherAssert.assertThat(
+            "We expect another fingerprint for the method with another code",
+            new XmlFingerprint(
+                new NativeXmlNode("<o name='j$foo'><o base='Q.jeo.opcode'>B0-</o></o>")
+            ).asString(),
+            Matchers.not(
+                Matchers.equalTo(
+                    new XmlFingerprint(
+                        new NativeXmlNode("<o name='j$foo'><o base='Q.jeo.opcode'>B1-</o></o>")
+                    ).asString()
+                )
+            )
+        );
+    }
+
+    @Test
+    void changesWithStructure() {
+        MatcherAssert.assertThat(
+            "We expect another fingerprint if the same text is split between objects",
+            new XmlFingerprint(
+                new NativeXmlNode("<o name='j$foo'><o>B1-</o><o>B0-</o></o>")
+            ).asString(),
+            Matchers.not(
+                Matchers.equalTo(
+                    new XmlFingerprint(
+                        new NativeXmlNode("<o name='j$foo'><o>B1-B0-</o></o>")
+                    ).asString()
+                )
+            )
+        );
+    }
+}